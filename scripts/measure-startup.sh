@@ -0,0 +1,82 @@
+#!/usr/bin/env bash
+# jar/cds/aot 모드로 번갈아 기동해, 프로세스를 띄운 시점부터 첫 요청에 응답(상태 코드 무관)하기까지의 시간을 잰다.
+# 결과는 build/reports/startup/startup.csv 에 회차별로, startup-summary.txt 에 모드별 중앙값으로 남는다.
+# 사용법: scripts/measure-startup.sh [모드별 회차=5]  (먼저 ./gradlew startupArchive)
+# Redis 는 REDIS_HOST 로 닿을 수 있어야 하고, 8080/8081 포트는 비어 있어야 한다.
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+RUNS="${1:-5}"
+URL="${STARTUP_PROBE_URL:-http://localhost:8080/posts/list}"
+TIMEOUT_SECONDS="${STARTUP_TIMEOUT_SECONDS:-120}"
+REPORT_DIR="$ROOT_DIR/build/reports/startup"
+MODES=(jar cds aot)
+
+export REDIS_HOST="${REDIS_HOST:-localhost}"
+export MAIL_PASSWORD="${MAIL_PASSWORD:-training}"
+export SERVER_URL="${SERVER_URL:-http://localhost:8080}"
+export JWT_SECRET_KEY="${JWT_SECRET_KEY:-StartupTrainingRunSecretKeyOfAtLeast256Bits!}"
+export JWT_ACCESS_EXPIRATION="${JWT_ACCESS_EXPIRATION:-3600000}"
+export JWT_REFRESH_EXPIRATION="${JWT_REFRESH_EXPIRATION:-2592000000}"
+
+if curl -s -o /dev/null "$URL"; then
+    echo "[startup] $URL 에 이미 떠 있는 앱이 있다. 내린 뒤 다시 실행한다" >&2
+    exit 1
+fi
+
+mkdir -p "$REPORT_DIR"
+CSV="$REPORT_DIR/startup.csv"
+echo "mode,run,first_response_ms,spring_started_s" > "$CSV"
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+measure() {
+    local mode="$1" run="$2" log="$REPORT_DIR/$1-$2.log"
+    local started deadline elapsed=""
+    started="$(now_ms)"
+    deadline=$(( started + TIMEOUT_SECONDS * 1000 ))
+    STARTUP_MODE="$mode" "$ROOT_DIR/scripts/start.sh" > "$log" 2>&1 &
+    local pid=$!
+
+    while (( $(now_ms) < deadline )); do
+        if curl -s -o /dev/null "$URL"; then
+            elapsed=$(( $(now_ms) - started ))
+            break
+        fi
+        if ! kill -0 "$pid" 2> /dev/null; then
+            break
+        fi
+        sleep 0.02
+    done
+
+    kill "$pid" 2> /dev/null || true
+    wait "$pid" 2> /dev/null || true
+
+    if [[ -z "$elapsed" ]]; then
+        echo "[startup] $mode $run 회차가 응답하지 않았다. $log 를 확인한다" >&2
+        exit 1
+    fi
+    # Spring 이 로그에 남기는 "Started ... in N seconds" 도 함께 적어, JVM 기동과 컨텍스트 기동을 나눠 볼 수 있게 한다.
+    local spring_started
+    spring_started="$(grep -oE 'Started [A-Za-z]+ in [0-9.]+ seconds' "$log" | grep -oE '[0-9.]+ seconds' | cut -d' ' -f1 || true)"
+    echo "$mode,$run,$elapsed,${spring_started:-}" >> "$CSV"
+    echo "[startup] $mode #$run: 첫 응답까지 ${elapsed}ms (Spring ${spring_started:-?}s)"
+}
+
+# 모드를 번갈아 돌려, 시간이 지나며 달라지는 디스크 캐시나 CPU 상태가 한 모드에 몰리지 않게 한다.
+for run in $(seq 1 "$RUNS"); do
+    for mode in "${MODES[@]}"; do
+        measure "$mode" "$run"
+    done
+done
+
+{
+    echo "첫 응답까지의 중앙값 (모드별 ${RUNS}회)"
+    for mode in "${MODES[@]}"; do
+        median="$(awk -F, -v mode="$mode" '$1 == mode { print $3 }' "$CSV" | sort -n \
+            | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : (values[NR / 2] + values[NR / 2 + 1]) / 2 }')"
+        printf '%-4s %sms\n' "$mode" "$median"
+    done
+} | tee "$REPORT_DIR/startup-summary.txt"
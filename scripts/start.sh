@@ -0,0 +1,43 @@
+#!/usr/bin/env bash
+# 앱 기동 스크립트. STARTUP_MODE 로 기동 방식을 고른다. 추가 인자는 그대로 앱에 넘긴다.
+#   jar : build/libs 의 실행 jar 를 그대로 띄운다.
+#   cds : ./gradlew startupArchive 로 build/cds 에 풀어 둔 jar 와 cds.jsa 아카이브로 띄운다.
+#   aot : 빌드할 때 만든 AOT 빈 정의를 쓰고, AOT 를 켠 학습 실행으로 만든 aot.jsa 아카이브로 띄운다.
+#         @ConditionalOnProperty 빈(레플리카, 레이트 리밋 모드, 보관/발송 스케줄러)과 가상 스레드 여부는
+#         빌드할 때의 환경 변수로 고정되므로, 이 값을 바꿨다면 다시 빌드하거나 cds 모드로 띄운다.
+# 아카이브가 없으면 jar 모드로 띄운다. 아카이브를 만든 JVM 과 다르면 JVM 이 경고만 남기고 CDS 없이 뜬다.
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+CDS_DIR="$ROOT_DIR/build/cds"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+MODE="${STARTUP_MODE:-jar}"
+read -r -a JVM_OPTS <<< "${JAVA_OPTS:-}"
+
+if [[ "$MODE" != "jar" && ! -f "$CDS_DIR/$MODE.jsa" ]]; then
+    echo "[start] $CDS_DIR/$MODE.jsa 가 없어 jar 모드로 기동한다" >&2
+    MODE=jar
+fi
+
+case "$MODE" in
+    jar)
+        JAR="$(ls "$ROOT_DIR"/build/libs/*SNAPSHOT.jar)"
+        exec "$JAVA" "${JVM_OPTS[@]}" -jar "$JAR" "$@"
+        ;;
+    cds|aot)
+        AOT_ENABLED=false
+        if [[ "$MODE" == "aot" ]]; then
+            AOT_ENABLED=true
+        fi
+        # 학습 실행과 같은 클래스패스여야 아카이브가 쓰이므로 같은 디렉터리에서 같은 경로로 띄운다.
+        cd "$CDS_DIR"
+        exec "$JAVA" "${JVM_OPTS[@]}" \
+            -XX:SharedArchiveFile="$MODE.jsa" \
+            -Dspring.aot.enabled="$AOT_ENABLED" \
+            -jar application.jar "$@"
+        ;;
+    *)
+        echo "[start] 알 수 없는 STARTUP_MODE: $MODE (jar, cds, aot 중 하나)" >&2
+        exit 1
+        ;;
+esac
@@ -0,0 +1,73 @@
+package friendy.community.domain.auth.jwt;
+
+import friendy.community.domain.auth.revocation.AccessTokenRevocationList;
+import friendy.community.domain.auth.session.IssuedAccessToken;
+import friendy.community.domain.auth.session.SessionStore;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// ./gradlew jmh -Pjmh.includes=JwtTokenBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenBenchmark {
+
+    private static final String ACCESS_SECRET = "SpringBootJWTHelperTokenSecretKeyFreindy246!@#";
+    private static final String REFRESH_SECRET = "SpringBootJWTHelperRefreshSecretKeyFreindy246!@#";
+    private static final String EMAIL = "example@friendy.com";
+    private static final String DEVICE_ID = "benchmark-device";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        final StringRedisTemplate redisTemplate = new StringRedisTemplate();
+        final AccessTokenRevocationList revocationList = new AccessTokenRevocationList(
+                redisTemplate, new RedisMessageListenerContainer(), 3600000L, 100000L, 0.01
+        );
+        // 폐기 목록을 모두 읽어 온 상태. 폐기되지 않은 토큰은 블룸 필터에서 끝나고 Redis 를 조회하지 않는다.
+        ReflectionTestUtils.setField(revocationList, "warmedUp", true);
+
+        // 발급 경로 그대로 토큰을 만들되, Redis 없이 돌도록 세션 저장만 건너뛴다.
+        final SessionStore sessionStore = new SessionStore(redisTemplate) {
+            @Override
+            public void save(final String email, final String deviceId, final String refreshToken) {
+            }
+
+            @Override
+            public void saveAccessToken(final String email, final String deviceId, final IssuedAccessToken accessToken) {
+            }
+        };
+        jwtTokenProvider = new JwtTokenProvider(sessionStore, revocationList);
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtAccessTokenSecret", ACCESS_SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtAccessTokenExpirationInMs", 3600000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtRefreshTokenSecret", REFRESH_SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtRefreshTokenExpirationInMs", 2592000000L);
+
+        accessToken = jwtTokenProvider.generateAccessToken(EMAIL, DEVICE_ID);
+        refreshToken = jwtTokenProvider.generateRefreshToken(EMAIL, DEVICE_ID);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenProvider.generateAccessToken(EMAIL, DEVICE_ID);
+    }
+
+    // 인증이 필요한 요청마다 거치는 경로. 서명 검증을 포함한 파싱이 두 번 일어난다.
+    @Benchmark
+    public TokenPayload extractPayloadFromAccessToken() {
+        return jwtTokenProvider.extractPayloadFromAccessToken(accessToken);
+    }
+
+    // 재발급 요청이 세션을 확인하기 전에 거치는 리프레시 토큰 서명 검증과 파싱.
+    @Benchmark
+    public TokenPayload parseRefreshToken() {
+        return jwtTokenProvider.parseRefreshToken(refreshToken);
+    }
+}
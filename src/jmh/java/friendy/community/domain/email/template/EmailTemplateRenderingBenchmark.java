@@ -0,0 +1,63 @@
+package friendy.community.domain.email.template;
+
+import org.openjdk.jmh.annotations.*;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// ./gradlew jmh -Pjmh.includes=EmailTemplateRenderingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmailTemplateRenderingBenchmark {
+
+    private SpringTemplateEngine uncachedEngine;
+    private SpringTemplateEngine cachedEngine;
+    private EmailTemplateRenderer renderer;
+
+    @Setup
+    public void setUp() {
+        uncachedEngine = templateEngine(false);
+        cachedEngine = templateEngine(true);
+        renderer = new EmailTemplateRenderer(cachedEngine, List.of(Locale.KOREAN));
+    }
+
+    private SpringTemplateEngine templateEngine(boolean cacheable) {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(cacheable);
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+
+    // 기존 설정(spring.thymeleaf.cache: false)과 같은 경로. 매번 템플릿을 다시 읽고 파싱한다.
+    @Benchmark
+    public String thymeleafWithoutCache() {
+        Context context = new Context(Locale.KOREAN);
+        context.setVariable("authCode", "123456");
+        return uncachedEngine.process("email", context);
+    }
+
+    @Benchmark
+    public String thymeleafWithCache() {
+        Context context = new Context(Locale.KOREAN);
+        context.setVariable("authCode", "123456");
+        return cachedEngine.process("email", context);
+    }
+
+    @Benchmark
+    public String compiledTemplate() {
+        return renderer.render("email", Locale.KOREAN, Map.of("authCode", "123456"));
+    }
+}
@@ -0,0 +1,80 @@
+package friendy.community.domain.hashtag.service;
+
+import friendy.community.domain.hashtag.model.Hashtag;
+import friendy.community.domain.hashtag.repository.HashtagRepository;
+import friendy.community.domain.hashtag.repository.PostHashtagRepository;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.post.model.Post;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ./gradlew jmh -Pjmh.includes=HashtagServiceBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HashtagServiceBenchmark {
+
+    @Param({"5", "30"})
+    private int hashtagCount;
+
+    private HashtagService hashtagService;
+    private Post post;
+    private List<String> hashtagNames;
+    private List<Hashtag> existingHashtags;
+    // 저장된 결과를 필드에 남겨 JIT 이 호출을 지우지 못하게 한다.
+    private Object lastSaved;
+
+    // DB 를 거치지 않고 기존/신규 해시태그를 가르는 비용만 재기 위해 저장소를 프록시로 대신한다.
+    @Setup
+    public void setUp() {
+        hashtagNames = new ArrayList<>(hashtagCount);
+        existingHashtags = new ArrayList<>(hashtagCount / 2);
+        for (int i = 0; i < hashtagCount; i++) {
+            final String name = "해시태그" + i;
+            hashtagNames.add(name);
+            if (i % 2 == 0) {
+                existingHashtags.add(new Hashtag((long) i, name));
+            }
+        }
+        final Member member = new Member(1L, "example@friendy.com", "작성자", "password", "salt", LocalDate.of(2000, 1, 1));
+        post = new Post(1L, member, "게시글 본문입니다.", 0, 0, 0);
+        hashtagService = new HashtagService(hashtagRepository(), postHashtagRepository());
+    }
+
+    @Benchmark
+    public Object saveHashtags() {
+        hashtagService.saveHashtags(post, hashtagNames);
+        return lastSaved;
+    }
+
+    private HashtagRepository hashtagRepository() {
+        return (HashtagRepository) Proxy.newProxyInstance(
+                HashtagRepository.class.getClassLoader(),
+                new Class<?>[]{HashtagRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllByNameIn" -> new ArrayList<>(existingHashtags);
+                    case "saveAll" -> args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+
+    private PostHashtagRepository postHashtagRepository() {
+        return (PostHashtagRepository) Proxy.newProxyInstance(
+                PostHashtagRepository.class.getClassLoader(),
+                new Class<?>[]{PostHashtagRepository.class},
+                (proxy, method, args) -> {
+                    if (!"saveAll".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    lastSaved = args[0];
+                    return args[0];
+                }
+        );
+    }
+}
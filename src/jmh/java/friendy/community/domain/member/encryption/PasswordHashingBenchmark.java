@@ -0,0 +1,67 @@
+package friendy.community.domain.member.encryption;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ./gradlew jmh -Pjmh.includes=PasswordHashingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class PasswordHashingBenchmark {
+
+    private static final String PLAIN_PASSWORD = "password123!";
+
+    @Param({"10000", "310000"})
+    private int pbkdf2Iterations;
+
+    private SHA2PasswordEncryptor sha2PasswordEncryptor;
+    private Pbkdf2PasswordEncryptor pbkdf2PasswordEncryptor;
+    private PasswordHashingService hashingService;
+    private RandomSaltGenerator saltGenerator;
+    private String salt;
+
+    @Setup
+    public void setUp() {
+        sha2PasswordEncryptor = new SHA2PasswordEncryptor();
+        pbkdf2PasswordEncryptor = new Pbkdf2PasswordEncryptor(pbkdf2Iterations);
+        hashingService = new PasswordHashingService(
+                List.of(pbkdf2PasswordEncryptor, sha2PasswordEncryptor),
+                "pbkdf2",
+                0,
+                1024,
+                Duration.ofMinutes(1)
+        );
+        saltGenerator = new RandomSaltGenerator();
+        salt = saltGenerator.generate();
+    }
+
+    @TearDown
+    public void tearDown() {
+        hashingService.shutdown();
+    }
+
+    @Benchmark
+    public String sha2Encrypt() {
+        return sha2PasswordEncryptor.encrypt(PLAIN_PASSWORD, salt);
+    }
+
+    @Benchmark
+    public String pbkdf2Encrypt() {
+        return pbkdf2PasswordEncryptor.encrypt(PLAIN_PASSWORD, salt);
+    }
+
+    // 전용 풀을 거칠 때의 처리량. 벤치마크 스레드 수와 관계없이 코어 수만큼만 동시에 해시를 계산한다.
+    @Benchmark
+    public String pooledPbkdf2Hash() {
+        return hashingService.hash(PLAIN_PASSWORD, salt);
+    }
+
+    @Benchmark
+    public String generateSalt() {
+        return saltGenerator.generate();
+    }
+}
@@ -0,0 +1,75 @@
+package friendy.community.domain.post.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.post.json.FindAllPostResponseSerializer;
+import friendy.community.domain.post.json.FindPostResponseSerializer;
+import friendy.community.domain.post.model.Post;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ./gradlew jmh -Pjmh.includes=PostResponseBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PostResponseBenchmark {
+
+    // 게시글 목록 한 페이지의 크기(PostService 의 기본 페이지 크기)
+    @Param({"10"})
+    private int pageSize;
+
+    // 레코드 기본 직렬화(리플렉션)와 전용 직렬화기를 같은 데이터로 비교한다.
+    private ObjectMapper reflectiveMapper;
+    private ObjectMapper objectMapper;
+    private List<Post> posts;
+    private FindAllPostResponse response;
+
+    @Setup
+    public void setUp() {
+        reflectiveMapper = Jackson2ObjectMapperBuilder.json().build();
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .serializerByType(FindPostResponse.class, new FindPostResponseSerializer(10000))
+                .serializerByType(FindAllPostResponse.class, new FindAllPostResponseSerializer())
+                .build();
+        posts = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            final Member member = new Member((long) i, "member" + i + "@friendy.com", "작성자" + i, "password", "salt", LocalDate.of(2000, 1, 1));
+            final Post post = new Post((long) i, member, "게시글 본문입니다. #" + i, i, i * 2, i * 3);
+            ReflectionTestUtils.setField(post, "createdDate", LocalDateTime.of(2025, 1, 1, 12, 0).plusMinutes(i));
+            posts.add(post);
+        }
+        response = mapPage();
+    }
+
+    @Benchmark
+    public FindAllPostResponse mapPage() {
+        final List<FindPostResponse> responses = posts.stream()
+                .map(FindPostResponse::from)
+                .toList();
+        return new FindAllPostResponse(responses, 1);
+    }
+
+    @Benchmark
+    public byte[] serializePageReflectively() throws JsonProcessingException {
+        return reflectiveMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    // GET /posts/list 응답을 만드는 데 드는 전체 비용
+    @Benchmark
+    public byte[] mapAndSerializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapPage());
+    }
+}
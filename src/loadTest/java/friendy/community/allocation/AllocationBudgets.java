@@ -0,0 +1,113 @@
+package friendy.community.allocation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 요청 하나가 처리 스레드에서 할당하는 바이트를 재고, allocation-budgets.properties 에 기록된 예산과 비교한다.
+// -Pallocation.record=true 로 실행하면 실패 대신 측정값에 여유분을 더한 새 예산을 build/reports/allocation 에 남긴다.
+public class AllocationBudgets {
+
+    private static final Logger log = LoggerFactory.getLogger(AllocationBudgets.class);
+
+    private static final String BUDGET_RESOURCE = "/allocation-budgets.properties";
+    private static final int WARMUP_ITERATIONS = 300;
+    private static final int MEASURED_ITERATIONS = 31;
+    private static final double RECORD_HEADROOM = 1.2;
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final Properties budgets;
+    private final boolean recording;
+    private final Map<String, Long> measurements = new TreeMap<>();
+
+    private AllocationBudgets(final Properties budgets, final boolean recording) {
+        this.threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        this.threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        this.budgets = budgets;
+        this.recording = recording;
+    }
+
+    public static AllocationBudgets load() {
+        final Properties budgets = new Properties();
+        try (InputStream input = AllocationBudgets.class.getResourceAsStream(BUDGET_RESOURCE)) {
+            if (input != null) {
+                budgets.load(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new AllocationBudgets(budgets, Boolean.getBoolean("allocation.record"));
+    }
+
+    // MockMvc 는 요청을 테스트 스레드에서 처리하므로 테스트 스레드의 할당량만 잰다.
+    public void assertWithinBudget(final String name, final Request request) throws Exception {
+        final long threadId = Thread.currentThread().threadId();
+        assertWithinBudget(name, request, () -> threadMXBean.getThreadAllocatedBytes(threadId));
+    }
+
+    // 일부를 다른 풀(예: 비밀번호 해시 풀)에 넘기는 요청은 JVM 전체 할당량으로 잰다.
+    // 백그라운드 스레드의 할당이 섞이므로 중앙값을 쓰더라도 스레드 단위 측정보다 변동이 크다.
+    public void assertWithinBudgetAcrossThreads(final String name, final Request request) throws Exception {
+        assertWithinBudget(name, request, threadMXBean::getTotalThreadAllocatedBytes);
+    }
+
+    // JIT 과 캐시가 자리 잡을 때까지 먼저 돌린 뒤, 여러 번 잰 값의 중앙값을 쓴다.
+    private void assertWithinBudget(final String name, final Request request, final LongSupplier allocatedBytes) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            request.perform();
+        }
+        final long[] samples = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            final long before = allocatedBytes.getAsLong();
+            request.perform();
+            samples[i] = allocatedBytes.getAsLong() - before;
+        }
+        Arrays.sort(samples);
+        final long measured = samples[MEASURED_ITERATIONS / 2];
+        measurements.put(name, measured);
+        log.info("{}: {} bytes/request (budget {})", name, measured, budgets.getProperty(name, "-"));
+
+        if (recording) {
+            return;
+        }
+        // 예산이 없는 요청을 건너뛰면 게이트가 조용히 꺼지므로 실패시킨다. 실패 메시지에 측정값을 남겨 그대로 옮길 수 있게 한다.
+        assertThat(budgets.getProperty(name))
+                .as("%s 의 할당 예산이 %s 에 없습니다. (측정 %,d bytes) -Pallocation.record=true 로 측정해 추가하세요.",
+                        name, BUDGET_RESOURCE, measured)
+                .isNotNull();
+        assertThat(measured)
+                .as("%s 요청이 할당 예산을 넘었습니다. (측정 %,d bytes)", name, measured)
+                .isLessThanOrEqualTo(Long.parseLong(budgets.getProperty(name)));
+    }
+
+    public void writeReport() throws IOException {
+        final Path output = Path.of("build", "reports", "allocation", "allocation-budgets.properties");
+        Files.createDirectories(output.getParent());
+        try (Writer writer = Files.newBufferedWriter(output)) {
+            writer.write("# 측정값(bytes/request)에 " + RECORD_HEADROOM + "배 여유를 둔 예산. src/loadTest/resources 에 복사해 갱신한다.\n");
+            for (final Map.Entry<String, Long> entry : measurements.entrySet()) {
+                writer.write(entry.getKey() + "=" + (long) Math.ceil(entry.getValue() * RECORD_HEADROOM) + "\n");
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Request {
+
+        void perform() throws Exception;
+    }
+}
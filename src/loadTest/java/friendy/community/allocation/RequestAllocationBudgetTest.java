@@ -0,0 +1,133 @@
+package friendy.community.allocation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import friendy.community.domain.auth.dto.request.LoginRequest;
+import friendy.community.domain.member.dto.request.MemberSignUpRequest;
+import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.repository.PostRepository;
+import friendy.community.load.InProcessRedis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// MockMvc 는 요청을 테스트 스레드에서 처리하므로, 테스트 스레드의 할당량이 곧 요청 처리 경로의 할당량이다. (./gradlew allocationTest)
+// 로그인은 해시 계산을 전용 풀에 넘기므로 JVM 전체 할당량으로 잰다. 해시 비용은 할당량과 무관하므로 반복 횟수를 낮춰 빨리 돈다.
+@Tag("allocation")
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+        "friendy.community.rate-limit.enabled=false",
+        "friendy.community.password.pbkdf2.iterations=1000",
+        "spring.jpa.show-sql=false"
+})
+@DirtiesContext
+class RequestAllocationBudgetTest {
+
+    private static final String EMAIL = "allocation@friendy.com";
+    private static final String PASSWORD = "password123!";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private final AllocationBudgets budgets = AllocationBudgets.load();
+    // 요청 본문은 미리 직렬화해 두어 측정에 테스트 쪽 할당이 섞이지 않게 한다.
+    private String loginBody;
+    private String postBody;
+    private String accessToken;
+    private Long postId;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        InProcessRedis.registerProperties(registry);
+    }
+
+    @BeforeAll
+    void setUp() throws Exception {
+        loginBody = objectMapper.writeValueAsString(new LoginRequest(EMAIL, PASSWORD));
+        postBody = objectMapper.writeValueAsString(new PostCreateRequest("할당량 측정용 게시글입니다.", List.of("프렌디", "개발")));
+        mockMvc.perform(post("/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MemberSignUpRequest(EMAIL, "allocation", PASSWORD, LocalDate.of(2000, 1, 1)))))
+                .andExpect(status().isCreated());
+        accessToken = mockMvc.perform(login())
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("Authorization");
+        for (int i = 0; i < 10; i++) {
+            mockMvc.perform(createPost()).andExpect(status().isCreated());
+        }
+        postId = postRepository.findAll().get(0).getId();
+    }
+
+    @AfterAll
+    void writeReport() throws Exception {
+        budgets.writeReport();
+    }
+
+    @Test
+    @DisplayName("GET /posts/{id} 요청의 할당량이 예산 이내다")
+    void getPostStaysWithinBudget() throws Exception {
+        budgets.assertWithinBudget("get-post", () -> mockMvc.perform(get("/posts/{postId}", postId))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("GET /posts/list 요청의 할당량이 예산 이내다")
+    void getAllPostsStaysWithinBudget() throws Exception {
+        budgets.assertWithinBudget("get-all-posts", () -> mockMvc.perform(get("/posts/list"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("POST /posts 요청의 할당량이 예산 이내다")
+    void createPostStaysWithinBudget() throws Exception {
+        budgets.assertWithinBudget("create-post", () -> mockMvc.perform(createPost())
+                .andExpect(status().isCreated()));
+    }
+
+    @Test
+    @DisplayName("POST /auth/login 요청의 할당량이 예산 이내다")
+    void loginStaysWithinBudget() throws Exception {
+        budgets.assertWithinBudgetAcrossThreads("login", () -> mockMvc.perform(login())
+                .andExpect(status().isOk()));
+    }
+
+    private RequestBuilder login() {
+        return post("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(loginBody);
+    }
+
+    private RequestBuilder createPost() {
+        return post("/posts")
+                .header("Authorization", accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(postBody);
+    }
+}
@@ -0,0 +1,163 @@
+package friendy.community.global.concurrent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import friendy.community.FriendyBeApplication;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.load.InProcessRedis;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 부하를 플랫폼 스레드 모드와 가상 스레드 모드에 걸어 처리량과 p99 지연을 비교한다. (./gradlew loadTest)
+@Tag("load")
+@SpringBootTest(
+        classes = {FriendyBeApplication.class, ThreadModeLoadTest.BlockingEndpointConfig.class},
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@DirtiesContext
+abstract class ThreadModeLoadTest {
+
+    private static final int CLIENTS = 400;
+    private static final int REQUESTS_PER_CLIENT = 50;
+    private static final Duration SIMULATED_IO_LATENCY = Duration.ofMillis(20);
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        InProcessRedis.registerProperties(registry);
+    }
+
+    @Test
+    @DisplayName("블로킹 I/O 가 섞인 요청을 동시에 보내 처리량과 지연 시간을 기록한다")
+    void measureThroughputAndLatency() throws Exception {
+        // Given
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/load-test/blocking")).build();
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        AtomicInteger cursor = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        // When
+        long startedAt = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                futures.add(clients.submit(() -> {
+                    for (int j = 0; j < REQUESTS_PER_CLIENT; j++) {
+                        long sentAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (IOException | InterruptedException e) {
+                            failures.incrementAndGet();
+                        }
+                        latencies[cursor.getAndIncrement()] = System.nanoTime() - sentAt;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        // Then
+        Map<String, Object> report = report(latencies, elapsedNanos, failures.get());
+        Path output = Path.of("build", "reports", "load-test", "thread-mode-" + mode() + ".json");
+        Files.createDirectories(output.getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+
+        assertThat(failures).hasValue(0);
+    }
+
+    private String mode() {
+        return virtualThreads ? "virtual" : "platform";
+    }
+
+    private Map<String, Object> report(long[] latencies, long elapsedNanos, int failures) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("mode", mode());
+        report.put("clients", CLIENTS);
+        report.put("requests", sorted.length);
+        report.put("failures", failures);
+        report.put("throughputPerSecond", sorted.length / (elapsedNanos / 1_000_000_000.0));
+        report.put("p50InMs", percentileInMs(sorted, 0.50));
+        report.put("p99InMs", percentileInMs(sorted, 0.99));
+        report.put("maxInMs", sorted[sorted.length - 1] / 1_000_000.0);
+        return report;
+    }
+
+    private static double percentileInMs(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    @Configuration
+    static class BlockingEndpointConfig {
+
+        @Bean
+        BlockingEndpoint blockingEndpoint(MemberRepository memberRepository) {
+            return new BlockingEndpoint(memberRepository);
+        }
+    }
+
+    // 외부 I/O(Redis, SMTP 등) 대기를 흉내 낸 뒤 인덱스를 타는 조회를 한 번 수행한다.
+    @RestController
+    static class BlockingEndpoint {
+
+        private final MemberRepository memberRepository;
+
+        BlockingEndpoint(MemberRepository memberRepository) {
+            this.memberRepository = memberRepository;
+        }
+
+        @GetMapping("/load-test/blocking")
+        boolean blocking() throws InterruptedException {
+            Thread.sleep(SIMULATED_IO_LATENCY);
+            return memberRepository.existsByNickname("load-test");
+        }
+    }
+}
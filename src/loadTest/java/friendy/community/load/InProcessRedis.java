@@ -0,0 +1,44 @@
+package friendy.community.load;
+
+import com.github.fppt.jedismock.RedisServer;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// Redis 프로토콜을 그대로 말하는 인메모리 서버. Lettuce 연결, 파이프라인, Lua 스크립트, Pub/Sub 경로를 실제와 같게 탄다.
+public final class InProcessRedis {
+
+    private static RedisServer server;
+
+    private InProcessRedis() {
+    }
+
+    public static synchronized void registerProperties(final DynamicPropertyRegistry registry) {
+        final RedisServer started = start();
+        registry.add("spring.data.redis.host", started::getHost);
+        registry.add("spring.data.redis.port", started::getBindPort);
+    }
+
+    private static RedisServer start() {
+        if (server != null) {
+            return server;
+        }
+        try {
+            server = RedisServer.newRedisServer();
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(InProcessRedis::stop));
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException("인메모리 Redis 를 시작하지 못했습니다.", e);
+        }
+    }
+
+    private static synchronized void stop() {
+        try {
+            server.stop();
+        } catch (IOException ignored) {
+            // JVM 종료 중이므로 무시한다.
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package friendy.community.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// 작업별 응답 시간을 HDR 히스토그램에 모은다. 정렬 없이 긴 꼬리(p99.9)까지 3자리 정밀도로 읽을 수 있다.
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+
+    public void record(final String operation, final long elapsedNanos, final boolean succeeded) {
+        final Operation target = operations.computeIfAbsent(operation, name -> new Operation());
+        target.histogram.recordValue(Math.min(elapsedNanos, HIGHEST_TRACKABLE_NANOS));
+        if (!succeeded) {
+            target.failures.incrementAndGet();
+        }
+    }
+
+    public long totalFailures() {
+        return operations.values().stream()
+                .mapToLong(operation -> operation.failures.get())
+                .sum();
+    }
+
+    public Map<String, Object> report(final long elapsedNanos) {
+        final double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        final Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        final Map<String, Object> perOperation = new LinkedHashMap<>();
+        operations.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    final Histogram histogram = entry.getValue().histogram.copy();
+                    total.add(histogram);
+                    perOperation.put(entry.getKey(), summary(histogram, entry.getValue().failures.get(), elapsedSeconds));
+                });
+
+        final Map<String, Object> report = summary(total, totalFailures(), elapsedSeconds);
+        report.put("durationInSeconds", elapsedSeconds);
+        report.put("operations", perOperation);
+        return report;
+    }
+
+    private static Map<String, Object> summary(final Histogram histogram, final long failures, final double elapsedSeconds) {
+        final Function<Double, Double> percentileInMs = percentile -> histogram.getValueAtPercentile(percentile) / 1_000_000.0;
+        final Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", histogram.getTotalCount());
+        summary.put("failures", failures);
+        summary.put("throughputPerSecond", histogram.getTotalCount() / elapsedSeconds);
+        summary.put("p50InMs", percentileInMs.apply(50.0));
+        summary.put("p90InMs", percentileInMs.apply(90.0));
+        summary.put("p99InMs", percentileInMs.apply(99.0));
+        summary.put("p999InMs", percentileInMs.apply(99.9));
+        summary.put("maxInMs", histogram.getMaxValue() / 1_000_000.0);
+        return summary;
+    }
+
+    private static class Operation {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final AtomicLong failures = new AtomicLong();
+    }
+}
@@ -0,0 +1,202 @@
+package friendy.community.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import friendy.community.FriendyBeApplication;
+import friendy.community.domain.hashtag.model.Hashtag;
+import friendy.community.domain.hashtag.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가입 → 로그인 → 해시태그가 달린 글 작성 → 피드 조회 → 토큰 재발급을 섞은 부하를 내장 앱에 걸어 처리량과 지연 분포를 기록한다. (./gradlew loadTest)
+@Tag("load")
+@SpringBootTest(classes = FriendyBeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "friendy.community.rate-limit.enabled=false",
+        "friendy.community.password.pbkdf2.iterations=10000",
+        "spring.jpa.show-sql=false"
+})
+@DirtiesContext
+class MixedTrafficLoadTest {
+
+    // 비밀번호 해시 풀의 대기열(64)을 넘지 않도록 동시 사용자 수를 맞춘다.
+    // 반복 횟수를 운영값(310000)으로 두면 2~4코어에서는 첫 가입/로그인 128건이 해시 대기 시간(5s)을 넘겨 503 경로만 재게 되므로 낮춘다.
+    private static final int USERS = 64;
+    private static final int ROUNDS_PER_USER = 20;
+    private static final int FEED_PAGES_PER_ROUND = 3;
+    private static final int REISSUE_EVERY_ROUNDS = 5;
+    private static final List<String> HASHTAGS = List.of(
+            "프렌디", "개발", "스터디", "일상", "여행", "맛집", "운동", "독서", "음악", "영화",
+            "java", "spring", "redis", "jpa", "백엔드", "프론트엔드", "취업", "면접", "회고", "사진"
+    );
+    private static final long SEED = 20250101L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private HashtagRepository hashtagRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private HttpClient client;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        InProcessRedis.registerProperties(registry);
+    }
+
+    @Test
+    @DisplayName("실제 사용 흐름을 섞은 부하를 걸어 작업별 처리량과 HDR 백분위 지연을 기록한다")
+    void measureMixedTraffic() throws Exception {
+        // Given
+        client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        SplittableRandom seedRandom = new SplittableRandom(SEED);
+        // 해시태그 저장은 조회 후 삽입이라, 같은 새 이름을 동시에 만들면 유니크 제약에 걸린다. 어휘를 미리 넣어 글 작성만 잰다.
+        hashtagRepository.saveAll(HASHTAGS.stream().map(Hashtag::new).toList());
+
+        // When
+        long startedAt = System.nanoTime();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                int userIndex = i;
+                SplittableRandom random = seedRandom.split();
+                futures.add(users.submit(() -> {
+                    runUser(userIndex, random);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        // Then
+        Map<String, Object> report = recorder.report(elapsedNanos);
+        report.put("scenario", "mixed-traffic");
+        report.put("users", USERS);
+        Path output = Path.of("build", "reports", "load-test", "mixed-traffic.json");
+        Files.createDirectories(output.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+
+        assertThat(recorder.totalFailures()).isZero();
+    }
+
+    private void runUser(int userIndex, SplittableRandom random) {
+        String email = "load-user-" + userIndex + "@friendy.com";
+        String password = "password123!";
+        String deviceId = "load-device-" + userIndex;
+
+        HttpResponse<String> signUp = send("signup", post("/signup", Map.of(
+                "email", email,
+                "nickname", "load" + userIndex,
+                "password", password,
+                "birthDate", "2000-01-01"
+        )).build());
+        HttpResponse<String> login = send("login", post("/auth/login", Map.of("email", email, "password", password))
+                .header("X-Device-Id", deviceId)
+                .build());
+        if (signUp == null || login == null || !isSuccessful(login)) {
+            return;
+        }
+        Tokens tokens = Tokens.from(login);
+
+        for (int round = 1; round <= ROUNDS_PER_USER; round++) {
+            send("create-post", post("/posts", Map.of(
+                    "content", "부하 테스트 게시글 " + userIndex + "-" + round,
+                    "hashtags", randomHashtags(random)
+            )).header("Authorization", tokens.accessHeader()).build());
+
+            for (int page = 0; page < FEED_PAGES_PER_ROUND; page++) {
+                send("browse-feed", request("/posts/list?page=" + random.nextInt(5)).GET().build());
+            }
+
+            if (round % REISSUE_EVERY_ROUNDS == 0) {
+                HttpResponse<String> reissued = send("reissue-token", request("/auth/token/reissue")
+                        .header("Authorization-Refresh", tokens.refreshHeader())
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build());
+                if (reissued != null && isSuccessful(reissued)) {
+                    tokens = Tokens.from(reissued);
+                }
+            }
+        }
+    }
+
+    private List<String> randomHashtags(SplittableRandom random) {
+        int count = 1 + random.nextInt(3);
+        List<String> hashtags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            hashtags.add(HASHTAGS.get(random.nextInt(HASHTAGS.size())));
+        }
+        return hashtags;
+    }
+
+    private HttpResponse<String> send(String operation, HttpRequest request) {
+        long sentAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            recorder.record(operation, System.nanoTime() - sentAt, isSuccessful(response));
+            return response;
+        } catch (IOException | InterruptedException e) {
+            recorder.record(operation, System.nanoTime() - sentAt, false);
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder post(String path, Map<String, ?> body) {
+        try {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+    }
+
+    private static boolean isSuccessful(HttpResponse<?> response) {
+        return response.statusCode() / 100 == 2;
+    }
+
+    private record Tokens(String accessHeader, String refreshHeader) {
+
+        static Tokens from(HttpResponse<?> response) {
+            return new Tokens(
+                    response.headers().firstValue("Authorization").orElseThrow(),
+                    response.headers().firstValue("Authorization-Refresh").orElseThrow()
+            );
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package friendy.community.load.seed;
+
+import friendy.community.FriendyBeApplication;
+import friendy.community.domain.member.encryption.SHA2PasswordEncryptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// 회원, 게시글, 해시태그를 운영과 비슷한 분포로 채운다. (./gradlew seedData -Pseed.posts=10000000)
+// 스키마는 애플리케이션(Hibernate)이 만들고, 데이터는 JPA 를 거치지 않고 배치 JDBC 로 넣는다.
+// 청크마다 (시드, 테이블, 청크 번호)로 난수를 만들므로 스레드 수나 실행 순서와 관계없이 같은 데이터가 나온다.
+public class DataSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSeeder.class);
+
+    private static final String PLAIN_PASSWORD = "password123!";
+    private static final String SALT = "seed-salt";
+    private static final String[] WORDS = {
+            "프렌디", "개발", "스터디", "일상", "여행", "맛집", "운동", "독서", "음악", "영화",
+            "카페", "사진", "취업", "면접", "회고", "주말", "산책", "요리", "게임", "반려동물",
+            "java", "spring", "redis", "jpa", "backend", "frontend", "kotlin", "react", "docker", "aws"
+    };
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하민서준지현우수영은정호윤진성훈희연경재동";
+
+    private final DataSource dataSource;
+    private final SeedOptions options;
+    private final ZipfDistribution hashtagDistribution;
+    private final ZipfDistribution authorDistribution;
+    private final String encryptedPassword;
+
+    DataSeeder(final DataSource dataSource, final SeedOptions options) {
+        this.dataSource = dataSource;
+        this.options = options;
+        this.hashtagDistribution = new ZipfDistribution(options.hashtags(), options.hashtagExponent());
+        this.authorDistribution = new ZipfDistribution(options.members(), options.authorExponent());
+        this.encryptedPassword = new SHA2PasswordEncryptor().encrypt(PLAIN_PASSWORD, SALT);
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final SeedOptions options = SeedOptions.fromSystemProperties();
+        final ConfigurableApplicationContext context = new SpringApplicationBuilder(FriendyBeApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(Map.of(
+                        "spring.datasource.url", options.url(),
+                        "spring.datasource.username", options.username(),
+                        "spring.datasource.password", options.password(),
+                        "spring.datasource.hikari.maximum-pool-size", options.threads() + 2,
+                        "spring.jpa.show-sql", false,
+                        "friendy.community.member.identity-filter.enabled", false,
+                        // 시드 중에 보관 스케줄러가 방금 넣은 게시글을 옮기지 않게 한다.
+                        "friendy.community.post.archive.enabled", false
+                ))
+                .run(args);
+        try {
+            new DataSeeder(context.getBean(DataSource.class), options).seed();
+        } finally {
+            context.close();
+        }
+    }
+
+    void seed() throws Exception {
+        ensureEmpty();
+        log.info("[DataSeeder] 시작 - {}", options);
+        final long startedAt = System.nanoTime();
+
+        runChunks("hashtag", options.hashtags(), this::writeHashtags);
+        runChunks("member", options.members(), this::writeMembers);
+        runChunks("post", options.posts(), this::writePosts);
+        restartIdentities();
+
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        log.info("[DataSeeder] 완료 - 해시태그 {}개, 회원 {}명, 게시글 {}개 ({}초)",
+                options.hashtags(), options.members(), options.posts(), elapsed.toSeconds());
+    }
+
+    private void ensureEmpty() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM member")) {
+            resultSet.next();
+            if (resultSet.getLong(1) > 0) {
+                throw new IllegalStateException("회원 테이블이 비어 있지 않습니다. 빈 데이터베이스에만 시드 데이터를 넣을 수 있습니다.");
+            }
+        }
+    }
+
+    // [1, total] 을 chunkSize 단위로 나눠 병렬로 쓴다. 청크 하나가 한 트랜잭션이다.
+    private void runChunks(final String table, final int total, final ChunkWriter writer) throws Exception {
+        final long startedAt = System.nanoTime();
+        final int chunks = (total + options.chunkSize() - 1) / options.chunkSize();
+        try (ExecutorService executor = Executors.newFixedThreadPool(options.threads())) {
+            final List<Future<?>> futures = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                final int chunkIndex = chunk;
+                final long fromId = (long) chunk * options.chunkSize() + 1;
+                final long toId = Math.min(fromId + options.chunkSize(), (long) total + 1);
+                futures.add(executor.submit(() -> {
+                    try (Connection connection = dataSource.getConnection()) {
+                        connection.setAutoCommit(false);
+                        writer.write(connection, fromId, toId, randomFor(table, chunkIndex));
+                        connection.commit();
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    executor.shutdownNow();
+                    throw e;
+                }
+            }
+        }
+        log.info("[DataSeeder] {} {}건 ({}ms)", table, total, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+    }
+
+    private SplittableRandom randomFor(final String table, final int chunkIndex) {
+        return new SplittableRandom(options.seed() ^ (table.hashCode() * 0x9E3779B97F4A7C15L) ^ (chunkIndex * 0xBF58476D1CE4E5B9L));
+    }
+
+    private void writeHashtags(final Connection connection, final long fromId, final long toId, final SplittableRandom random) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO hashtag (id, name) VALUES (?, ?)")) {
+            for (long id = fromId; id < toId; id++) {
+                statement.setLong(1, id);
+                statement.setString(2, hashtagName(id));
+                addBatch(statement, id - fromId + 1);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    // 1번부터 WORDS 를 그대로 쓰고, 이후에는 숫자를 붙여 이름이 겹치지 않게 한다. Zipf 순위가 낮을수록 흔한 단어가 된다.
+    private static String hashtagName(final long id) {
+        final int index = (int) (id - 1);
+        final String word = WORDS[index % WORDS.length];
+        final int round = index / WORDS.length;
+        return round == 0 ? word : word + round;
+    }
+
+    private void writeMembers(final Connection connection, final long fromId, final long toId, final SplittableRandom random) throws SQLException {
+        final String sql = "INSERT INTO member (id, email, nickname, password, salt, birth_date) VALUES (?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long id = fromId; id < toId; id++) {
+                statement.setLong(1, id);
+                statement.setString(2, "seed" + id + "@friendy.com");
+                statement.setString(3, nickname(id, random));
+                statement.setString(4, encryptedPassword);
+                statement.setString(5, SALT);
+                statement.setDate(6, Date.valueOf(LocalDate.of(1970, 1, 1).plusDays(random.nextInt(365 * 38))));
+                addBatch(statement, id - fromId + 1);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    // 초성 검색이 실제처럼 여러 회원에 걸리도록 한글 2~3음절에 고유한 꼬리(id 36진수)를 붙인다.
+    private static String nickname(final long id, final SplittableRandom random) {
+        final int length = 2 + random.nextInt(2);
+        final StringBuilder builder = new StringBuilder(length + 8);
+        for (int i = 0; i < length; i++) {
+            builder.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return builder.append(Long.toString(id, 36)).toString();
+    }
+
+    private void writePosts(final Connection connection, final long fromId, final long toId, final SplittableRandom random) throws SQLException {
+        final String postSql = "INSERT INTO post (id, member_id, content, like_count, comment_count, share_count, created_date, modified_date) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        final String postHashtagSql = "INSERT INTO post_hashtag (post_id, hashtag_id) VALUES (?, ?)";
+        // 게시글 id 순서가 작성 시각 순서와 같도록 seed.end 자정까지 seed.days 일에 고르게 펼친다.
+        // 보관 기준(friendy.community.post.archive.age-months)보다 오래된 게시글은 앱을 띄우면 보관 대상이 된다.
+        final LocalDateTime timelineStart = options.end().atStartOfDay().minusDays(options.days());
+        final long stepInMs = Math.max(1L, Duration.ofDays(options.days()).toMillis() / options.posts());
+        final int[] hashtagIds = new int[options.maxHashtagsPerPost()];
+
+        try (PreparedStatement postStatement = connection.prepareStatement(postSql);
+             PreparedStatement postHashtagStatement = connection.prepareStatement(postHashtagSql)) {
+            for (long id = fromId; id < toId; id++) {
+                final Timestamp createdAt = Timestamp.valueOf(timelineStart.plusNanos(((id - 1) * stepInMs + random.nextLong(stepInMs)) * 1_000_000));
+                postStatement.setLong(1, id);
+                postStatement.setLong(2, authorDistribution.sample(random));
+                postStatement.setString(3, content(random));
+                postStatement.setInt(4, exponential(random, 5.0));
+                postStatement.setInt(5, exponential(random, 2.0));
+                postStatement.setInt(6, exponential(random, 0.5));
+                postStatement.setTimestamp(7, createdAt);
+                postStatement.setTimestamp(8, createdAt);
+                postStatement.addBatch();
+
+                final int hashtagCount = distinctHashtags(random, hashtagIds);
+                for (int i = 0; i < hashtagCount; i++) {
+                    postHashtagStatement.setLong(1, id);
+                    postHashtagStatement.setLong(2, hashtagIds[i]);
+                    postHashtagStatement.addBatch();
+                }
+
+                // 외래 키 때문에 게시글 배치를 먼저 보낸다.
+                if ((id - fromId + 1) % options.batchSize() == 0) {
+                    postStatement.executeBatch();
+                    postHashtagStatement.executeBatch();
+                }
+            }
+            postStatement.executeBatch();
+            postHashtagStatement.executeBatch();
+        }
+    }
+
+    private String content(final SplittableRandom random) {
+        final int words = 3 + random.nextInt(28);
+        final StringBuilder builder = new StringBuilder(words * 6);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private int distinctHashtags(final SplittableRandom random, final int[] hashtagIds) {
+        final int target = random.nextInt(hashtagIds.length + 1);
+        int count = 0;
+        for (int attempt = 0; attempt < target * 3 && count < target; attempt++) {
+            final int hashtagId = hashtagDistribution.sample(random);
+            if (!contains(hashtagIds, count, hashtagId)) {
+                hashtagIds[count++] = hashtagId;
+            }
+        }
+        return count;
+    }
+
+    private static boolean contains(final int[] values, final int length, final int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 좋아요, 댓글, 공유 수는 대부분 작고 일부만 큰 값을 갖도록 지수 분포에서 뽑는다.
+    private static int exponential(final SplittableRandom random, final double mean) {
+        return (int) (-Math.log(1.0 - random.nextDouble()) * mean);
+    }
+
+    private void addBatch(final PreparedStatement statement, final long rowsInChunk) throws SQLException {
+        statement.addBatch();
+        if (rowsInChunk % options.batchSize() == 0) {
+            statement.executeBatch();
+        }
+    }
+
+    // 명시한 id 로 넣었으므로 이후 애플리케이션이 INSERT 할 때 id 가 겹치지 않도록 자동 증가 값을 옮긴다.
+    private void restartIdentities() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            final boolean h2 = connection.getMetaData().getDatabaseProductName().contains("H2");
+            final Map<String, Integer> nextIds = Map.of(
+                    "hashtag", options.hashtags() + 1,
+                    "member", options.members() + 1,
+                    "post", options.posts() + 1
+            );
+            for (final Map.Entry<String, Integer> entry : nextIds.entrySet()) {
+                statement.execute(h2
+                        ? "ALTER TABLE " + entry.getKey() + " ALTER COLUMN id RESTART WITH " + entry.getValue()
+                        : "ALTER TABLE " + entry.getKey() + " AUTO_INCREMENT = " + entry.getValue());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+
+        void write(Connection connection, long fromId, long toId, SplittableRandom random) throws SQLException;
+    }
+}
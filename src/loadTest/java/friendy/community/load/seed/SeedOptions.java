@@ -0,0 +1,44 @@
+package friendy.community.load.seed;
+
+import java.time.LocalDate;
+
+// ./gradlew seedData -Pseed.posts=10000000 처럼 seed.* 시스템 프로퍼티로 덮어쓴다.
+// end 는 게시글 작성 기간의 끝 날짜로, 기본값은 오늘이다. 날짜가 바뀌어도 같은 데이터를 만들려면 -Pseed.end=2026-10-18 처럼 고정한다.
+record SeedOptions(
+        String url,
+        String username,
+        String password,
+        int members,
+        int posts,
+        int hashtags,
+        long seed,
+        int threads,
+        int chunkSize,
+        int batchSize,
+        double hashtagExponent,
+        double authorExponent,
+        int maxHashtagsPerPost,
+        int days,
+        LocalDate end
+) {
+
+    static SeedOptions fromSystemProperties() {
+        return new SeedOptions(
+                System.getProperty("seed.url", "jdbc:h2:file:./build/seed/friendy;MODE=MySQL;DATABASE_TO_LOWER=TRUE"),
+                System.getProperty("seed.username", "friendy"),
+                System.getProperty("seed.password", ""),
+                Integer.getInteger("seed.members", 1_000_000),
+                Integer.getInteger("seed.posts", 10_000_000),
+                Integer.getInteger("seed.hashtags", 100_000),
+                Long.getLong("seed.seed", 42L),
+                Integer.getInteger("seed.threads", Runtime.getRuntime().availableProcessors()),
+                Integer.getInteger("seed.chunk-size", 50_000),
+                Integer.getInteger("seed.batch-size", 1_000),
+                Double.parseDouble(System.getProperty("seed.hashtag-exponent", "1.1")),
+                Double.parseDouble(System.getProperty("seed.author-exponent", "0.8")),
+                Integer.getInteger("seed.max-hashtags-per-post", 5),
+                Integer.getInteger("seed.days", 730),
+                LocalDate.parse(System.getProperty("seed.end", LocalDate.now().toString()))
+        );
+    }
+}
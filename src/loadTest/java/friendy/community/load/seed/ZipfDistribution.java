@@ -0,0 +1,28 @@
+package friendy.community.load.seed;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// 1..n 순위를 P(k) ∝ 1/k^s 로 뽑는다. 누적 분포를 미리 계산해 두고 이진 탐색하므로 표본 하나가 O(log n) 이다.
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(final int n, final double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    int sample(final SplittableRandom random) {
+        final int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        final int insertionPoint = index >= 0 ? index : -index - 1;
+        return Math.min(insertionPoint, cumulative.length - 1) + 1;
+    }
+}
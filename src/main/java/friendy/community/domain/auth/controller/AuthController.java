@@ -1,17 +1,18 @@
 package friendy.community.domain.auth.controller;
 
 import friendy.community.domain.auth.dto.request.LoginRequest;
+import friendy.community.domain.auth.dto.response.FindAllSessionResponse;
 import friendy.community.domain.auth.dto.response.TokenResponse;
 import friendy.community.domain.auth.jwt.JwtTokenExtractor;
 import friendy.community.domain.auth.service.AuthService;
+import friendy.community.global.ratelimit.RateLimit;
+import friendy.community.global.ratelimit.RateLimitAlgorithm;
+import friendy.community.global.ratelimit.RateLimitKey;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,10 +23,14 @@ public class AuthController implements SpringDocAuthController{
     private final JwtTokenExtractor jwtTokenExtractor;
 
     @PostMapping("/login")
+    @RateLimit(name = "login-ip", key = RateLimitKey.IP, algorithm = RateLimitAlgorithm.SLIDING_WINDOW, limit = 30, window = 60)
+    @RateLimit(name = "login-email", key = RateLimitKey.EMAIL, limit = 5, window = 60)
     public ResponseEntity<Void> login(
-            @Valid @RequestBody LoginRequest loginRequest
+            @Valid @RequestBody LoginRequest loginRequest,
+            HttpServletRequest httpServletRequest
     ) {
-        final TokenResponse response = authService.login(loginRequest);
+        final String deviceId = jwtTokenExtractor.extractDeviceId(httpServletRequest);
+        final TokenResponse response = authService.login(loginRequest, deviceId);
 
         return ResponseEntity.ok()
                 .header("Authorization", "Bearer " + response.accessToken())
@@ -66,4 +71,24 @@ public class AuthController implements SpringDocAuthController{
         return ResponseEntity.ok()
                 .build();
     }
+
+    @GetMapping("/sessions")
+    public ResponseEntity<FindAllSessionResponse> getSessions(
+            HttpServletRequest httpServletRequest
+    ) {
+        final String accessToken = jwtTokenExtractor.extractAccessToken(httpServletRequest);
+
+        return ResponseEntity.ok(authService.getSessions(accessToken));
+    }
+
+    @DeleteMapping("/sessions/{deviceId}")
+    public ResponseEntity<Void> revokeSession(
+            HttpServletRequest httpServletRequest,
+            @PathVariable String deviceId
+    ) {
+        final String accessToken = jwtTokenExtractor.extractAccessToken(httpServletRequest);
+        authService.revokeSession(accessToken, deviceId);
+
+        return ResponseEntity.ok().build();
+    }
 }
@@ -1,9 +1,12 @@
 package friendy.community.domain.auth.controller;
 
 import friendy.community.domain.auth.dto.request.LoginRequest;
+import friendy.community.domain.auth.dto.response.FindAllSessionResponse;
 import friendy.community.global.swagger.error.ApiErrorResponse;
 import friendy.community.global.swagger.error.ErrorCase;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,7 +19,8 @@ import org.springframework.http.ResponseEntity;
 @Tag(name = "인증 및 인가 API", description = "인증 및 인가 API")
 public interface SpringDocAuthController {
 
-    @Operation(summary = "로그인")
+    @Operation(summary = "로그인", description = "X-Device-Id 헤더로 기기를 구분하며, 기기마다 독립된 세션이 유지됩니다.")
+    @Parameter(name = "X-Device-Id", in = ParameterIn.HEADER, description = "기기 식별자(생략 시 default)", example = "iphone-15")
     @ApiResponse(responseCode = "200", description = "로그인 성공",
             headers = {
                     @Header(name = "Authorization", description = "액세스 토큰", required = true, schema = @Schema(type = "string")),
@@ -29,12 +33,16 @@ public interface SpringDocAuthController {
             @ErrorCase(description = "비밀번호 입력 없음", exampleMessage = "비밀번호가 입력되지 않았습니다."),
             @ErrorCase(description = "비밀번호 형식 오류", exampleMessage = "숫자, 영문자, 특수문자(~!@#$%^&*?)를 포함해야 합니다."),
             @ErrorCase(description = "비밀번호 글자수 오류", exampleMessage = "비밀번호는 8~16자 사이로 입력해주세요."),
+            @ErrorCase(description = "기기 식별자 형식 오류", exampleMessage = "기기 식별자는 영문, 숫자, '.', '_', '-'로 이루어진 64자 이하여야 합니다."),
     })
     @ApiErrorResponse(status = HttpStatus.UNAUTHORIZED, instance = "/auth/login", errorCases = {
             @ErrorCase(description = "이메일 불일치", exampleMessage = "해당 이메일의 회원이 존재하지 않습니다."),
             @ErrorCase(description = "비밀번호 불일치", exampleMessage = "로그인에 실패하였습니다. 비밀번호를 확인해주세요."),
     })
-    ResponseEntity<Void> login(LoginRequest request);
+    @ApiErrorResponse(status = HttpStatus.TOO_MANY_REQUESTS, instance = "/auth/login", errorCases = {
+            @ErrorCase(description = "요청 횟수 초과", exampleMessage = "요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.")
+    })
+    ResponseEntity<Void> login(LoginRequest request, HttpServletRequest httpServletRequest);
 
     @Operation(
             summary = "로그아웃",
@@ -48,8 +56,7 @@ public interface SpringDocAuthController {
             @ErrorCase(description = "액세스 토큰 추출 실패", exampleMessage = "인증 실패(액세스 토큰 추출 실패) - 토큰 : {token}"),
             @ErrorCase(description = "잘못된 액세스 토큰", exampleMessage = "인증 실패(잘못된 액세스 토큰) - 토큰 : {token}"),
             @ErrorCase(description = "액세스 토큰 만료", exampleMessage = "인증 실패(만료된 액세스 토큰) - 토큰 : {token}"),
-            @ErrorCase(description = "액세스 토큰에 이메일 클레임 누락", exampleMessage = "인증 실패(JWT 액세스 토큰 Payload 이메일 누락) - 토큰 : {token}"),
-            @ErrorCase(description = "로그아웃 상태인 사용자가 요청", exampleMessage = "로그인 되어있지 않은 사용자입니다.")
+            @ErrorCase(description = "액세스 토큰에 이메일 클레임 누락", exampleMessage = "인증 실패(JWT 액세스 토큰 Payload 이메일 누락) - 토큰 : {token}")
     })
     ResponseEntity<Void> logout(HttpServletRequest httpServletRequest);
 
@@ -90,4 +97,37 @@ public interface SpringDocAuthController {
             @ErrorCase(description = "로그아웃 상태인 사용자가 요청", exampleMessage = "로그인 되어있지 않은 사용자입니다.")
     })
     ResponseEntity<Void> withdrawal(HttpServletRequest httpServletRequest);
+
+    @Operation(
+            summary = "로그인 세션 목록 조회",
+            security = {
+                    @SecurityRequirement(name = "bearerAuth")
+            }
+    )
+    @ApiResponse(responseCode = "200", description = "세션 목록 조회 성공")
+    @ApiErrorResponse(status = HttpStatus.UNAUTHORIZED, instance = "/auth/sessions", errorCases = {
+            @ErrorCase(description = "액세스 토큰 추출 실패", exampleMessage = "인증 실패(액세스 토큰 추출 실패) - 토큰 : {token}"),
+            @ErrorCase(description = "잘못된 액세스 토큰", exampleMessage = "인증 실패(잘못된 액세스 토큰) - 토큰 : {token}"),
+            @ErrorCase(description = "액세스 토큰 만료", exampleMessage = "인증 실패(만료된 액세스 토큰) - 토큰 : {token}"),
+            @ErrorCase(description = "로그아웃 상태인 사용자가 요청", exampleMessage = "로그인 되어있지 않은 사용자입니다.")
+    })
+    ResponseEntity<FindAllSessionResponse> getSessions(HttpServletRequest httpServletRequest);
+
+    @Operation(
+            summary = "로그인 세션 강제 종료",
+            security = {
+                    @SecurityRequirement(name = "bearerAuth")
+            }
+    )
+    @ApiResponse(responseCode = "200", description = "세션 종료 성공")
+    @ApiErrorResponse(status = HttpStatus.UNAUTHORIZED, instance = "/auth/sessions/{deviceId}", errorCases = {
+            @ErrorCase(description = "액세스 토큰 추출 실패", exampleMessage = "인증 실패(액세스 토큰 추출 실패) - 토큰 : {token}"),
+            @ErrorCase(description = "잘못된 액세스 토큰", exampleMessage = "인증 실패(잘못된 액세스 토큰) - 토큰 : {token}"),
+            @ErrorCase(description = "액세스 토큰 만료", exampleMessage = "인증 실패(만료된 액세스 토큰) - 토큰 : {token}"),
+            @ErrorCase(description = "로그아웃 상태인 사용자가 요청", exampleMessage = "로그인 되어있지 않은 사용자입니다.")
+    })
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/auth/sessions/{deviceId}", errorCases = {
+            @ErrorCase(description = "존재하지 않는 세션", exampleMessage = "존재하지 않는 세션입니다.")
+    })
+    ResponseEntity<Void> revokeSession(HttpServletRequest httpServletRequest, String deviceId);
 }
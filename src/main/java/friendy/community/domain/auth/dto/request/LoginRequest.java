@@ -1,5 +1,6 @@
 package friendy.community.domain.auth.dto.request;
 
+import friendy.community.global.ratelimit.EmailIdentifiable;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -20,5 +21,5 @@ public record LoginRequest(
         @Size(min = 8, max = 16, message = "비밀번호는 8~16자 사이로 입력해주세요.")
         String password
 
-) {
+) implements EmailIdentifiable {
 }
@@ -0,0 +1,8 @@
+package friendy.community.domain.auth.dto.response;
+
+import java.util.List;
+
+public record FindAllSessionResponse(
+        List<SessionResponse> sessions
+) {
+}
@@ -0,0 +1,29 @@
+package friendy.community.domain.auth.dto.response;
+
+import friendy.community.domain.auth.session.Session;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+public record SessionResponse(
+        @Schema(description = "기기 식별자", example = "iphone-15")
+        String deviceId,
+        @Schema(description = "로그인(토큰 발급) 시각", example = "2025-01-01T12:00:00")
+        String issuedAt,
+        @Schema(description = "현재 요청을 보낸 기기인지 여부", example = "true")
+        boolean current
+) {
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    public static SessionResponse of(final Session session, final String currentDeviceId) {
+        final LocalDateTime issuedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(session.issuedAtMillis()), ZoneId.systemDefault());
+        return new SessionResponse(
+                session.deviceId(),
+                issuedAt.format(DATE_TIME_FORMATTER),
+                session.deviceId().equals(currentDeviceId)
+        );
+    }
+}
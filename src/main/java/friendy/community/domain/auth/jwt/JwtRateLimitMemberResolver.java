@@ -0,0 +1,28 @@
+package friendy.community.domain.auth.jwt;
+
+import friendy.community.global.exception.FriendyException;
+import friendy.community.global.ratelimit.RateLimitMemberResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class JwtRateLimitMemberResolver implements RateLimitMemberResolver {
+
+    private final JwtTokenExtractor jwtTokenExtractor;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    // 토큰이 잘못된 요청은 이후 인증 단계에서 거절되므로 여기서는 식별만 포기한다.
+    @Override
+    public Optional<String> resolve(final HttpServletRequest request) {
+        try {
+            final String accessToken = jwtTokenExtractor.extractAccessToken(request);
+            return Optional.of(jwtTokenProvider.extractPayloadFromAccessToken(accessToken, request).email());
+        } catch (FriendyException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -7,12 +7,16 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.util.regex.Pattern;
+
 @Component
 public class JwtTokenExtractor {
 
     private static final String PREFIX_BEARER = "Bearer ";
     private static final String ACCESS_TOKEN_HEADER = HttpHeaders.AUTHORIZATION;
     private static final String REFRESH_TOKEN_HEADER = "Authorization-Refresh";
+    private static final String DEVICE_ID_HEADER = "X-Device-Id";
+    private static final Pattern DEVICE_ID_PATTERN = Pattern.compile("^[A-Za-z0-9._-]{1,64}$");
 
     public String extractAccessToken(final HttpServletRequest request) {
         final String accessToken = request.getHeader(ACCESS_TOKEN_HEADER);
@@ -32,4 +36,15 @@ public class JwtTokenExtractor {
         throw new FriendyException(ErrorCode.UNAUTHORIZED_USER, logMessage);
     }
 
+    public String extractDeviceId(final HttpServletRequest request) {
+        final String deviceId = request.getHeader(DEVICE_ID_HEADER);
+        if (!StringUtils.hasText(deviceId)) {
+            return JwtTokenProvider.DEFAULT_DEVICE_ID;
+        }
+        if (!DEVICE_ID_PATTERN.matcher(deviceId).matches()) {
+            throw new FriendyException(ErrorCode.INVALID_REQUEST, "기기 식별자는 영문, 숫자, '.', '_', '-'로 이루어진 64자 이하여야 합니다.");
+        }
+        return deviceId;
+    }
+
 }
@@ -1,24 +1,32 @@
 package friendy.community.domain.auth.jwt;
 
+import friendy.community.domain.auth.revocation.AccessTokenRevocationList;
+import friendy.community.domain.auth.session.IssuedAccessToken;
+import friendy.community.domain.auth.session.RotationResult;
+import friendy.community.domain.auth.session.SessionStore;
 import friendy.community.global.exception.ErrorCode;
 import friendy.community.global.exception.FriendyException;
 import io.jsonwebtoken.*;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
-import java.util.concurrent.TimeUnit;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    public static final String DEFAULT_DEVICE_ID = "default";
+    private static final String VERIFIED_ACCESS_TOKEN_ATTRIBUTE = JwtTokenProvider.class.getName() + ".VERIFIED_ACCESS_TOKEN";
+
     private final String EMAIL_KEY = "email";
+    private final String DEVICE_KEY = "device";
 
     @Value("${jwt.access.secret}")
     private String jwtAccessTokenSecret;
@@ -30,23 +38,73 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh.expiration}")
     private long jwtRefreshTokenExpirationInMs;
 
-    private final StringRedisTemplate redisTemplate;
+    private final SessionStore sessionStore;
+    private final AccessTokenRevocationList revocationList;
 
     public String generateAccessToken(final String email) {
+        return generateAccessToken(email, DEFAULT_DEVICE_ID);
+    }
+
+    public String generateAccessToken(final String email, final String deviceId) {
         final SecretKey secretKey = new SecretKeySpec(jwtAccessTokenSecret.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
-        return buildJwtToken(email, jwtAccessTokenExpirationInMs, secretKey);
+        final String tokenId = UUID.randomUUID().toString();
+        final Date now = new Date();
+        final Date expiryDate = new Date(now.getTime() + jwtAccessTokenExpirationInMs);
+        final String generatedToken = buildJwtToken(email, deviceId, tokenId, now, expiryDate, secretKey);
+
+        sessionStore.saveAccessToken(email, deviceId, new IssuedAccessToken(tokenId, expiryDate.getTime()));
+
+        return generatedToken;
     }
 
     public String generateRefreshToken(final String email) {
+        return generateRefreshToken(email, DEFAULT_DEVICE_ID);
+    }
+
+    public String generateRefreshToken(final String email, final String deviceId) {
+        final SecretKey secretKey = new SecretKeySpec(jwtRefreshTokenSecret.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
+        final String generatedToken = buildJwtToken(email, deviceId, jwtRefreshTokenExpirationInMs, secretKey);
+
+        sessionStore.save(email, deviceId, generatedToken);
+
+        return generatedToken;
+    }
+
+    public String rotateRefreshToken(final TokenPayload payload, final String presentedToken) {
         final SecretKey secretKey = new SecretKeySpec(jwtRefreshTokenSecret.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
-        final String generatedToken = buildJwtToken(email, jwtRefreshTokenExpirationInMs, secretKey);
+        final String generatedToken = buildJwtToken(payload.email(), payload.deviceId(), jwtRefreshTokenExpirationInMs, secretKey);
 
-        saveRefreshToken(email, generatedToken);
+        final RotationResult result = sessionStore.rotate(payload.email(), payload.deviceId(), presentedToken, generatedToken);
+        if (result == RotationResult.TOKEN_REUSED) {
+            // 탈취된 토큰 계열일 수 있으므로 이 기기에 나가 있는 액세스 토큰도 만료를 기다리지 않고 폐기한다.
+            revokeLatestAccessToken(payload.email(), payload.deviceId());
+            final String logMessage = "인증 실패(이미 사용된 리프레시 토큰, 해당 기기 세션 폐기) - 토큰 : " + presentedToken;
+            throw new FriendyException(ErrorCode.UNAUTHORIZED_USER, logMessage);
+        }
+        if (result == RotationResult.SESSION_NOT_FOUND) {
+            final String logMessage = "로그인 되어있지 않은 사용자입니다.";
+            throw new FriendyException(ErrorCode.UNAUTHORIZED_USER, logMessage);
+        }
 
         return generatedToken;
     }
 
+    // 요청 수 제한처럼 컨트롤러보다 먼저 토큰을 검증한 경우, 같은 요청에서는 그 결과를 다시 쓴다.
+    public TokenPayload extractPayloadFromAccessToken(final String token, final HttpServletRequest request) {
+        if (request.getAttribute(VERIFIED_ACCESS_TOKEN_ATTRIBUTE) instanceof VerifiedAccessToken verified
+                && verified.token().equals(token)) {
+            return verified.payload();
+        }
+        final TokenPayload payload = extractPayloadFromAccessToken(token);
+        request.setAttribute(VERIFIED_ACCESS_TOKEN_ATTRIBUTE, new VerifiedAccessToken(token, payload));
+        return payload;
+    }
+
     public String extractEmailFromAccessToken(final String token) {
+        return extractPayloadFromAccessToken(token).email();
+    }
+
+    public TokenPayload extractPayloadFromAccessToken(final String token) {
         validateAccessToken(token);
         final Jws<Claims> claimsJws = getAccessTokenParser().parseClaimsJws(token);
         final String extractedEmail = claimsJws.getBody().get(EMAIL_KEY, String.class);
@@ -54,11 +112,26 @@ public class JwtTokenProvider {
             final String logMessage = "인증 실패(JWT 액세스 토큰 Payload 이메일 누락) - 토큰 : " + token;
             throw new FriendyException(ErrorCode.UNAUTHORIZED_USER, logMessage);
         }
+        final String tokenId = claimsJws.getBody().getId();
+        if (tokenId != null && revocationList.isRevoked(tokenId)) {
+            final String logMessage = "인증 실패(폐기된 액세스 토큰) - 토큰 : " + token;
+            throw new FriendyException(ErrorCode.UNAUTHORIZED_USER, logMessage);
+        }
 
-        return extractedEmail;
+        return new TokenPayload(extractedEmail, extractDeviceId(claimsJws.getBody()));
     }
 
     public String extractEmailFromRefreshToken(final String token) {
+        return extractPayloadFromRefreshToken(token).email();
+    }
+
+    public TokenPayload extractPayloadFromRefreshToken(final String token) {
+        final TokenPayload payload = parseRefreshToken(token);
+        validateUserAuthorization(payload.email(), payload.deviceId());
+        return payload;
+    }
+
+    public TokenPayload parseRefreshToken(final String token) {
         validateRefreshToken(token);
         final Jws<Claims> claimsJws = getRefreshTokenParser().parseClaimsJws(token);
         final String extractedEmail = claimsJws.getBody().get(EMAIL_KEY, String.class);
@@ -66,8 +139,7 @@ public class JwtTokenProvider {
             final String logMessage = "인증 실패(JWT 리프레시 토큰 Payload 이메일 누락) - 토큰 : " + token;
             throw new FriendyException(ErrorCode.UNAUTHORIZED_USER, logMessage);
         }
-        validateUserAuthorization(extractedEmail);
-        return extractedEmail;
+        return new TokenPayload(extractedEmail, extractDeviceId(claimsJws.getBody()));
     }
 
     public void validateAccessToken(final String token) {
@@ -82,9 +154,22 @@ public class JwtTokenProvider {
         }
     }
 
-    public void deleteRefreshToken(final String email) {
-        validateUserAuthorization(email);
-        redisTemplate.delete(email);
+    public void revokeAccessToken(final String token) {
+        final Claims claims = getAccessTokenParser().parseClaimsJws(token).getBody();
+        if (claims.getId() != null) {
+            revocationList.revoke(claims.getId(), claims.getExpiration().getTime());
+        }
+    }
+
+    // 이 기기에 마지막으로 발급한 액세스 토큰을 폐기한다. 요청에 실린 토큰이 아니라 세션을 끊는 쪽이 부를 때 쓴다.
+    public void revokeLatestAccessToken(final String email, final String deviceId) {
+        sessionStore.removeAccessToken(email, deviceId)
+                .ifPresent(accessToken -> revocationList.revoke(accessToken.tokenId(), accessToken.expiresAtMillis()));
+    }
+
+    // 재사용 감지, 다른 기기의 종료 요청, 만료로 세션이 이미 없어도 실패하지 않는다.
+    public void deleteRefreshToken(final String email, final String deviceId) {
+        sessionStore.revoke(email, deviceId);
     }
 
     private void validateRefreshToken(final String token) {
@@ -99,19 +184,36 @@ public class JwtTokenProvider {
         }
     }
 
-    private void validateUserAuthorization(final String email) {
-        if (Boolean.FALSE.equals(redisTemplate.hasKey(email))) {
+    private void validateUserAuthorization(final String email, final String deviceId) {
+        if (!sessionStore.exists(email, deviceId)) {
             final String logMessage = "로그인 되어있지 않은 사용자입니다.";
             throw new FriendyException(ErrorCode.UNAUTHORIZED_USER, logMessage);
         }
     }
 
-    private String buildJwtToken(final String email, final long tokenExpirationInMs, final SecretKey secretKey) {
+    private String extractDeviceId(final Claims claims) {
+        final String deviceId = claims.get(DEVICE_KEY, String.class);
+        return deviceId == null ? DEFAULT_DEVICE_ID : deviceId;
+    }
+
+    private String buildJwtToken(final String email, final String deviceId, final long tokenExpirationInMs, final SecretKey secretKey) {
         final Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + tokenExpirationInMs);
+        final Date expiryDate = new Date(now.getTime() + tokenExpirationInMs);
+        return buildJwtToken(email, deviceId, UUID.randomUUID().toString(), now, expiryDate, secretKey);
+    }
 
+    private String buildJwtToken(
+            final String email,
+            final String deviceId,
+            final String tokenId,
+            final Date now,
+            final Date expiryDate,
+            final SecretKey secretKey
+    ) {
         return Jwts.builder()
+                .setId(tokenId)
                 .claim(EMAIL_KEY, email)
+                .claim(DEVICE_KEY, deviceId)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(secretKey)
@@ -130,13 +232,6 @@ public class JwtTokenProvider {
                 .build();
     }
 
-    private void saveRefreshToken(final String email, final String refreshToken) {
-        redisTemplate.opsForValue().set(
-                email,
-                refreshToken,
-                jwtRefreshTokenExpirationInMs,
-                TimeUnit.MILLISECONDS
-        );
+    private record VerifiedAccessToken(String token, TokenPayload payload) {
     }
-
 }
@@ -0,0 +1,7 @@
+package friendy.community.domain.auth.jwt;
+
+public record TokenPayload(
+        String email,
+        String deviceId
+) {
+}
@@ -0,0 +1,122 @@
+package friendy.community.domain.auth.revocation;
+
+import friendy.community.global.bloom.BloomFilter;
+import friendy.community.global.redis.RedisKeyspace;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+@Slf4j
+@Component
+public class AccessTokenRevocationList implements MessageListener {
+
+    public static final String REVOCATION_CHANNEL = "access-token:revoked";
+    private static final String REVOKED_VALUE = "1";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final long generationLifetimeInMs;
+
+    // 폐기 기록은 액세스 토큰 수명이 지나면 의미가 없으므로, 필터를 두 세대로 나눠 오래된 세대를 통째로 버린다.
+    private volatile Generation current;
+    private volatile Generation previous;
+    // 기존 폐기 목록을 모두 읽어 오기 전까지는 필터를 믿지 않고 Redis 를 조회한다.
+    private volatile boolean warmedUp = false;
+
+    public AccessTokenRevocationList(
+            final StringRedisTemplate redisTemplate,
+            final RedisMessageListenerContainer listenerContainer,
+            @Value("${jwt.access.expiration}") final long accessTokenExpirationInMs,
+            @Value("${friendy.community.auth.revocation.expected-insertions:100000}") final long expectedInsertions,
+            @Value("${friendy.community.auth.revocation.false-positive-probability:0.01}") final double falsePositiveProbability
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.generationLifetimeInMs = accessTokenExpirationInMs;
+        this.current = newGeneration(System.currentTimeMillis());
+        this.previous = newGeneration(System.currentTimeMillis());
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+    }
+
+    public void revoke(final String tokenId, final long expiresAtMillis) {
+        final long remainingInMs = expiresAtMillis - System.currentTimeMillis();
+        if (remainingInMs <= 0) {
+            return;
+        }
+        redisTemplate.opsForValue().set(RedisKeyspace.REVOKED_ACCESS_TOKEN.key(tokenId), REVOKED_VALUE, Duration.ofMillis(remainingInMs));
+        remember(tokenId);
+        redisTemplate.convertAndSend(REVOCATION_CHANNEL, tokenId);
+    }
+
+    public boolean isRevoked(final String tokenId) {
+        if (warmedUp && !mightBeRevoked(tokenId)) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisTemplate.hasKey(RedisKeyspace.REVOKED_ACCESS_TOKEN.key(tokenId)));
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        remember(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        final ScanOptions options = ScanOptions.scanOptions()
+                .match(RedisKeyspace.REVOKED_ACCESS_TOKEN.getPrefix() + "*")
+                .count(1000)
+                .build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                remember(RedisKeyspace.REVOKED_ACCESS_TOKEN.extractId(cursor.next()));
+            }
+            warmedUp = true;
+        } catch (RuntimeException e) {
+            log.warn("액세스 토큰 폐기 목록을 불러오지 못해 모든 조회를 Redis 로 보냅니다.", e);
+        }
+    }
+
+    private boolean mightBeRevoked(final String tokenId) {
+        rotateIfExpired();
+        return current.filter().mightContain(tokenId) || previous.filter().mightContain(tokenId);
+    }
+
+    private void remember(final String tokenId) {
+        rotateIfExpired();
+        current.filter().put(tokenId);
+    }
+
+    private void rotateIfExpired() {
+        final long now = System.currentTimeMillis();
+        if (now - current.createdAtMillis() < generationLifetimeInMs) {
+            return;
+        }
+        synchronized (this) {
+            if (now - current.createdAtMillis() >= generationLifetimeInMs) {
+                previous = current;
+                current = newGeneration(now);
+            }
+        }
+    }
+
+    private Generation newGeneration(final long createdAtMillis) {
+        return new Generation(new BloomFilter(expectedInsertions, falsePositiveProbability), createdAtMillis);
+    }
+
+    private record Generation(BloomFilter filter, long createdAtMillis) {
+    }
+}
@@ -1,63 +1,132 @@
 package friendy.community.domain.auth.service;
 
 import friendy.community.domain.auth.dto.request.LoginRequest;
+import friendy.community.domain.auth.dto.response.FindAllSessionResponse;
+import friendy.community.domain.auth.dto.response.SessionResponse;
 import friendy.community.domain.auth.dto.response.TokenResponse;
 import friendy.community.domain.auth.jwt.JwtTokenProvider;
-import friendy.community.domain.member.encryption.PasswordEncryptor;
+import friendy.community.domain.auth.jwt.TokenPayload;
+import friendy.community.domain.auth.session.SessionStore;
+import friendy.community.domain.member.cache.MemberCache;
+import friendy.community.domain.member.cache.MemberIdentityFilter;
+import friendy.community.domain.member.encryption.PasswordHashingService;
+import friendy.community.domain.member.encryption.SaltGenerator;
 import friendy.community.domain.member.model.Member;
 import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.domain.member.search.NicknameSearchIndex;
 import friendy.community.global.exception.ErrorCode;
 import friendy.community.global.exception.FriendyException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncryptor passwordEncryptor;
+    private final PasswordHashingService passwordHashingService;
+    private final SaltGenerator saltGenerator;
     private final JwtTokenProvider jwtTokenProvider;
-
-    public TokenResponse login(final LoginRequest request) {
+    private final SessionStore sessionStore;
+    private final MemberCache memberCache;
+    private final MemberIdentityFilter memberIdentityFilter;
+    private final NicknameSearchIndex nicknameSearchIndex;
+
+    // 해시 검증과 재암호화는 트랜잭션 밖에서 하고, 바뀐 해시만 짧은 쓰기 트랜잭션(save)으로 저장한다.
+    // 해시를 계산하는 동안 커넥션을 붙잡으면 로그인이 몰릴 때 다른 API 가 쓸 커넥션이 바닥난다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TokenResponse login(final LoginRequest request, final String deviceId) {
         final Member member = getVerifiedMember(request.email(), request.password());
+        upgradePasswordIfNeeded(member, request.password());
 
-        final String accessToken = jwtTokenProvider.generateAccessToken(request.email());
-        final String refreshToken = jwtTokenProvider.generateRefreshToken(request.email());
+        final String accessToken = jwtTokenProvider.generateAccessToken(request.email(), deviceId);
+        final String refreshToken = jwtTokenProvider.generateRefreshToken(request.email(), deviceId);
 
         return TokenResponse.of(accessToken, refreshToken);
     }
 
     public void logout(final String accessToken) {
-        final String email = jwtTokenProvider.extractEmailFromAccessToken(accessToken);
-        jwtTokenProvider.deleteRefreshToken(email);
+        final TokenPayload payload = jwtTokenProvider.extractPayloadFromAccessToken(accessToken);
+        logout(accessToken, payload);
     }
 
     public TokenResponse reissueToken(final String refreshToken) {
-        final String extractedEmail = jwtTokenProvider.extractEmailFromRefreshToken(refreshToken);
-        final Member member = getMemberByEmail(extractedEmail);
-        final String newAccessToken = jwtTokenProvider.generateAccessToken(member.getEmail());
-        final String newRefreshToken = jwtTokenProvider.generateRefreshToken(member.getEmail());
+        final TokenPayload payload = jwtTokenProvider.parseRefreshToken(refreshToken);
+        final String newRefreshToken = jwtTokenProvider.rotateRefreshToken(payload, refreshToken);
+        final String newAccessToken = jwtTokenProvider.generateAccessToken(payload.email(), payload.deviceId());
 
         return TokenResponse.of(newAccessToken, newRefreshToken);
     }
 
+    public FindAllSessionResponse getSessions(final String accessToken) {
+        final TokenPayload payload = jwtTokenProvider.extractPayloadFromAccessToken(accessToken);
+        validateLoggedIn(payload);
+
+        final List<SessionResponse> sessions = sessionStore.findAll(payload.email()).stream()
+                .map(session -> SessionResponse.of(session, payload.deviceId()))
+                .toList();
+
+        return new FindAllSessionResponse(sessions);
+    }
+
+    public void revokeSession(final String accessToken, final String deviceId) {
+        final TokenPayload payload = jwtTokenProvider.extractPayloadFromAccessToken(accessToken);
+        validateLoggedIn(payload);
+
+        jwtTokenProvider.revokeLatestAccessToken(payload.email(), deviceId);
+        if (!sessionStore.revoke(payload.email(), deviceId)) {
+            throw new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 세션입니다.");
+        }
+    }
+
+    @Transactional
     public void withdrawal(final String accessToken) {
-        logout(accessToken);
+        final TokenPayload payload = jwtTokenProvider.extractPayloadFromAccessToken(accessToken);
+        validateLoggedIn(payload);
+        logout(accessToken, payload);
 
-        final String email = jwtTokenProvider.extractEmailFromAccessToken(accessToken);
-        final Member member = getMemberByEmail(email);
+        final Member member = getMemberByEmail(payload.email());
 
         memberRepository.delete(member);
+        sessionStore.revokeAll(payload.email());
+        memberCache.evict(member);
+        memberIdentityFilter.unregister();
+        nicknameSearchIndex.remove(member.getId(), member.getNickname());
     }
 
     public Member getMemberByEmail(String email) {
-        return memberRepository.findByEmail(email)
+        return memberCache.getByEmail(email, memberRepository::findByEmail)
                 .orElseThrow(() -> new FriendyException(ErrorCode.UNAUTHORIZED_EMAIL, "해당 이메일의 회원이 존재하지 않습니다."));
     }
 
+    // 세션이 이미 끊긴 뒤라도 요청에 실린 액세스 토큰은 반드시 폐기되도록 폐기를 먼저 한다.
+    private void logout(final String accessToken, final TokenPayload payload) {
+        jwtTokenProvider.revokeAccessToken(accessToken);
+        jwtTokenProvider.deleteRefreshToken(payload.email(), payload.deviceId());
+    }
+
+    private void validateLoggedIn(final TokenPayload payload) {
+        if (!sessionStore.exists(payload.email(), payload.deviceId())) {
+            throw new FriendyException(ErrorCode.UNAUTHORIZED_USER, "로그인 되어있지 않은 사용자입니다.");
+        }
+    }
+
+    // 로그인에 성공한 평문을 알고 있을 때만 이전 방식의 해시를 현재 알고리즘으로 다시 저장할 수 있다.
+    private void upgradePasswordIfNeeded(final Member member, final String plainPassword) {
+        if (!passwordHashingService.needsUpgrade(member.getPassword())) {
+            return;
+        }
+        final String salt = saltGenerator.generate();
+        member.resetPassword(passwordHashingService.hash(plainPassword, salt), salt);
+        memberRepository.save(member);
+        memberCache.evict(member);
+    }
+
     private Member getVerifiedMember(String email, String password) {
         Member member = getMemberByEmail(email);
         validateCorrectPassword(member, password);
@@ -65,9 +134,7 @@ public class AuthService {
     }
 
     private void validateCorrectPassword(Member member, String password) {
-        String salt = member.getSalt();
-        String encryptedPassword = passwordEncryptor.encrypt(password, salt);
-        if (!member.matchPassword(encryptedPassword)) {
+        if (!passwordHashingService.matches(password, member.getSalt(), member.getPassword())) {
             throw new FriendyException(ErrorCode.UNAUTHORIZED_PASSWORD, "로그인에 실패하였습니다. 비밀번호를 확인해주세요.");
         }
     }
@@ -0,0 +1,31 @@
+package friendy.community.domain.auth.session;
+
+import java.util.Optional;
+
+// 기기에 마지막으로 발급한 액세스 토큰. 세션을 강제로 끊을 때 폐기 목록에 올릴 jti 와 만료 시각만 담는다.
+public record IssuedAccessToken(
+        String tokenId,
+        long expiresAtMillis
+) {
+
+    private static final String DELIMITER = ":";
+
+    String serialize() {
+        return tokenId + DELIMITER + expiresAtMillis;
+    }
+
+    static Optional<IssuedAccessToken> parse(final String value) {
+        final int delimiterIndex = value.lastIndexOf(DELIMITER);
+        if (delimiterIndex < 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new IssuedAccessToken(
+                    value.substring(0, delimiterIndex),
+                    Long.parseLong(value.substring(delimiterIndex + 1))
+            ));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
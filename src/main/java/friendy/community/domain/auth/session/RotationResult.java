@@ -0,0 +1,18 @@
+package friendy.community.domain.auth.session;
+
+public enum RotationResult {
+
+    ROTATED,
+    SESSION_NOT_FOUND,
+    TOKEN_REUSED;
+
+    static RotationResult from(final Long scriptResult) {
+        if (scriptResult == null || scriptResult == 0L) {
+            return SESSION_NOT_FOUND;
+        }
+        if (scriptResult < 0L) {
+            return TOKEN_REUSED;
+        }
+        return ROTATED;
+    }
+}
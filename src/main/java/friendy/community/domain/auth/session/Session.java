@@ -0,0 +1,7 @@
+package friendy.community.domain.auth.session;
+
+public record Session(
+        String deviceId,
+        long issuedAtMillis
+) {
+}
@@ -0,0 +1,123 @@
+package friendy.community.domain.auth.session;
+
+import friendy.community.global.redis.RedisKeyspace;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class SessionStore {
+
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/rotate_refresh_token.lua"), Long.class);
+
+    @Value("${jwt.refresh.expiration}")
+    private long sessionExpirationInMs;
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void save(final String email, final String deviceId, final String refreshToken) {
+        final String tokenKey = RedisKeyspace.SESSION.key(email);
+        final String issuedAtKey = RedisKeyspace.SESSION_ISSUED_AT.key(email);
+        final String issuedAt = String.valueOf(System.currentTimeMillis());
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            final StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hSet(tokenKey, deviceId, refreshToken);
+            stringConnection.hSet(issuedAtKey, deviceId, issuedAt);
+            stringConnection.pExpire(tokenKey, sessionExpirationInMs);
+            stringConnection.pExpire(issuedAtKey, sessionExpirationInMs);
+            return null;
+        });
+    }
+
+    // 기기마다 마지막으로 발급한 액세스 토큰을 남긴다. 재사용 감지나 다른 기기의 종료 요청으로 세션이 끊길 때 함께 폐기한다.
+    public void saveAccessToken(final String email, final String deviceId, final IssuedAccessToken accessToken) {
+        final String accessTokenKey = RedisKeyspace.SESSION_ACCESS_TOKEN.key(email);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            final StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hSet(accessTokenKey, deviceId, accessToken.serialize());
+            stringConnection.pExpire(accessTokenKey, sessionExpirationInMs);
+            return null;
+        });
+    }
+
+    public Optional<IssuedAccessToken> removeAccessToken(final String email, final String deviceId) {
+        final String accessTokenKey = RedisKeyspace.SESSION_ACCESS_TOKEN.key(email);
+
+        final List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            final StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hGet(accessTokenKey, deviceId);
+            stringConnection.hDel(accessTokenKey, deviceId);
+            return null;
+        });
+        if (results == null || results.isEmpty() || !(results.get(0) instanceof String value)) {
+            return Optional.empty();
+        }
+        return IssuedAccessToken.parse(value);
+    }
+
+    // 토큰 비교, 교체, 만료 시간 갱신을 스크립트 하나로 처리해 동시 재발급 중 하나만 성공하게 한다.
+    public RotationResult rotate(final String email, final String deviceId, final String presentedToken, final String newToken) {
+        final Long result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(RedisKeyspace.SESSION.key(email), RedisKeyspace.SESSION_ISSUED_AT.key(email)),
+                deviceId,
+                presentedToken,
+                newToken,
+                String.valueOf(sessionExpirationInMs),
+                String.valueOf(System.currentTimeMillis())
+        );
+        return RotationResult.from(result);
+    }
+
+    public boolean exists(final String email, final String deviceId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForHash().hasKey(RedisKeyspace.SESSION.key(email), deviceId));
+    }
+
+    public List<Session> findAll(final String email) {
+        final Map<Object, Object> issuedAts = redisTemplate.opsForHash().entries(RedisKeyspace.SESSION_ISSUED_AT.key(email));
+        final long expiredBefore = System.currentTimeMillis() - sessionExpirationInMs;
+
+        return issuedAts.entrySet().stream()
+                .map(entry -> new Session((String) entry.getKey(), Long.parseLong((String) entry.getValue())))
+                .filter(session -> session.issuedAtMillis() > expiredBefore)
+                .sorted(Comparator.comparingLong(Session::issuedAtMillis).reversed())
+                .toList();
+    }
+
+    public boolean revoke(final String email, final String deviceId) {
+        final String tokenKey = RedisKeyspace.SESSION.key(email);
+        final String issuedAtKey = RedisKeyspace.SESSION_ISSUED_AT.key(email);
+        final String accessTokenKey = RedisKeyspace.SESSION_ACCESS_TOKEN.key(email);
+
+        final List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            final StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hDel(tokenKey, deviceId);
+            stringConnection.hDel(issuedAtKey, deviceId);
+            stringConnection.hDel(accessTokenKey, deviceId);
+            return null;
+        });
+        return !results.isEmpty() && Long.valueOf(1L).equals(results.get(0));
+    }
+
+    public void revokeAll(final String email) {
+        redisTemplate.delete(List.of(
+                RedisKeyspace.SESSION.key(email),
+                RedisKeyspace.SESSION_ISSUED_AT.key(email),
+                RedisKeyspace.SESSION_ACCESS_TOKEN.key(email)
+        ));
+    }
+}
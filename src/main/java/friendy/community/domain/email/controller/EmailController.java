@@ -3,6 +3,9 @@ package friendy.community.domain.email.controller;
 import friendy.community.domain.email.dto.request.EmailRequest;
 import friendy.community.domain.email.dto.request.VerifyCodeRequest;
 import friendy.community.domain.email.service.EmailService;
+import friendy.community.global.ratelimit.RateLimit;
+import friendy.community.global.ratelimit.RateLimitAlgorithm;
+import friendy.community.global.ratelimit.RateLimitKey;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +22,8 @@ public class EmailController implements SpringDocEmailController{
     private final EmailService emailService;
 
     @PostMapping("/send-code")
+    @RateLimit(name = "send-code-ip", key = RateLimitKey.IP, algorithm = RateLimitAlgorithm.SLIDING_WINDOW, limit = 20, window = 3600)
+    @RateLimit(name = "send-code-email", key = RateLimitKey.EMAIL, algorithm = RateLimitAlgorithm.SLIDING_WINDOW, limit = 3, window = 600)
     public ResponseEntity<Void> sendAuthenticatedEmail(@Valid @RequestBody EmailRequest request) {
         emailService.sendAuthenticatedEmail(request);
         return ResponseEntity.ok().build();
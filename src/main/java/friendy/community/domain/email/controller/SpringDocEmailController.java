@@ -18,6 +18,9 @@ public interface SpringDocEmailController {
     @ApiErrorResponse(status = HttpStatus.INTERNAL_SERVER_ERROR, instance = "/send-code", errorCases = {
             @ErrorCase(description = "인증번호 전송 실패", exampleMessage = "이메일 전송에 실패했습니다."),
     })
+    @ApiErrorResponse(status = HttpStatus.TOO_MANY_REQUESTS, instance = "/send-code", errorCases = {
+            @ErrorCase(description = "요청 횟수 초과", exampleMessage = "요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.")
+    })
     ResponseEntity<Void> sendAuthenticatedEmail(EmailRequest request);
 
     @Operation(summary = "이메일 인증코드 검증")
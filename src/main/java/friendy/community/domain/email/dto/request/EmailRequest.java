@@ -1,5 +1,6 @@
 package friendy.community.domain.email.dto.request;
 
+import friendy.community.global.ratelimit.EmailIdentifiable;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -12,5 +13,5 @@ public record EmailRequest(
         @Email(message = "이메일 형식으로 입력해주세요.")
         String email
 
-) {
+) implements EmailIdentifiable {
 }
@@ -0,0 +1,96 @@
+package friendy.community.domain.email.model;
+
+import friendy.community.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, nextAttemptAt"))
+public class EmailOutbox extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    // 인증 코드처럼 민감한 값이 남지 않도록 끝난 메일의 템플릿 변수는 비운다.
+    private static final String REDACTED_VARIABLES = "{}";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false)
+    private String templateName;
+
+    // 템플릿 변수를 JSON 으로 저장한다.
+    @Column(nullable = false, length = 2000)
+    private String variables;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    // 끝난(SENT/FAILED) 메일은 끝난 시각을 담아, 보존 기간 삭제가 (status, next_attempt_at) 인덱스로 찾게 한다.
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime claimedAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public EmailOutbox(final String recipient, final String subject, final String templateName, final String variables) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.templateName = templateName;
+        this.variables = variables;
+        this.status = EmailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void markSent(final LocalDateTime now) {
+        this.status = EmailOutboxStatus.SENT;
+        this.attempts++;
+        this.sentAt = now;
+        this.nextAttemptAt = now;
+        this.lastError = null;
+        this.variables = REDACTED_VARIABLES;
+    }
+
+    public void markRetry(final String error, final LocalDateTime nextAttemptAt) {
+        this.status = EmailOutboxStatus.PENDING;
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void markFailed(final String error, final LocalDateTime now) {
+        this.status = EmailOutboxStatus.FAILED;
+        this.attempts++;
+        this.nextAttemptAt = now;
+        this.lastError = truncate(error);
+        this.variables = REDACTED_VARIABLES;
+    }
+
+    private static String truncate(final String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,9 @@
+package friendy.community.domain.email.model;
+
+public enum EmailOutboxStatus {
+
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
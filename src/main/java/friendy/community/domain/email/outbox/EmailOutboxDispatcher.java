@@ -0,0 +1,283 @@
+package friendy.community.domain.email.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import friendy.community.domain.email.model.EmailOutbox;
+import friendy.community.domain.email.model.EmailOutboxStatus;
+import friendy.community.domain.email.repository.EmailOutboxRepository;
+import friendy.community.domain.email.template.EmailTemplateRenderer;
+import friendy.community.global.concurrent.WorkerThreads;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// 아웃박스에 쌓인 메일을 주기적으로 선점해 전용 풀에서 보낸다. 실패하면 지수적으로 간격을 늘려 다시 시도한다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "friendy.community.email.outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxDispatcher implements MeterBinder {
+
+    private static final TypeReference<Map<String, Object>> VARIABLES_TYPE = new TypeReference<>() {
+    };
+
+    private final EmailOutboxRepository outboxRepository;
+    private final JavaMailSender mailSender;
+    private final EmailTemplateRenderer templateRenderer;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimLease;
+    private final Duration retention;
+    private final int purgeBatchSize;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder latencySum = new LongAdder();
+    private final LongAccumulator latencyMax = new LongAccumulator(Long::max, 0);
+
+    public EmailOutboxDispatcher(
+            final EmailOutboxRepository outboxRepository,
+            final JavaMailSender mailSender,
+            final EmailTemplateRenderer templateRenderer,
+            final ObjectMapper objectMapper,
+            @Value("${friendy.community.email.outbox.workers:4}") final int workers,
+            @Value("${friendy.community.email.outbox.queue-capacity:100}") final int queueCapacity,
+            @Value("${friendy.community.email.outbox.batch-size:50}") final int batchSize,
+            @Value("${friendy.community.email.outbox.max-attempts:5}") final int maxAttempts,
+            @Value("${friendy.community.email.outbox.initial-backoff:2s}") final Duration initialBackoff,
+            @Value("${friendy.community.email.outbox.max-backoff:5m}") final Duration maxBackoff,
+            @Value("${friendy.community.email.outbox.claim-lease:5m}") final Duration claimLease,
+            @Value("${friendy.community.email.outbox.retention:7d}") final Duration retention,
+            @Value("${friendy.community.email.outbox.purge-batch-size:500}") final int purgeBatchSize,
+            @Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.templateRenderer = templateRenderer;
+        this.objectMapper = objectMapper;
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                WorkerThreads.factory("email-outbox-", virtualThreads),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimLease = claimLease;
+        this.retention = retention;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${friendy.community.email.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        final LocalDateTime now = LocalDateTime.now();
+        outboxRepository.releaseExpiredClaims(EmailOutboxStatus.SENDING, EmailOutboxStatus.PENDING, now.minus(claimLease));
+        pending.set(outboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+
+        // 풀이 받을 수 있는 만큼만 가져와, 처리하지 못할 작업을 선점해 두지 않는다.
+        final int capacity = Math.min(batchSize, executor.getQueue().remainingCapacity());
+        if (capacity == 0) {
+            return;
+        }
+        for (Long id : outboxRepository.findDueIds(EmailOutboxStatus.PENDING, now, PageRequest.of(0, capacity))) {
+            if (outboxRepository.claim(id, EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING, now) == 1) {
+                submit(id, now);
+            }
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${friendy.community.email.outbox.purge-interval-ms:3600000}",
+            fixedDelayString = "${friendy.community.email.outbox.purge-interval-ms:3600000}"
+    )
+    public void purge() {
+        purgeFinishedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    // 보존 기간이 지난 SENT/FAILED 메일을 배치 단위로 지운다. 한 번에 지우는 행 수를 제한해 잠금을 짧게 잡는다.
+    public long purgeFinishedBefore(final LocalDateTime cutoff) {
+        long purged = 0;
+        for (EmailOutboxStatus status : List.of(EmailOutboxStatus.SENT, EmailOutboxStatus.FAILED)) {
+            List<Long> ids;
+            do {
+                ids = outboxRepository.findFinishedIdsBefore(status, cutoff, PageRequest.of(0, purgeBatchSize));
+                if (!ids.isEmpty()) {
+                    purged += outboxRepository.deleteAllByIdIn(ids);
+                }
+            } while (ids.size() == purgeBatchSize);
+        }
+        if (purged > 0) {
+            log.info("보존 기간이 지난 아웃박스 메일 {}건을 삭제했습니다.", purged);
+        }
+        return purged;
+    }
+
+    public EmailOutboxStats stats() {
+        final long sentCount = sent.sum();
+        return new EmailOutboxStats(
+                pending.get(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                sentCount,
+                retried.sum(),
+                failed.sum(),
+                sentCount == 0 ? 0 : (double) latencySum.sum() / sentCount,
+                latencyMax.get()
+        );
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("friendy.email.outbox.pending", pending, AtomicLong::get)
+                .description("발송을 기다리는 아웃박스 메일 수")
+                .register(registry);
+        Gauge.builder("friendy.email.outbox.in.flight", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+        Gauge.builder("friendy.email.outbox.queued", executor, pool -> pool.getQueue().size())
+                .register(registry);
+        FunctionCounter.builder("friendy.email.outbox.delivered", sent, LongAdder::sum)
+                .tag("result", "sent")
+                .register(registry);
+        FunctionCounter.builder("friendy.email.outbox.delivered", retried, LongAdder::sum)
+                .tag("result", "retried")
+                .register(registry);
+        FunctionCounter.builder("friendy.email.outbox.delivered", failed, LongAdder::sum)
+                .tag("result", "failed")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void submit(final Long id, final LocalDateTime now) {
+        try {
+            executor.execute(() -> deliver(id));
+        } catch (RejectedExecutionException e) {
+            outboxRepository.claim(id, EmailOutboxStatus.SENDING, EmailOutboxStatus.PENDING, now);
+        }
+    }
+
+    private void deliver(final Long id) {
+        final EmailOutbox outbox = outboxRepository.findForDelivery(id).orElse(null);
+        if (outbox == null) {
+            log.warn("선점한 아웃박스 메일을 찾지 못해 선점을 풉니다. outboxId : {}", id);
+            outboxRepository.claim(id, EmailOutboxStatus.SENDING, EmailOutboxStatus.PENDING, LocalDateTime.now());
+            return;
+        }
+
+        // 템플릿 렌더링 실패처럼 예상하지 못한 예외도 시도로 세어, 같은 메일이 선점 만료마다 끝없이 다시 돌지 않게 한다.
+        try {
+            mailSender.send(createMessage(outbox));
+        } catch (MessagingException | JsonProcessingException | RuntimeException e) {
+            handleFailure(outbox, e);
+            return;
+        }
+
+        final LocalDateTime now = LocalDateTime.now();
+        try {
+            outbox.markSent(now);
+            outboxRepository.save(outbox);
+        } catch (RuntimeException e) {
+            log.error("전송한 메일의 완료 상태를 저장하지 못했습니다. outboxId : {}", id, e);
+            finishClaim(id, EmailOutboxStatus.SENT, now);
+        }
+        recordLatency(outbox, now);
+    }
+
+    private MimeMessage createMessage(final EmailOutbox outbox) throws MessagingException, JsonProcessingException {
+        final Map<String, Object> variables = objectMapper.readValue(outbox.getVariables(), VARIABLES_TYPE);
+
+        final MimeMessage message = mailSender.createMimeMessage();
+        final MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(outbox.getRecipient());
+        helper.setSubject(outbox.getSubject());
+        helper.setText(templateRenderer.render(outbox.getTemplateName(), variables), true);
+        return message;
+    }
+
+    private void handleFailure(final EmailOutbox outbox, final Exception e) {
+        final LocalDateTime now = LocalDateTime.now();
+        final EmailOutboxStatus next;
+        final LocalDateTime nextAttemptAt;
+        if (outbox.getAttempts() + 1 >= maxAttempts) {
+            log.error("이메일 전송 재시도 횟수를 초과했습니다. outboxId : {}", outbox.getId(), e);
+            next = EmailOutboxStatus.FAILED;
+            nextAttemptAt = now;
+            outbox.markFailed(e.getMessage(), now);
+            failed.increment();
+        } else {
+            log.warn("이메일 전송에 실패해 다시 시도합니다. outboxId : {}, attempts : {}", outbox.getId(), outbox.getAttempts() + 1, e);
+            next = EmailOutboxStatus.PENDING;
+            nextAttemptAt = now.plus(backoff(outbox.getAttempts()));
+            outbox.markRetry(e.getMessage(), nextAttemptAt);
+            retried.increment();
+        }
+        try {
+            outboxRepository.save(outbox);
+        } catch (RuntimeException saveFailure) {
+            log.error("메일 전송 실패를 저장하지 못했습니다. outboxId : {}", outbox.getId(), saveFailure);
+            finishClaim(outbox.getId(), next, nextAttemptAt);
+        }
+    }
+
+    // 엔티티 저장이 실패해도 시도 횟수는 올리고 선점은 풀어 둔다. 이마저 실패하면 선점 만료 후 다시 시도된다.
+    private void finishClaim(final Long id, final EmailOutboxStatus next, final LocalDateTime nextAttemptAt) {
+        try {
+            outboxRepository.finishClaim(id, EmailOutboxStatus.SENDING, next, nextAttemptAt);
+        } catch (RuntimeException e) {
+            log.error("아웃박스 메일의 선점을 풀지 못했습니다. outboxId : {}", id, e);
+        }
+    }
+
+    // 여러 작업이 같은 시각에 다시 몰리지 않도록 지연 시간의 절반 범위 안에서 흩뜨린다.
+    Duration backoff(final int previousAttempts) {
+        final long exponential = initialBackoff.toMillis() << Math.min(previousAttempts, 30);
+        final long capped = Math.min(maxBackoff.toMillis(), exponential <= 0 ? Long.MAX_VALUE : exponential);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(capped / 2, capped + 1));
+    }
+
+    private void recordLatency(final EmailOutbox outbox, final LocalDateTime now) {
+        sent.increment();
+        if (outbox.getCreatedDate() == null) {
+            return;
+        }
+        final long latency = Duration.between(outbox.getCreatedDate(), now).toMillis();
+        latencySum.add(latency);
+        latencyMax.accumulate(latency);
+    }
+}
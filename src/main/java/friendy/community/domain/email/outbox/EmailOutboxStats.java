@@ -0,0 +1,13 @@
+package friendy.community.domain.email.outbox;
+
+public record EmailOutboxStats(
+        long pending,
+        int inFlight,
+        int queued,
+        long sent,
+        long retried,
+        long failed,
+        double averageLatencyInMs,
+        long maxLatencyInMs
+) {
+}
@@ -0,0 +1,55 @@
+package friendy.community.domain.email.repository;
+
+import friendy.community.domain.email.model.EmailOutbox;
+import friendy.community.domain.email.model.EmailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    @Query("select e.id from EmailOutbox e where e.status = :status and e.nextAttemptAt <= :now order by e.id")
+    List<Long> findDueIds(@Param("status") EmailOutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 여러 노드가 같은 작업을 가져가지 않도록 상태가 바뀐 경우에만 선점에 성공한다.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update EmailOutbox e set e.status = :to, e.claimedAt = :now where e.id = :id and e.status = :from")
+    int claim(@Param("id") Long id, @Param("from") EmailOutboxStatus from, @Param("to") EmailOutboxStatus to, @Param("now") LocalDateTime now);
+
+    // 전송 도중 노드가 내려가 선점된 채로 남은 작업을 다시 대기 상태로 돌린다.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update EmailOutbox e set e.status = :to where e.status = :from and e.claimedAt < :expiredBefore")
+    int releaseExpiredClaims(@Param("from") EmailOutboxStatus from, @Param("to") EmailOutboxStatus to, @Param("expiredBefore") LocalDateTime expiredBefore);
+
+    // 선점한 작업은 읽기-쓰기 트랜잭션으로 읽어 프라이머리에서 가져온다. 레플리카는 방금 선점한 행을 못 보거나 지난 시도 횟수를 돌려줄 수 있다.
+    @Transactional
+    @Query("select e from EmailOutbox e where e.id = :id")
+    Optional<EmailOutbox> findForDelivery(@Param("id") Long id);
+
+    // 엔티티 저장이 실패했을 때 선점을 풀기 위한 최소 갱신. 오류 메시지처럼 저장을 다시 실패시킬 수 있는 값은 쓰지 않는다.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update EmailOutbox e set e.status = :to, e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt where e.id = :id and e.status = :from")
+    int finishClaim(@Param("id") Long id, @Param("from") EmailOutboxStatus from, @Param("to") EmailOutboxStatus to, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Query("select e.id from EmailOutbox e where e.status = :status and e.nextAttemptAt < :before order by e.nextAttemptAt")
+    List<Long> findFinishedIdsBefore(@Param("status") EmailOutboxStatus status, @Param("before") LocalDateTime before, Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from EmailOutbox e where e.id in :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+
+    long countByStatus(EmailOutboxStatus status);
+}
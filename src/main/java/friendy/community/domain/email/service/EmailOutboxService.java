@@ -0,0 +1,32 @@
+package friendy.community.domain.email.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import friendy.community.domain.email.model.EmailOutbox;
+import friendy.community.domain.email.repository.EmailOutboxRepository;
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    // 전송은 EmailOutboxDispatcher 가 요청 스레드 밖에서 처리한다.
+    @Transactional
+    public Long enqueue(final String recipient, final String subject, final String templateName, final Map<String, Object> variables) {
+        try {
+            final EmailOutbox outbox = new EmailOutbox(recipient, subject, templateName, objectMapper.writeValueAsString(variables));
+            return outboxRepository.save(outbox).getId();
+        } catch (JsonProcessingException e) {
+            throw new FriendyException(ErrorCode.INTERNAL_SERVER_ERROR, "이메일 전송에 실패했습니다.");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package friendy.community.domain.email.template;
+
+import org.unbescape.html.HtmlEscape;
+
+import java.util.List;
+import java.util.Map;
+
+// 정적 조각 사이사이에 변수 값을 끼워 넣는다. segments 는 slots 보다 항상 하나 많다.
+public record CompiledEmailTemplate(
+        List<String> segments,
+        List<String> slots,
+        int staticLength
+) {
+
+    public String render(final Map<String, ?> variables) {
+        final StringBuilder builder = new StringBuilder(staticLength + slots.size() * 16);
+        for (int i = 0; i < slots.size(); i++) {
+            builder.append(segments.get(i));
+            final Object value = variables.get(slots.get(i));
+            if (value != null) {
+                // th:text 와 같은 방식으로 이스케이프해야 Thymeleaf 렌더링 결과와 같아진다.
+                builder.append(HtmlEscape.escapeHtml4Xml(value.toString()));
+            }
+        }
+        builder.append(segments.get(slots.size()));
+        return builder.toString();
+    }
+}
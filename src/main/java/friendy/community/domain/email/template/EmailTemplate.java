@@ -0,0 +1,24 @@
+package friendy.community.domain.email.template;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+@Getter
+@AllArgsConstructor
+public enum EmailTemplate {
+
+    AUTH_CODE("email", List.of("authCode"));
+
+    private final String templateName;
+    private final List<String> variableNames;
+
+    public static Optional<EmailTemplate> findByTemplateName(final String templateName) {
+        return Arrays.stream(values())
+                .filter(template -> template.templateName.equals(templateName))
+                .findFirst();
+    }
+}
@@ -0,0 +1,131 @@
+package friendy.community.domain.email.template;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 시작할 때 템플릿마다 한 번씩 Thymeleaf 로 렌더링해 정적 조각을 만들어 두고, 이후에는 조각을 이어 붙이기만 한다.
+@Slf4j
+@Component
+public class EmailTemplateRenderer {
+
+    private static final String SLOT_MARKER = "__FRIENDY_TEMPLATE_SLOT_";
+    private static final String SLOT_MARKER_END = "__";
+
+    private final SpringTemplateEngine templateEngine;
+    private final Locale defaultLocale;
+    private final Map<String, CompiledEmailTemplate> compiledTemplates = new ConcurrentHashMap<>();
+
+    public EmailTemplateRenderer(
+            final SpringTemplateEngine templateEngine,
+            @Value("${friendy.community.mail.template.locales:ko}") final List<Locale> locales
+    ) {
+        this.templateEngine = templateEngine;
+        this.defaultLocale = locales.get(0);
+        for (EmailTemplate template : EmailTemplate.values()) {
+            for (Locale locale : locales) {
+                compile(template, locale).ifPresent(compiled -> compiledTemplates.put(cacheKey(template.getTemplateName(), locale), compiled));
+            }
+        }
+    }
+
+    public String render(final String templateName, final Map<String, ?> variables) {
+        return render(templateName, defaultLocale, variables);
+    }
+
+    public String render(final String templateName, final Locale locale, final Map<String, ?> variables) {
+        final CompiledEmailTemplate compiled = compiledTemplates.get(cacheKey(templateName, locale));
+        if (compiled != null) {
+            return compiled.render(variables);
+        }
+        final Context context = new Context(locale);
+        context.setVariables(new HashMap<>(variables));
+        return templateEngine.process(templateName, context);
+    }
+
+    public boolean isCompiled(final String templateName, final Locale locale) {
+        return compiledTemplates.containsKey(cacheKey(templateName, locale));
+    }
+
+    // 서로 다른 표식으로 두 번 렌더링해 구조가 같을 때만 조각으로 나눈다. 값에 따라 구조가 바뀌는 템플릿은 Thymeleaf 로 렌더링한다.
+    private Optional<CompiledEmailTemplate> compile(final EmailTemplate template, final Locale locale) {
+        try {
+            final Optional<CompiledEmailTemplate> first = split(template, locale, "A");
+            final Optional<CompiledEmailTemplate> second = split(template, locale, "B");
+            if (first.isEmpty() || !first.equals(second)) {
+                log.info("이메일 템플릿을 미리 컴파일하지 못해 Thymeleaf 로 렌더링합니다. template : {}, locale : {}", template.getTemplateName(), locale);
+                return Optional.empty();
+            }
+            if (!rendersLikeThymeleaf(template, locale, first.get())) {
+                log.info("이메일 템플릿의 이스케이프 방식이 달라 Thymeleaf 로 렌더링합니다. template : {}, locale : {}", template.getTemplateName(), locale);
+                return Optional.empty();
+            }
+            return first;
+        } catch (RuntimeException e) {
+            log.warn("이메일 템플릿 컴파일에 실패했습니다. template : {}, locale : {}", template.getTemplateName(), locale, e);
+            return Optional.empty();
+        }
+    }
+
+    // th:utext 처럼 이스케이프하지 않는 자리가 있으면 결과가 달라지므로, 특수문자가 든 값으로 한 번 더 비교한다.
+    private boolean rendersLikeThymeleaf(final EmailTemplate template, final Locale locale, final CompiledEmailTemplate compiled) {
+        final Map<String, Object> probe = new HashMap<>();
+        for (String variableName : template.getVariableNames()) {
+            probe.put(variableName, "<a href=\"x\">'&'</a>");
+        }
+        final Context context = new Context(locale);
+        context.setVariables(probe);
+        return compiled.render(probe).equals(templateEngine.process(template.getTemplateName(), context));
+    }
+
+    private Optional<CompiledEmailTemplate> split(final EmailTemplate template, final Locale locale, final String variant) {
+        final List<String> variableNames = template.getVariableNames();
+        final Context context = new Context(locale);
+        for (int i = 0; i < variableNames.size(); i++) {
+            context.setVariable(variableNames.get(i), marker(variant, i));
+        }
+        final String rendered = templateEngine.process(template.getTemplateName(), context);
+        if (rendered == null) {
+            return Optional.empty();
+        }
+
+        final List<String> segments = new ArrayList<>();
+        final List<String> slots = new ArrayList<>();
+        int position = 0;
+        int staticLength = 0;
+        while (true) {
+            final int start = rendered.indexOf(SLOT_MARKER + variant, position);
+            if (start < 0) {
+                break;
+            }
+            final int indexStart = start + SLOT_MARKER.length() + variant.length();
+            final int end = rendered.indexOf(SLOT_MARKER_END, indexStart);
+            if (end < 0) {
+                return Optional.empty();
+            }
+            final String segment = rendered.substring(position, start);
+            segments.add(segment);
+            staticLength += segment.length();
+            slots.add(variableNames.get(Integer.parseInt(rendered.substring(indexStart, end))));
+            position = end + SLOT_MARKER_END.length();
+        }
+        final String lastSegment = rendered.substring(position);
+        segments.add(lastSegment);
+        staticLength += lastSegment.length();
+
+        return Optional.of(new CompiledEmailTemplate(List.copyOf(segments), List.copyOf(slots), staticLength));
+    }
+
+    private String marker(final String variant, final int index) {
+        return SLOT_MARKER + variant + index + SLOT_MARKER_END;
+    }
+
+    private String cacheKey(final String templateName, final Locale locale) {
+        return templateName + ":" + locale;
+    }
+}
@@ -1,9 +1,18 @@
 package friendy.community.domain.hashtag.model;
 
+import friendy.community.global.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
+// 한 번 저장된 해시태그는 바뀌지 않으므로 읽기 전용 캐시로 둔다.
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = SecondLevelCacheConfig.HASHTAG_REGION)
+@NaturalIdCache(region = SecondLevelCacheConfig.HASHTAG_NATURAL_ID_REGION)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Getter
@@ -14,6 +23,7 @@ public class Hashtag {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String name;
 
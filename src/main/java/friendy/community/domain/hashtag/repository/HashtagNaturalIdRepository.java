@@ -0,0 +1,10 @@
+package friendy.community.domain.hashtag.repository;
+
+import friendy.community.domain.hashtag.model.Hashtag;
+
+import java.util.List;
+
+public interface HashtagNaturalIdRepository {
+
+    List<Hashtag> findAllByNameIn(List<String> names);
+}
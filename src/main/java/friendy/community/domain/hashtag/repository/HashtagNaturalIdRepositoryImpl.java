@@ -0,0 +1,33 @@
+package friendy.community.domain.hashtag.repository;
+
+import friendy.community.domain.hashtag.model.Hashtag;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// 이름 목록을 자연 키로 한 번에 읽는다. 영속성 컨텍스트에 이미 있는 해시태그는 다시 조회하지 않고, 없는 이름은 결과에서 빠진다.
+@Transactional(readOnly = true)
+public class HashtagNaturalIdRepositoryImpl implements HashtagNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Hashtag> findAllByNameIn(final List<String> names) {
+        if (names.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final List<Hashtag> hashtags = entityManager.unwrap(Session.class)
+                .byMultipleNaturalId(Hashtag.class)
+                .enableOrderedReturn(false)
+                .multiLoad(names.stream().distinct().toList());
+        return hashtags.stream()
+                .filter(Objects::nonNull)
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    }
+}
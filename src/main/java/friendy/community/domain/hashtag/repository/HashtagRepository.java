@@ -4,9 +4,6 @@ import friendy.community.domain.hashtag.model.Hashtag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-
 @Repository
-public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
-    List<Hashtag> findAllByNameIn(List<String> names);
+public interface HashtagRepository extends JpaRepository<Hashtag, Long>, HashtagNaturalIdRepository {
 }
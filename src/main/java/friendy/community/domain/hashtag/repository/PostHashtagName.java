@@ -0,0 +1,7 @@
+package friendy.community.domain.hashtag.repository;
+
+public record PostHashtagName(
+        Long postId,
+        String name
+) {
+}
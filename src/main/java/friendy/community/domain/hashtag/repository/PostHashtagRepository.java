@@ -2,10 +2,23 @@ package friendy.community.domain.hashtag.repository;
 
 import friendy.community.domain.post.model.PostHashtag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface PostHashtagRepository extends JpaRepository<PostHashtag, Long> {
 
     void deleteAllByPostId(Long postId);
+
+    @Query("select new friendy.community.domain.hashtag.repository.PostHashtagName(ph.post.id, h.name) " +
+            "from PostHashtag ph join ph.hashtag h where ph.post.id in :postIds")
+    List<PostHashtagName> findNamesByPostIdIn(@Param("postIds") List<Long> postIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from PostHashtag ph where ph.post.id in :postIds")
+    int deleteAllByPostIdIn(@Param("postIds") List<Long> postIds);
 }
@@ -0,0 +1,234 @@
+package friendy.community.domain.member.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import friendy.community.domain.member.model.Member;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.StatelessSession;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class MemberCache implements MessageListener, MeterBinder {
+
+    public static final String INVALIDATION_CHANNEL = "member-cache:invalidate";
+    private static final String MESSAGE_DELIMITER = ":";
+
+    private final StringRedisTemplate redisTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Cache<String, CachedMember> membersByEmail;
+    private final Cache<Long, CachedMember> membersById;
+    // 무효화가 일어날 때마다 증가시켜, 그 이전에 읽어 둔 값이 캐시에 늦게 들어가는 것을 막는다.
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+    public MemberCache(
+            final StringRedisTemplate redisTemplate,
+            final RedisMessageListenerContainer listenerContainer,
+            final EntityManagerFactory entityManagerFactory,
+            @Value("${friendy.community.member.cache.maximum-size:10000}") final long maximumSize,
+            @Value("${friendy.community.member.cache.expire-after-write:10m}") final Duration expireAfterWrite
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.membersByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.membersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public Optional<Member> getByEmail(final String email, final Function<String, Optional<Member>> loader) {
+        final CachedMember cached = membersByEmail.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached.toMember());
+        }
+        return load(email, loader);
+    }
+
+    public Optional<Member> getById(final Long id, final Function<Long, Optional<Member>> loader) {
+        final CachedMember cached = membersById.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached.toMember());
+        }
+        return load(id, loader);
+    }
+
+    public void evict(final Member member) {
+        evictLocally(member.getId(), member.getEmail());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocally(member.getId(), member.getEmail());
+                    publishInvalidation(member.getId(), member.getEmail());
+                }
+            });
+            return;
+        }
+        publishInvalidation(member.getId(), member.getEmail());
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        final String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        final int delimiterIndex = body.indexOf(MESSAGE_DELIMITER);
+        if (delimiterIndex < 0) {
+            log.warn("[MemberCache] 잘못된 무효화 메시지: {}", body);
+            return;
+        }
+        final String id = body.substring(0, delimiterIndex);
+        final String email = body.substring(delimiterIndex + 1);
+        final Long memberId = id.isEmpty() ? null : Long.valueOf(id);
+        evictSecondLevelCache(memberId, email);
+        evictLocally(memberId, email);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, membersByEmail, "member-by-email");
+        CaffeineCacheMetrics.monitor(registry, membersById, "member-by-id");
+        Gauge.builder("friendy.cache.hit.ratio", membersByEmail, cache -> cache.stats().hitRate())
+                .tag("cache", "member-by-email")
+                .register(registry);
+        Gauge.builder("friendy.cache.hit.ratio", membersById, cache -> cache.stats().hitRate())
+                .tag("cache", "member-by-id")
+                .register(registry);
+    }
+
+    public CacheStats emailCacheStats() {
+        return membersByEmail.stats();
+    }
+
+    public CacheStats idCacheStats() {
+        return membersById.stats();
+    }
+
+    private <K> Optional<Member> load(final K key, final Function<K, Optional<Member>> loader) {
+        final long sequence = invalidationSequence.get();
+        final Optional<Member> loaded = loader.apply(key);
+        loaded.ifPresent(member -> putAfterCommit(CachedMember.from(member), sequence));
+        return loaded;
+    }
+
+    // 롤백될 수 있는 트랜잭션 안에서 읽은 값은 커밋이 확인된 뒤에만 캐시에 올린다.
+    private void putAfterCommit(final CachedMember cachedMember, final long sequence) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(cachedMember, sequence);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(cachedMember, sequence);
+            }
+        });
+    }
+
+    private void put(final CachedMember cachedMember, final long sequence) {
+        if (invalidationSequence.get() != sequence) {
+            return;
+        }
+        membersByEmail.put(cachedMember.email(), cachedMember);
+        if (cachedMember.id() != null) {
+            membersById.put(cachedMember.id(), cachedMember);
+        }
+    }
+
+    private void evictLocally(final Long id, final String email) {
+        invalidationSequence.incrementAndGet();
+        if (email != null) {
+            membersByEmail.invalidate(email);
+        }
+        if (id != null) {
+            membersById.invalidate(id);
+        }
+    }
+
+    // 다른 노드에서 바뀐 회원은 이 노드의 Hibernate 2차 캐시에도 남아 있다. 로컬 캐시보다 먼저 비워야 다시 적재할 때 DB 값을 읽는다.
+    private void evictSecondLevelCache(final Long id, final String email) {
+        final SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        if (id != null) {
+            sessionFactory.getCache().evictEntityData(Member.class, id);
+        }
+        evictNaturalIdEntry(sessionFactory, email);
+    }
+
+    // Cache.evictNaturalIdData 는 영역 전체를 비우므로, Hibernate 가 적재할 때와 같은 방식으로 키를 만들어 이 이메일 항목만 지운다.
+    private void evictNaturalIdEntry(final SessionFactoryImplementor sessionFactory, final String email) {
+        final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(Member.class);
+        final NaturalIdDataAccess naturalIdAccess = persister.getNaturalIdCacheAccessStrategy();
+        if (naturalIdAccess == null) {
+            return;
+        }
+        // 키 생성에 세션이 필요할 뿐 DB 에는 가지 않으므로, 연결을 잡지 않는 무상태 세션을 잠깐 연다.
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            final Object key = naturalIdAccess.generateCacheKey(email, persister, (SharedSessionContractImplementor) session);
+            naturalIdAccess.evict(key);
+        }
+    }
+
+    private void publishInvalidation(final Long id, final String email) {
+        final String message = (id == null ? "" : id.toString()) + MESSAGE_DELIMITER + email;
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.warn("[MemberCache] 캐시 무효화 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private record CachedMember(
+            Long id,
+            String email,
+            String nickname,
+            String password,
+            String salt,
+            LocalDate birthDate
+    ) {
+        static CachedMember from(final Member member) {
+            return new CachedMember(
+                    member.getId(),
+                    member.getEmail(),
+                    member.getNickname(),
+                    member.getPassword(),
+                    member.getSalt(),
+                    member.getBirthDate()
+            );
+        }
+
+        // 캐시된 값은 스레드 간에 공유되므로 호출할 때마다 분리된(detached) 사본을 돌려준다.
+        Member toMember() {
+            return new Member(id, email, nickname, password, salt, birthDate);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package friendy.community.domain.member.cache;
+
+import friendy.community.domain.member.repository.MemberIdentity;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.global.bloom.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 가입된 이메일/닉네임의 블룸 필터. "확실히 없음"일 때만 DB 조회를 건너뛸 수 있다.
+@Slf4j
+@Component
+public class MemberIdentityFilter implements MessageListener {
+
+    public static final String REGISTRATION_CHANNEL = "member-identity:registered";
+    private static final String MESSAGE_DELIMITER = "\n";
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final int batchSize;
+    private final long staleThreshold;
+    // 탈퇴로 필터에 남게 된 값의 수. 많아지면 "있을 수도 있음" 응답이 늘어 DB 조회가 잦아진다.
+    private final AtomicLong staleEntries = new AtomicLong();
+    // 재구성은 DB 를 읽으므로 synchronized 대신 ReentrantLock 을 써서 가상 스레드가 캐리어에 고정되지 않게 한다.
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 준비되기 전(null)에는 모든 값을 "있을 수도 있음"으로 보고 DB 로 넘긴다.
+    private volatile Filters current;
+    private volatile Filters rebuilding;
+
+    public MemberIdentityFilter(
+            final MemberRepository memberRepository,
+            final StringRedisTemplate redisTemplate,
+            final RedisMessageListenerContainer listenerContainer,
+            @Value("${friendy.community.member.identity-filter.enabled:true}") final boolean enabled,
+            @Value("${friendy.community.member.identity-filter.expected-insertions:1000000}") final long expectedInsertions,
+            @Value("${friendy.community.member.identity-filter.false-positive-probability:0.001}") final double falsePositiveProbability,
+            @Value("${friendy.community.member.identity-filter.batch-size:1000}") final int batchSize,
+            @Value("${friendy.community.member.identity-filter.stale-threshold:1000}") final long staleThreshold
+    ) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.batchSize = batchSize;
+        this.staleThreshold = staleThreshold;
+        listenerContainer.addMessageListener(this, new ChannelTopic(REGISTRATION_CHANNEL));
+    }
+
+    public boolean mightContainEmail(final String email) {
+        final Filters filters = current;
+        return filters == null || filters.emails().mightContain(normalize(email));
+    }
+
+    public boolean mightContainNickname(final String nickname) {
+        final Filters filters = current;
+        return filters == null || filters.nicknames().mightContain(normalize(nickname));
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    // 가입이 커밋된 뒤에 반영해야 롤백된 가입이 다른 노드에까지 퍼지지 않는다.
+    public void register(final String email, final String nickname) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            registerLocally(email, nickname);
+            publishRegistration(email, nickname);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                registerLocally(email, nickname);
+                publishRegistration(email, nickname);
+            }
+        });
+    }
+
+    // 블룸 필터는 값을 지울 수 없으므로 탈퇴한 회원의 값은 다음 재구성 전까지 DB 조회로 판별된다.
+    public void unregister() {
+        staleEntries.incrementAndGet();
+    }
+
+    public long staleEntries() {
+        return staleEntries.get();
+    }
+
+    @Scheduled(
+            initialDelayString = "${friendy.community.member.identity-filter.rebuild-check-interval-ms:600000}",
+            fixedDelayString = "${friendy.community.member.identity-filter.rebuild-check-interval-ms:600000}"
+    )
+    public void rebuildIfStale() {
+        if (staleEntries.get() >= staleThreshold) {
+            rebuild();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            final long staleBeforeRebuild = staleEntries.get();
+            final Filters filters = new Filters(
+                    new BloomFilter(expectedInsertions, falsePositiveProbability),
+                    new BloomFilter(expectedInsertions, falsePositiveProbability)
+            );
+            rebuilding = filters;
+            long lastId = 0L;
+            long count = 0L;
+            List<MemberIdentity> identities;
+            do {
+                identities = memberRepository.findIdentitiesAfter(lastId, PageRequest.of(0, batchSize));
+                for (final MemberIdentity identity : identities) {
+                    filters.put(identity.email(), identity.nickname());
+                    lastId = identity.id();
+                }
+                count += identities.size();
+            } while (identities.size() == batchSize);
+            current = filters;
+            staleEntries.addAndGet(-staleBeforeRebuild);
+            log.info("[MemberIdentityFilter] 회원 {}명으로 필터 구성 완료", count);
+        } catch (RuntimeException e) {
+            log.warn("[MemberIdentityFilter] 필터 구성 실패, 기존 필터를 유지합니다: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        final String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        final int delimiterIndex = body.indexOf(MESSAGE_DELIMITER);
+        if (delimiterIndex < 0) {
+            log.warn("[MemberIdentityFilter] 잘못된 등록 메시지: {}", body);
+            return;
+        }
+        registerLocally(body.substring(0, delimiterIndex), body.substring(delimiterIndex + 1));
+    }
+
+    // 재구성 중인 필터를 먼저 읽어야, 교체 직후 등록된 값이 새 필터에서 빠지지 않는다.
+    private void registerLocally(final String email, final String nickname) {
+        final Filters pending = rebuilding;
+        if (pending != null) {
+            pending.put(email, nickname);
+        }
+        final Filters filters = current;
+        if (filters != null) {
+            filters.put(email, nickname);
+        }
+    }
+
+    private void publishRegistration(final String email, final String nickname) {
+        try {
+            redisTemplate.convertAndSend(REGISTRATION_CHANNEL, email + MESSAGE_DELIMITER + nickname);
+        } catch (RuntimeException e) {
+            log.warn("[MemberIdentityFilter] 등록 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    // DB 콜레이션이 대소문자를 구분하지 않을 수 있으므로 소문자로 넣어 "확실히 없음"을 잘못 답하지 않게 한다.
+    private static String normalize(final String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private record Filters(BloomFilter emails, BloomFilter nicknames) {
+
+        void put(final String email, final String nickname) {
+            emails.put(normalize(email));
+            nicknames.put(normalize(nickname));
+        }
+    }
+}
@@ -2,12 +2,18 @@ package friendy.community.domain.member.controller;
 
 import friendy.community.domain.member.dto.request.PasswordRequest;
 import friendy.community.domain.member.dto.request.MemberSignUpRequest;
+import friendy.community.domain.member.dto.response.FindAllSearchMemberResponse;
+import friendy.community.domain.member.dto.response.NicknameAvailabilityResponse;
 import friendy.community.domain.member.service.MemberService;
+import friendy.community.global.ratelimit.RateLimit;
+import friendy.community.global.ratelimit.RateLimitKey;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
@@ -31,4 +37,20 @@ public class MemberController implements SpringDocMemberController{
 
         return ResponseEntity.ok().build();
     }
+
+    @GetMapping("/members/nickname/availability")
+    public ResponseEntity<NicknameAvailabilityResponse> checkNicknameAvailability(
+            @RequestParam String nickname
+    ) {
+        return ResponseEntity.ok(memberService.checkNicknameAvailability(nickname));
+    }
+
+    @GetMapping("/members/search")
+    @RateLimit(name = "member-search-ip", key = RateLimitKey.IP, limit = 120, window = 60)
+    public ResponseEntity<FindAllSearchMemberResponse> searchMembers(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page
+    ) {
+        return ResponseEntity.ok(memberService.searchMembers(keyword, page));
+    }
 }
@@ -2,6 +2,8 @@ package friendy.community.domain.member.controller;
 
 import friendy.community.domain.member.dto.request.PasswordRequest;
 import friendy.community.domain.member.dto.request.MemberSignUpRequest;
+import friendy.community.domain.member.dto.response.FindAllSearchMemberResponse;
+import friendy.community.domain.member.dto.response.NicknameAvailabilityResponse;
 import friendy.community.global.swagger.error.ApiErrorResponse;
 import friendy.community.global.swagger.error.ErrorCase;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,6 +15,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "회원 API", description = "회원 API")
 public interface SpringDocMemberController {
@@ -40,4 +43,29 @@ public interface SpringDocMemberController {
             @ErrorCase(description = "이메일 불일치", exampleMessage = "해당 이메일의 회원이 존재하지 않습니다.")
     })
     ResponseEntity<Void> password(PasswordRequest passwordRequest);
+
+    @Operation(summary = "닉네임 사용 가능 여부 확인", description = "입력 중인 닉네임을 이미 사용 중인 회원이 있는지 확인합니다.")
+    @ApiResponse(responseCode = "200", description = "닉네임 확인 성공")
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/members/nickname/availability", errorCases = {
+            @ErrorCase(description = "닉네임 입력 없음", exampleMessage = "닉네임이 입력되지 않았습니다."),
+            @ErrorCase(description = "닉네임 글자수 오류", exampleMessage = "닉네임은 2~20자 사이로 입력해주세요."),
+    })
+    ResponseEntity<NicknameAvailabilityResponse> checkNicknameAvailability(
+            @RequestParam String nickname
+    );
+
+    @Operation(summary = "닉네임으로 회원 검색", description = "닉네임 접두사 또는 초성(예: ㅊㄱ → 철구)으로 회원을 검색합니다. 일치하는 닉네임, 짧은 닉네임 순으로 10명씩 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "회원 검색 성공")
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/members/search", errorCases = {
+            @ErrorCase(description = "검색어 입력 없음", exampleMessage = "검색어가 입력되지 않았습니다."),
+            @ErrorCase(description = "검색어 글자수 오류", exampleMessage = "검색어는 20자 이하로 입력해주세요."),
+            @ErrorCase(description = "페이지 번호 오류", exampleMessage = "페이지 번호는 0 이상이어야 합니다."),
+    })
+    @ApiErrorResponse(status = HttpStatus.TOO_MANY_REQUESTS, instance = "/members/search", errorCases = {
+            @ErrorCase(description = "요청 횟수 초과", exampleMessage = "요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.")
+    })
+    ResponseEntity<FindAllSearchMemberResponse> searchMembers(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page
+    );
 }
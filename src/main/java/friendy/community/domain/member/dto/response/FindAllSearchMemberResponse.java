@@ -0,0 +1,9 @@
+package friendy.community.domain.member.dto.response;
+
+import java.util.List;
+
+public record FindAllSearchMemberResponse(
+        List<SearchMemberResponse> members,
+        Integer totalPages
+) {
+}
@@ -0,0 +1,14 @@
+package friendy.community.domain.member.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record NicknameAvailabilityResponse(
+        @Schema(description = "확인한 닉네임", example = "bokSungKim")
+        String nickname,
+        @Schema(description = "사용 가능 여부", example = "true")
+        boolean available
+) {
+    public static NicknameAvailabilityResponse of(final String nickname, final boolean available) {
+        return new NicknameAvailabilityResponse(nickname, available);
+    }
+}
@@ -0,0 +1,15 @@
+package friendy.community.domain.member.dto.response;
+
+import friendy.community.domain.member.search.NicknameSearchResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record SearchMemberResponse(
+        @Schema(description = "회원 ID", example = "1")
+        Long id,
+        @Schema(description = "닉네임", example = "철구")
+        String nickname
+) {
+    public static SearchMemberResponse from(final NicknameSearchResult.Hit hit) {
+        return new SearchMemberResponse(hit.memberId(), hit.nickname());
+    }
+}
@@ -1,5 +1,23 @@
 package friendy.community.domain.member.encryption;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
 public interface PasswordEncryptor {
+    String algorithm();
+
     String encrypt(String plainPassword, String salt);
+
+    // 저장된 해시가 이 알고리즘으로 만들어졌는지 판별한다.
+    boolean supports(String encryptedPassword);
+
+    default boolean matches(String plainPassword, String salt, String encryptedPassword) {
+        return MessageDigest.isEqual(
+                encrypt(plainPassword, salt).getBytes(StandardCharsets.UTF_8),
+                encryptedPassword.getBytes(StandardCharsets.UTF_8));
+    }
+
+    default boolean needsUpgrade(String encryptedPassword) {
+        return false;
+    }
 }
@@ -0,0 +1,121 @@
+package friendy.community.domain.member.encryption;
+
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+
+// 해시 계산은 CPU 를 오래 점유하므로 전용 풀에서만 돌려, 로그인이 몰려도 다른 요청을 처리할 여유를 남긴다.
+@Component
+public class PasswordHashingService implements MeterBinder {
+
+    private final List<PasswordEncryptor> encryptors;
+    private final PasswordEncryptor currentEncryptor;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutInMs;
+
+    public PasswordHashingService(
+            final List<PasswordEncryptor> encryptors,
+            @Value("${friendy.community.password.algorithm:pbkdf2}") final String algorithm,
+            @Value("${friendy.community.password.hashing.pool-size:0}") final int poolSize,
+            @Value("${friendy.community.password.hashing.queue-capacity:64}") final int queueCapacity,
+            @Value("${friendy.community.password.hashing.timeout:5s}") final Duration timeout
+    ) {
+        this.encryptors = encryptors;
+        this.currentEncryptor = encryptors.stream()
+                .filter(encryptor -> encryptor.algorithm().equals(algorithm))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("지원하지 않는 비밀번호 암호화 알고리즘입니다 : " + algorithm));
+        final int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                // CPU 만 쓰는 작업이라 가상 스레드 모드에서도 플랫폼 스레드로 둔다.
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeoutInMs = timeout.toMillis();
+    }
+
+    public String hash(final String plainPassword, final String salt) {
+        return execute(() -> currentEncryptor.encrypt(plainPassword, salt));
+    }
+
+    public boolean matches(final String plainPassword, final String salt, final String encryptedPassword) {
+        final PasswordEncryptor encryptor = findEncryptor(encryptedPassword);
+        if (encryptor == null) {
+            return false;
+        }
+        return execute(() -> encryptor.matches(plainPassword, salt, encryptedPassword));
+    }
+
+    public boolean needsUpgrade(final String encryptedPassword) {
+        return !currentEncryptor.supports(encryptedPassword) || currentEncryptor.needsUpgrade(encryptedPassword);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("friendy.password.hashing.queued", this, PasswordHashingService::queuedTasks)
+                .description("해시 계산을 기다리는 작업 수")
+                .register(registry);
+        Gauge.builder("friendy.password.hashing.active", this, PasswordHashingService::activeTasks)
+                .description("해시를 계산 중인 작업 수")
+                .register(registry);
+    }
+
+    public int queuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    public int activeTasks() {
+        return executor.getActiveCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private PasswordEncryptor findEncryptor(final String encryptedPassword) {
+        return encryptors.stream()
+                .filter(encryptor -> encryptor.supports(encryptedPassword))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private <T> T execute(final Callable<T> task) {
+        final Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new FriendyException(ErrorCode.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutInMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new FriendyException(ErrorCode.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FriendyException(ErrorCode.INTERNAL_SERVER_ERROR, "비밀번호 암호화 중 작업이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new FriendyException(ErrorCode.INTERNAL_SERVER_ERROR, "비밀번호 암호화에 실패하였습니다.");
+        }
+    }
+}
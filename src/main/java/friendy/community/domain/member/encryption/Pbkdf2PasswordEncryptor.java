@@ -0,0 +1,89 @@
+package friendy.community.domain.member.encryption;
+
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+@Component
+public class Pbkdf2PasswordEncryptor implements PasswordEncryptor {
+
+    public static final String PREFIX = "{pbkdf2}";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String ITERATION_DELIMITER = "$";
+    private static final int KEY_LENGTH = 256;
+    private static final int MALFORMED = -1;
+
+    private final int iterations;
+
+    public Pbkdf2PasswordEncryptor(@Value("${friendy.community.password.pbkdf2.iterations:310000}") final int iterations) {
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String algorithm() {
+        return "pbkdf2";
+    }
+
+    // 저장 형식 : {pbkdf2}<반복 횟수>$<Base64 해시>
+    @Override
+    public String encrypt(String plainPassword, String salt) {
+        return encrypt(plainPassword, salt, iterations);
+    }
+
+    @Override
+    public boolean supports(String encryptedPassword) {
+        return encryptedPassword.startsWith(PREFIX);
+    }
+
+    // 반복 횟수를 올린 뒤에는 기존 해시도 다음 로그인 때 새 비용으로 다시 만든다.
+    @Override
+    public boolean needsUpgrade(String encryptedPassword) {
+        return extractIterations(encryptedPassword) < iterations;
+    }
+
+    @Override
+    public boolean matches(String plainPassword, String salt, String encryptedPassword) {
+        final int iterationCount = extractIterations(encryptedPassword);
+        if (iterationCount == MALFORMED) {
+            return false;
+        }
+        final String recomputed = encrypt(plainPassword, salt, iterationCount);
+        return MessageDigest.isEqual(
+                recomputed.getBytes(StandardCharsets.UTF_8),
+                encryptedPassword.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String encrypt(String plainPassword, String salt, int iterationCount) {
+        final PBEKeySpec spec = new PBEKeySpec(plainPassword.toCharArray(), salt.getBytes(StandardCharsets.UTF_8), iterationCount, KEY_LENGTH);
+        try {
+            final byte[] hash = SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+            return PREFIX + iterationCount + ITERATION_DELIMITER + Base64.getEncoder().encodeToString(hash);
+        } catch (GeneralSecurityException e) {
+            throw new FriendyException(ErrorCode.INTERNAL_SERVER_ERROR, "암호화 알고리즘이 잘못 명시되었습니다.");
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    // 형식이 깨진 해시는 MALFORMED 로 돌려, 일치하지 않고 재암호화가 필요한 해시로 다룬다.
+    private int extractIterations(String encryptedPassword) {
+        final int delimiterIndex = encryptedPassword.indexOf(ITERATION_DELIMITER, PREFIX.length());
+        if (delimiterIndex < 0) {
+            return MALFORMED;
+        }
+        try {
+            final int iterationCount = Integer.parseInt(encryptedPassword.substring(PREFIX.length(), delimiterIndex));
+            return iterationCount > 0 ? iterationCount : MALFORMED;
+        } catch (NumberFormatException e) {
+            return MALFORMED;
+        }
+    }
+}
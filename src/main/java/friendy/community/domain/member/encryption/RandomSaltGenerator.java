@@ -8,11 +8,13 @@ import java.util.Base64;
 @Component
 public class RandomSaltGenerator implements SaltGenerator {
 
+    // SecureRandom 은 스레드 안전하므로 매번 새로 만들지 않고 공유한다.
+    private static final SecureRandom BYTE_GENERATOR = new SecureRandom();
+
     @Override
     public String generate() {
-        SecureRandom byteGenerator = new SecureRandom();
         byte[] saltByte = new byte[32];
-        byteGenerator.nextBytes(saltByte);
+        BYTE_GENERATOR.nextBytes(saltByte);
         return Base64.getEncoder().encodeToString(saltByte);
     }
 
@@ -4,27 +4,40 @@ import friendy.community.global.exception.ErrorCode;
 import friendy.community.global.exception.FriendyException;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 
 @Component
-public class SHA2PasswordEncryptor implements PasswordEncryptor{
+public class SHA2PasswordEncryptor implements PasswordEncryptor {
 
-    private final MessageDigest digest;
+    // MessageDigest 는 스레드 안전하지 않으므로 스레드마다 하나씩 둔다.
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(SHA2PasswordEncryptor::createDigest);
 
-    public SHA2PasswordEncryptor() {
-        try {
-            digest = MessageDigest.getInstance("SHA-256");
-        } catch (NoSuchAlgorithmException e) {
-            throw new FriendyException(ErrorCode.INTERNAL_SERVER_ERROR, "암호화 알고리즘이 잘못 명시되었습니다.");
-        }
+    @Override
+    public String algorithm() {
+        return "sha256";
     }
 
     @Override
     public String encrypt(String plainPassword, String salt) {
         String passwordWithSalt = plainPassword + salt;
-        byte[] encryptByte = digest.digest(passwordWithSalt.getBytes());
+        byte[] encryptByte = DIGEST.get().digest(passwordWithSalt.getBytes(StandardCharsets.UTF_8));
         return Base64.getEncoder().encodeToString(encryptByte);
     }
+
+    // 접두어가 없는 해시는 모두 기존 SHA-256 방식으로 저장된 것이다.
+    @Override
+    public boolean supports(String encryptedPassword) {
+        return !encryptedPassword.startsWith("{");
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new FriendyException(ErrorCode.INTERNAL_SERVER_ERROR, "암호화 알고리즘이 잘못 명시되었습니다.");
+        }
+    }
 }
@@ -0,0 +1,8 @@
+package friendy.community.domain.member.repository;
+
+public record MemberIdentity(
+        Long id,
+        String email,
+        String nickname
+) {
+}
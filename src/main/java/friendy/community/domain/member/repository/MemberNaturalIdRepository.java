@@ -0,0 +1,10 @@
+package friendy.community.domain.member.repository;
+
+import friendy.community.domain.member.model.Member;
+
+import java.util.Optional;
+
+public interface MemberNaturalIdRepository {
+
+    Optional<Member> findByEmail(String email);
+}
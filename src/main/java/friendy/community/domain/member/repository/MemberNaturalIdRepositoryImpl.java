@@ -0,0 +1,24 @@
+package friendy.community.domain.member.repository;
+
+import friendy.community.domain.member.model.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// 파생 쿼리(JPQL)는 2차 캐시를 거치지 않으므로, 이메일 조회는 자연 키 캐시 → 엔티티 캐시 → DB 순으로 찾는 자연 키 API 로 한다.
+@Transactional(readOnly = true)
+public class MemberNaturalIdRepositoryImpl implements MemberNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Member> findByEmail(final String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Member.class)
+                .loadOptional(email);
+    }
+}
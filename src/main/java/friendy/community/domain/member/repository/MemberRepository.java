@@ -1,18 +1,23 @@
 package friendy.community.domain.member.repository;
 
 import friendy.community.domain.member.model.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.List;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberNaturalIdRepository {
 
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
 
-    Optional<Member> findByEmail(String email);
+    @Query("select new friendy.community.domain.member.repository.MemberIdentity(m.id, m.email, m.nickname) " +
+            "from Member m where m.id > :lastId order by m.id")
+    List<MemberIdentity> findIdentitiesAfter(@Param("lastId") Long lastId, Pageable pageable);
 
 }
@@ -0,0 +1,79 @@
+package friendy.community.domain.member.search;
+
+import java.util.Locale;
+
+// 한글 음절을 초성으로 분해하고, 초성이 섞인 검색어와 닉네임을 비교한다.
+public final class Hangul {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+    private static final char[] CHOSUNGS = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private Hangul() {
+    }
+
+    public static boolean isSyllable(final char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    public static boolean isChosung(final char c) {
+        for (final char chosung : CHOSUNGS) {
+            if (chosung == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static char chosungOf(final char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return CHOSUNGS[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG];
+    }
+
+    // 음절은 초성으로 바꾸고 나머지 문자는 소문자로 맞춘 색인 키를 만든다. ("철구" -> "ㅊㄱ")
+    public static String toChosungKey(final String value) {
+        final String lowerCased = value.toLowerCase(Locale.ROOT);
+        final char[] chars = new char[lowerCased.length()];
+        for (int i = 0; i < lowerCased.length(); i++) {
+            chars[i] = chosungOf(lowerCased.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    // 검색어에서 첫 초성 앞까지의 소문자 접두사. 이 부분은 닉네임에 글자 그대로 있어야 일치한다. ("철ㄱ" -> "철", "ㅊㄱ" -> "")
+    public static String literalPrefix(final String query) {
+        final String lowerCased = query.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lowerCased.length(); i++) {
+            if (isChosung(lowerCased.charAt(i))) {
+                return lowerCased.substring(0, i);
+            }
+        }
+        return lowerCased;
+    }
+
+    // 검색어의 각 문자가 닉네임의 같은 위치 문자와 같거나, 초성이면 그 음절의 초성과 같아야 한다. ("철ㄱ" 은 "철구" 와 일치)
+    public static boolean matchesPrefix(final String nickname, final String query) {
+        if (query.length() > nickname.length()) {
+            return false;
+        }
+        final String lowerNickname = nickname.toLowerCase(Locale.ROOT);
+        final String lowerQuery = query.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lowerQuery.length(); i++) {
+            final char expected = lowerQuery.charAt(i);
+            final char actual = lowerNickname.charAt(i);
+            if (expected == actual) {
+                continue;
+            }
+            if (!isChosung(expected) || chosungOf(actual) != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
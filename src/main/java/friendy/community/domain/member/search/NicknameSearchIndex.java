@@ -0,0 +1,213 @@
+package friendy.community.domain.member.search;
+
+import friendy.community.domain.member.repository.MemberIdentity;
+import friendy.community.domain.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// 초성 키 순, 소문자 닉네임 순으로 정렬된 두 닉네임 색인. 접두사 범위만 훑으므로 검색마다 member 테이블을 스캔하지 않는다.
+@Slf4j
+@Component
+public class NicknameSearchIndex implements MessageListener {
+
+    public static final String CHANGE_CHANNEL = "member-search:changed";
+    private static final String MESSAGE_DELIMITER = "\n";
+    private static final String ADDED = "+";
+    private static final String REMOVED = "-";
+
+    private static final Comparator<Entry> INDEX_ORDER = Comparator.comparing(Entry::chosungKey)
+            .thenComparing(Entry::nickname)
+            .thenComparingLong(Entry::memberId);
+    private static final Comparator<Entry> LITERAL_ORDER = Comparator.comparing(Entry::literalKey)
+            .thenComparing(Entry::nickname)
+            .thenComparingLong(Entry::memberId);
+    // 완전히 일치하는 닉네임, 짧은 닉네임, 사전순 순서로 보여준다.
+    private static final Comparator<Entry> RANK_ORDER = Comparator.comparingInt(Entry::length)
+            .thenComparing(Entry::nickname)
+            .thenComparingLong(Entry::memberId);
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final int batchSize;
+    private final int maxCandidates;
+    private final int maxScanned;
+    private final NavigableSet<Entry> entries = new ConcurrentSkipListSet<>(INDEX_ORDER);
+    private final NavigableSet<Entry> entriesByNickname = new ConcurrentSkipListSet<>(LITERAL_ORDER);
+
+    public NicknameSearchIndex(
+            final MemberRepository memberRepository,
+            final StringRedisTemplate redisTemplate,
+            final RedisMessageListenerContainer listenerContainer,
+            @Value("${friendy.community.member.search.batch-size:1000}") final int batchSize,
+            @Value("${friendy.community.member.search.max-candidates:1000}") final int maxCandidates,
+            @Value("${friendy.community.member.search.max-scanned:5000}") final int maxScanned
+    ) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.batchSize = batchSize;
+        this.maxCandidates = maxCandidates;
+        this.maxScanned = maxScanned;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+    }
+
+    // 순위가 정해진 후보 중 offset 부터 limit 개를 돌려준다. 후보는 maxCandidates 개까지, 훑는 항목은 maxScanned 개까지로 제한한다.
+    public NicknameSearchResult search(final String query, final int offset, final int limit) {
+        final List<Entry> exactMatches = new ArrayList<>();
+        final List<Entry> candidates = new ArrayList<>();
+        int scanned = 0;
+        for (final Entry entry : range(query)) {
+            if (exactMatches.size() + candidates.size() >= maxCandidates || scanned++ >= maxScanned) {
+                break;
+            }
+            if (!Hangul.matchesPrefix(entry.nickname(), query)) {
+                continue;
+            }
+            if (entry.nickname().equalsIgnoreCase(query)) {
+                exactMatches.add(entry);
+            } else {
+                candidates.add(entry);
+            }
+        }
+        exactMatches.sort(RANK_ORDER);
+        candidates.sort(RANK_ORDER);
+        exactMatches.addAll(candidates);
+
+        final List<NicknameSearchResult.Hit> hits = exactMatches.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(entry -> new NicknameSearchResult.Hit(entry.memberId(), entry.nickname()))
+                .toList();
+        return new NicknameSearchResult(hits, exactMatches.size());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 검색어가 음절로 시작하면 그 음절들이 그대로 들어간 닉네임만 훑는다. 초성 키로 고르면 "철" 이 ㅊ 으로 시작하는 모든 닉네임을 훑게 된다.
+    private NavigableSet<Entry> range(final String query) {
+        final String literalPrefix = Hangul.literalPrefix(query);
+        if (!literalPrefix.isEmpty()) {
+            return entriesByNickname.subSet(
+                    new Entry("", literalPrefix, "", Long.MIN_VALUE), true,
+                    new Entry("", literalPrefix + Character.MAX_VALUE, "", Long.MIN_VALUE), false
+            );
+        }
+        final String prefix = Hangul.toChosungKey(query);
+        return entries.subSet(
+                new Entry(prefix, "", "", Long.MIN_VALUE), true,
+                new Entry(prefix + Character.MAX_VALUE, "", "", Long.MIN_VALUE), false
+        );
+    }
+
+    public void add(final Long memberId, final String nickname) {
+        afterCommit(() -> {
+            addLocally(memberId, nickname);
+            publish(ADDED, memberId, nickname);
+        });
+    }
+
+    public void remove(final Long memberId, final String nickname) {
+        afterCommit(() -> {
+            removeLocally(memberId, nickname);
+            publish(REMOVED, memberId, nickname);
+        });
+    }
+
+    // 적재 중에 들어온 가입도 같은 집합에 반영되므로 적재가 끝나기를 기다리지 않는다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            long lastId = 0L;
+            List<MemberIdentity> identities;
+            do {
+                identities = memberRepository.findIdentitiesAfter(lastId, PageRequest.of(0, batchSize));
+                for (final MemberIdentity identity : identities) {
+                    addLocally(identity.id(), identity.nickname());
+                    lastId = identity.id();
+                }
+            } while (identities.size() == batchSize);
+            log.info("[NicknameSearchIndex] 닉네임 {}개 색인 완료", entries.size());
+        } catch (RuntimeException e) {
+            log.warn("[NicknameSearchIndex] 닉네임 색인 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        final String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(MESSAGE_DELIMITER, 3);
+        if (parts.length != 3) {
+            log.warn("[NicknameSearchIndex] 잘못된 변경 메시지: {}", String.join(MESSAGE_DELIMITER, parts));
+            return;
+        }
+        final Long memberId = Long.valueOf(parts[1]);
+        if (ADDED.equals(parts[0])) {
+            addLocally(memberId, parts[2]);
+        } else if (REMOVED.equals(parts[0])) {
+            removeLocally(memberId, parts[2]);
+        }
+    }
+
+    void addLocally(final Long memberId, final String nickname) {
+        final Entry entry = Entry.of(memberId, nickname);
+        entries.add(entry);
+        entriesByNickname.add(entry);
+    }
+
+    void removeLocally(final Long memberId, final String nickname) {
+        final Entry entry = Entry.of(memberId, nickname);
+        entries.remove(entry);
+        entriesByNickname.remove(entry);
+    }
+
+    private void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void publish(final String type, final Long memberId, final String nickname) {
+        try {
+            redisTemplate.convertAndSend(CHANGE_CHANNEL, type + MESSAGE_DELIMITER + memberId + MESSAGE_DELIMITER + nickname);
+        } catch (RuntimeException e) {
+            log.warn("[NicknameSearchIndex] 변경 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private record Entry(String chosungKey, String literalKey, String nickname, long memberId) {
+
+        static Entry of(final Long memberId, final String nickname) {
+            return new Entry(Hangul.toChosungKey(nickname), nickname.toLowerCase(Locale.ROOT), nickname, memberId);
+        }
+
+        int length() {
+            return nickname.length();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package friendy.community.domain.member.search;
+
+import java.util.List;
+
+public record NicknameSearchResult(
+        List<Hit> hits,
+        int totalCount
+) {
+    public record Hit(
+            Long memberId,
+            String nickname
+    ) {
+    }
+}
@@ -2,45 +2,85 @@ package friendy.community.domain.member.service;
 
 import friendy.community.domain.member.dto.request.PasswordRequest;
 import friendy.community.domain.auth.service.AuthService;
+import friendy.community.domain.member.cache.MemberCache;
+import friendy.community.domain.member.cache.MemberIdentityFilter;
 import friendy.community.domain.member.dto.request.MemberSignUpRequest;
-import friendy.community.domain.member.encryption.PasswordEncryptor;
+import friendy.community.domain.member.dto.response.FindAllSearchMemberResponse;
+import friendy.community.domain.member.dto.response.NicknameAvailabilityResponse;
+import friendy.community.domain.member.dto.response.SearchMemberResponse;
+import friendy.community.domain.member.encryption.PasswordHashingService;
 import friendy.community.domain.member.encryption.SaltGenerator;
 import friendy.community.domain.member.model.Member;
 import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.domain.member.search.NicknameSearchIndex;
+import friendy.community.domain.member.search.NicknameSearchResult;
 import friendy.community.global.exception.ErrorCode;
 import friendy.community.global.exception.FriendyException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MemberService {
 
+    private static final int SEARCH_PAGE_SIZE = 10;
+    private static final int MAX_SEARCH_KEYWORD_LENGTH = 20;
+
     private final MemberRepository  memberRepository;
     private final SaltGenerator saltGenerator;
-    private final PasswordEncryptor passwordEncryptor;
+    private final PasswordHashingService passwordHashingService;
     private final AuthService authService;
+    private final MemberCache memberCache;
+    private final MemberIdentityFilter memberIdentityFilter;
+    private final NicknameSearchIndex nicknameSearchIndex;
 
+    @Transactional
     public Long signUp(MemberSignUpRequest request) {
         validateUniqueMemberAttributes(request);
         final String salt = saltGenerator.generate();
-        final String encryptedPassword = passwordEncryptor.encrypt(request.password(), salt);
+        final String encryptedPassword = passwordHashingService.hash(request.password(), salt);
         final Member member = Member.of(request, encryptedPassword, salt);
         memberRepository.save(member);
+        memberCache.evict(member);
+        memberIdentityFilter.register(member.getEmail(), member.getNickname());
+        nicknameSearchIndex.add(member.getId(), member.getNickname());
 
         return member.getId();
     }
 
+    @Transactional
     public void resetPassword(PasswordRequest request) {
         Member member = authService.getMemberByEmail(request.email());
 
         final String salt = saltGenerator.generate();
-        final String encryptedPassword = passwordEncryptor.encrypt(request.newPassword(), salt);
+        final String encryptedPassword = passwordHashingService.hash(request.newPassword(), salt);
 
         member.resetPassword(encryptedPassword, salt);
         memberRepository.save(member);
+        memberCache.evict(member);
+    }
+
+    public NicknameAvailabilityResponse checkNicknameAvailability(String nickname) {
+        validateNicknameFormat(nickname);
+        return NicknameAvailabilityResponse.of(nickname, !isNicknameTaken(nickname));
+    }
+
+    public FindAllSearchMemberResponse searchMembers(String keyword, int page) {
+        validateSearchKeyword(keyword);
+        if (page < 0) {
+            throw new FriendyException(ErrorCode.INVALID_REQUEST, "페이지 번호는 0 이상이어야 합니다.");
+        }
+        final NicknameSearchResult result = nicknameSearchIndex.search(keyword.strip(), page * SEARCH_PAGE_SIZE, SEARCH_PAGE_SIZE);
+        final List<SearchMemberResponse> members = result.hits().stream()
+                .map(SearchMemberResponse::from)
+                .toList();
+        final int totalPages = (result.totalCount() + SEARCH_PAGE_SIZE - 1) / SEARCH_PAGE_SIZE;
+
+        return new FindAllSearchMemberResponse(members, totalPages);
     }
 
     public void validateUniqueMemberAttributes(MemberSignUpRequest request) {
@@ -49,14 +89,37 @@ public class MemberService {
     }
 
     public void assertUniqueEmail(String email) {
-        if (memberRepository.existsByEmail(email)) {
+        if (memberIdentityFilter.mightContainEmail(email) && memberRepository.existsByEmail(email)) {
             throw new FriendyException(ErrorCode.DUPLICATE_EMAIL, "이미 가입된 이메일입니다.");
         }
     }
 
     public void assertUniqueName(String name) {
-        if (memberRepository.existsByNickname(name)) {
+        if (isNicknameTaken(name)) {
             throw new FriendyException(ErrorCode.DUPLICATE_NICKNAME, "닉네임이 이미 존재합니다.");
         }
     }
+
+    // 필터가 "확실히 없음"이라고 답하면 DB 를 조회하지 않는다.
+    private boolean isNicknameTaken(String nickname) {
+        return memberIdentityFilter.mightContainNickname(nickname) && memberRepository.existsByNickname(nickname);
+    }
+
+    private void validateNicknameFormat(String nickname) {
+        if (nickname == null || nickname.isBlank()) {
+            throw new FriendyException(ErrorCode.INVALID_REQUEST, "닉네임이 입력되지 않았습니다.");
+        }
+        if (nickname.length() < 2 || nickname.length() > 20) {
+            throw new FriendyException(ErrorCode.INVALID_REQUEST, "닉네임은 2~20자 사이로 입력해주세요.");
+        }
+    }
+
+    private void validateSearchKeyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new FriendyException(ErrorCode.INVALID_REQUEST, "검색어가 입력되지 않았습니다.");
+        }
+        if (keyword.strip().length() > MAX_SEARCH_KEYWORD_LENGTH) {
+            throw new FriendyException(ErrorCode.INVALID_REQUEST, "검색어는 20자 이하로 입력해주세요.");
+        }
+    }
 }
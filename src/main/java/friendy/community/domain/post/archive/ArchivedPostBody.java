@@ -0,0 +1,9 @@
+package friendy.community.domain.post.archive;
+
+import java.util.List;
+
+public record ArchivedPostBody(
+        String content,
+        List<String> hashtags
+) {
+}
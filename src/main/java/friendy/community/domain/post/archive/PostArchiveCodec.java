@@ -0,0 +1,77 @@
+package friendy.community.domain.post.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+// 보관 게시글의 본문과 해시태그 이름을 [형식 1바이트][deflate 로 압축한 본문] 으로 바꾼다.
+// 형식 바이트를 두어, 압축 방식을 바꾸더라도 이미 보관된 행을 다시 쓰지 않고 읽을 수 있게 한다.
+public final class PostArchiveCodec {
+
+    private static final byte FORMAT_DEFLATE = 1;
+    private static final int BUFFER_SIZE = 512;
+
+    private PostArchiveCodec() {
+    }
+
+    public static byte[] encode(final String content, final List<String> hashtags) {
+        final byte[] raw = serialize(content, hashtags);
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            final ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length + 16);
+            compressed.write(FORMAT_DEFLATE);
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                compressed.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static ArchivedPostBody decode(final byte[] payload) {
+        if (payload.length == 0 || payload[0] != FORMAT_DEFLATE) {
+            throw new IllegalStateException("지원하지 않는 게시글 보관 형식입니다.");
+        }
+        final Inflater inflater = new Inflater();
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(
+                new ByteArrayInputStream(payload, 1, payload.length - 1), inflater, BUFFER_SIZE))) {
+            final String content = in.readUTF();
+            final int hashtagCount = in.readUnsignedShort();
+            final List<String> hashtags = new ArrayList<>(hashtagCount);
+            for (int i = 0; i < hashtagCount; i++) {
+                hashtags.add(in.readUTF());
+            }
+            return new ArchivedPostBody(content, hashtags);
+        } catch (IOException e) {
+            throw new UncheckedIOException("보관된 게시글을 읽지 못했습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] serialize(final String content, final List<String> hashtags) {
+        final ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(raw)) {
+            out.writeUTF(content);
+            out.writeShort(hashtags.size());
+            for (final String hashtag : hashtags) {
+                out.writeUTF(hashtag);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return raw.toByteArray();
+    }
+}
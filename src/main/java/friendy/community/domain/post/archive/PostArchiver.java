@@ -0,0 +1,167 @@
+package friendy.community.domain.post.archive;
+
+import friendy.community.domain.hashtag.repository.PostHashtagName;
+import friendy.community.domain.hashtag.repository.PostHashtagRepository;
+import friendy.community.domain.post.model.Post;
+import friendy.community.domain.post.model.PostArchive;
+import friendy.community.domain.post.repository.PostArchiveCandidate;
+import friendy.community.domain.post.repository.PostArchiveRepository;
+import friendy.community.domain.post.repository.PostRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// 오래된 게시글과 해시태그 연결을 청크 단위로 post_archive 로 옮긴다. 핫 테이블과 인덱스가 작아야 메모리에 다 올라간다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "friendy.community.post.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class PostArchiver implements MeterBinder {
+
+    private final PostRepository postRepository;
+    private final PostHashtagRepository postHashtagRepository;
+    private final PostArchiveRepository postArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int ageMonths;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    // 마지막으로 처리한 게시글의 (createdDate, id). 옮기지 못한 게시글이 앞에 남아도 다음 청크와 다음 실행은 그 뒤부터 고른다.
+    // 노드마다 따로 들고 있고 재시작하면 처음부터 다시 본다.
+    private volatile PostArchiveCandidate cursor;
+
+    private final LongAdder archived = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder payloadBytes = new LongAdder();
+
+    public PostArchiver(
+            final PostRepository postRepository,
+            final PostHashtagRepository postHashtagRepository,
+            final PostArchiveRepository postArchiveRepository,
+            final PlatformTransactionManager transactionManager,
+            @Value("${friendy.community.post.archive.age-months:6}") final int ageMonths,
+            @Value("${friendy.community.post.archive.chunk-size:500}") final int chunkSize,
+            @Value("${friendy.community.post.archive.max-chunks-per-run:20}") final int maxChunksPerRun
+    ) {
+        this.postRepository = postRepository;
+        this.postHashtagRepository = postHashtagRepository;
+        this.postArchiveRepository = postArchiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ageMonths = ageMonths;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(
+            initialDelayString = "${friendy.community.post.archive.interval-ms:3600000}",
+            fixedDelayString = "${friendy.community.post.archive.interval-ms:3600000}"
+    )
+    public void run() {
+        archiveCreatedBefore(LocalDateTime.now().minusMonths(ageMonths));
+    }
+
+    // 한 번에 maxChunksPerRun 청크까지만 옮겨, 밀린 양이 많아도 한 실행이 트랜잭션을 오래 붙잡지 않게 한다.
+    public long archiveCreatedBefore(final LocalDateTime cutoff) {
+        long total = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            final List<PostArchiveCandidate> candidates = findCandidates(cutoff);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            final List<Long> ids = candidates.stream().map(PostArchiveCandidate::id).toList();
+            final ChunkResult result = transactionTemplate.execute(status -> archiveChunk(ids, LocalDateTime.now()));
+            archived.add(result.archived());
+            skipped.add(result.skipped());
+            payloadBytes.add(result.payloadBytes());
+            total += result.archived();
+            cursor = candidates.get(candidates.size() - 1);
+            if (candidates.size() < chunkSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("[PostArchiver] {} 이전 게시글 {}개 보관", cutoff, total);
+        }
+        return total;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("friendy.post.archive.posts", archived, LongAdder::sum)
+                .tag("result", "archived")
+                .register(registry);
+        FunctionCounter.builder("friendy.post.archive.posts", skipped, LongAdder::sum)
+                .tag("result", "skipped")
+                .register(registry);
+        FunctionCounter.builder("friendy.post.archive.payload", payloadBytes, LongAdder::sum)
+                .description("보관 저장소에 쓴 압축된 본문 크기")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private List<PostArchiveCandidate> findCandidates(final LocalDateTime cutoff) {
+        final PageRequest page = PageRequest.of(0, chunkSize);
+        final PostArchiveCandidate last = cursor;
+        if (last == null) {
+            return postRepository.findArchiveCandidates(cutoff, page);
+        }
+        return postRepository.findArchiveCandidatesAfter(cutoff, last.createdDate(), last.id(), page);
+    }
+
+    // 다른 노드가 먼저 옮긴 게시글은 잠금을 얻은 뒤 다시 읽을 때 빠지므로 두 번 보관되지 않는다.
+    private ChunkResult archiveChunk(final List<Long> ids, final LocalDateTime now) {
+        final List<Post> posts = postRepository.findAllForArchiveByIdIn(ids);
+        if (posts.isEmpty()) {
+            return ChunkResult.EMPTY;
+        }
+        final Map<Long, List<String>> hashtagsByPost = postHashtagRepository.findNamesByPostIdIn(
+                        posts.stream().map(Post::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(
+                        PostHashtagName::postId,
+                        Collectors.mapping(PostHashtagName::name, Collectors.toList())
+                ));
+
+        final List<PostArchive> archives = new ArrayList<>(posts.size());
+        final List<Long> archivedIds = new ArrayList<>(posts.size());
+        long bytes = 0;
+        for (final Post post : posts) {
+            final byte[] payload = PostArchiveCodec.encode(post.getContent(), hashtagsByPost.getOrDefault(post.getId(), List.of()));
+            if (payload.length > PostArchive.MAX_PAYLOAD_LENGTH) {
+                log.warn("[PostArchiver] 압축 후에도 {}바이트라 보관하지 않은 게시글: {}", payload.length, post.getId());
+                continue;
+            }
+            archives.add(new PostArchive(post, payload, now));
+            archivedIds.add(post.getId());
+            bytes += payload.length;
+        }
+        if (archivedIds.isEmpty()) {
+            return new ChunkResult(0, posts.size(), 0);
+        }
+
+        // 벌크 삭제는 호출 즉시 실행되므로 보관본 INSERT 를 먼저 내보내, 키 충돌 같은 실패가 삭제 전에 드러나게 한다.
+        postArchiveRepository.saveAllAndFlush(archives);
+        postHashtagRepository.deleteAllByPostIdIn(archivedIds);
+        postRepository.deleteAllByIdIn(archivedIds);
+        return new ChunkResult(archivedIds.size(), posts.size() - archivedIds.size(), bytes);
+    }
+
+    private record ChunkResult(int archived, int skipped, long payloadBytes) {
+
+        static final ChunkResult EMPTY = new ChunkResult(0, 0, 0);
+    }
+}
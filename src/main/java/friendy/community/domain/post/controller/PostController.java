@@ -5,6 +5,9 @@ import friendy.community.domain.post.dto.request.PostUpdateRequest;
 import friendy.community.domain.post.dto.response.FindPostResponse;
 import friendy.community.domain.post.dto.response.FindAllPostResponse;
 import friendy.community.domain.post.service.PostService;
+import friendy.community.global.metrics.QueryBudget;
+import friendy.community.global.ratelimit.RateLimit;
+import friendy.community.global.ratelimit.RateLimitKey;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +25,7 @@ public class PostController implements SpringDocPostController {
     private final PostService postService;
 
     @PostMapping
+    @RateLimit(name = "create-post", key = RateLimitKey.MEMBER, limit = 10, window = 60)
     public ResponseEntity<Void> createPost(
             HttpServletRequest httpServletRequest,
             @Valid @RequestBody PostCreateRequest postCreateRequest
@@ -50,6 +54,7 @@ public class PostController implements SpringDocPostController {
     }
 
     @GetMapping("/{postId}")
+    @QueryBudget(1)
     public ResponseEntity<FindPostResponse> getPost(
             @PathVariable Long postId
     ) {
@@ -57,6 +62,7 @@ public class PostController implements SpringDocPostController {
     }
 
     @GetMapping("/list")
+    @QueryBudget(2)
     public ResponseEntity<FindAllPostResponse> getAllPosts(
             @RequestParam(defaultValue = "0") int page
     ) {
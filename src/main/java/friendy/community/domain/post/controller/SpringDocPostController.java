@@ -30,6 +30,9 @@ public interface SpringDocPostController {
             @ErrorCase(description = "JWT 액세스 토큰 Payload 이메일 누락", exampleMessage = "인증 실패(JWT 액세스 토큰 Payload 이메일 누락) - 토큰 : {token}")
 
     })
+    @ApiErrorResponse(status = HttpStatus.TOO_MANY_REQUESTS, instance = "/posts", errorCases = {
+            @ErrorCase(description = "요청 횟수 초과", exampleMessage = "요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.")
+    })
     ResponseEntity<Void> createPost(
             HttpServletRequest httpServletRequest,
             @RequestBody PostCreateRequest postRequest
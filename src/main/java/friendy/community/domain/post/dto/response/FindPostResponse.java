@@ -1,6 +1,8 @@
 package friendy.community.domain.post.dto.response;
 
+import friendy.community.domain.member.model.Member;
 import friendy.community.domain.post.model.Post;
+import friendy.community.domain.post.model.PostArchive;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -14,6 +16,9 @@ public record FindPostResponse(
         int shareCount,
         FindMemberResponse authorResponse
 ) {
+    // DateTimeFormatter 는 불변이고 스레드 안전하므로 게시글마다 새로 만들지 않는다.
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
     public static FindPostResponse from(Post post) {
         return new FindPostResponse(
                 post.getId(),
@@ -26,10 +31,22 @@ public record FindPostResponse(
         );
     }
 
+    public static FindPostResponse from(PostArchive archive, String content, Member author) {
+        return new FindPostResponse(
+                archive.getId(),
+                content,
+                formatDateTime(archive.getCreatedDate()),
+                archive.getLikeCount(),
+                archive.getCommentCount(),
+                archive.getShareCount(),
+                FindMemberResponse.from(author)
+        );
+    }
+
     private static String formatDateTime(LocalDateTime dateTime) {
         if (dateTime == null) {
             return null;
         }
-        return dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"));
+        return DATE_TIME_FORMATTER.format(dateTime);
     }
 }
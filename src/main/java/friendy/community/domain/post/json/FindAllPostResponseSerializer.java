@@ -0,0 +1,46 @@
+package friendy.community.domain.post.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.domain.post.dto.response.FindPostResponse;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+// 게시글마다 등록된 FindPostResponse 직렬화기를 찾지 않도록 한 번만 찾아 목록 전체에 쓴다.
+@JsonComponent
+public class FindAllPostResponseSerializer extends JsonSerializer<FindAllPostResponse> {
+
+    private static final SerializedString POSTS = new SerializedString("posts");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+
+    @Override
+    public void serialize(final FindAllPostResponse response, final JsonGenerator generator, final SerializerProvider provider) throws IOException {
+        generator.writeStartObject(response);
+        generator.writeFieldName(POSTS);
+        if (response.posts() == null) {
+            generator.writeNull();
+        } else {
+            final JsonSerializer<Object> postSerializer = provider.findValueSerializer(FindPostResponse.class);
+            generator.writeStartArray(response.posts(), response.posts().size());
+            for (final FindPostResponse post : response.posts()) {
+                if (post == null) {
+                    generator.writeNull();
+                } else {
+                    postSerializer.serialize(post, generator, provider);
+                }
+            }
+            generator.writeEndArray();
+        }
+        generator.writeFieldName(TOTAL_PAGES);
+        if (response.totalPages() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(response.totalPages());
+        }
+        generator.writeEndObject();
+    }
+}
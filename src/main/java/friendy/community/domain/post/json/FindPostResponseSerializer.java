@@ -0,0 +1,126 @@
+package friendy.community.domain.post.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import friendy.community.domain.post.dto.response.FindMemberResponse;
+import friendy.community.domain.post.dto.response.FindPostResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.Objects;
+
+// 레코드 기본 직렬화와 같은 JSON 을 리플렉션 없이 JsonGenerator 에 바로 쓴다.
+// 작성자 정보는 피드의 여러 글에 반복되므로 회원 id 별로 직렬화해 둔 조각을 그대로 붙인다.
+@JsonComponent
+public class FindPostResponseSerializer extends JsonSerializer<FindPostResponse> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString LIKE_COUNT = new SerializedString("likeCount");
+    private static final SerializedString COMMENT_COUNT = new SerializedString("commentCount");
+    private static final SerializedString SHARE_COUNT = new SerializedString("shareCount");
+    private static final SerializedString AUTHOR_RESPONSE = new SerializedString("authorResponse");
+    private static final SerializedString NICKNAME = new SerializedString("nickname");
+
+    private final Cache<Long, AuthorFragment> authorFragments;
+
+    public FindPostResponseSerializer(
+            @Value("${friendy.community.post.author-fragment-cache.maximum-size:10000}") final long maximumSize
+    ) {
+        this.authorFragments = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public void serialize(final FindPostResponse response, final JsonGenerator generator, final SerializerProvider provider) throws IOException {
+        generator.writeStartObject(response);
+        writeNumberField(generator, ID, response.id());
+        writeStringField(generator, CONTENT, response.content());
+        writeStringField(generator, CREATED_AT, response.createdAt());
+        generator.writeFieldName(LIKE_COUNT);
+        generator.writeNumber(response.likeCount());
+        generator.writeFieldName(COMMENT_COUNT);
+        generator.writeNumber(response.commentCount());
+        generator.writeFieldName(SHARE_COUNT);
+        generator.writeNumber(response.shareCount());
+        generator.writeFieldName(AUTHOR_RESPONSE);
+        writeAuthor(generator, response.authorResponse());
+        generator.writeEndObject();
+    }
+
+    private void writeAuthor(final JsonGenerator generator, final FindMemberResponse author) throws IOException {
+        if (author == null) {
+            generator.writeNull();
+            return;
+        }
+        if (!writesPlainJson(generator)) {
+            writeAuthorFields(generator, author);
+            return;
+        }
+        if (author.id() == null) {
+            generator.writeRawValue(AuthorFragment.of(author).json());
+            return;
+        }
+        // 닉네임이 바뀌었으면 조각을 다시 만든다. 무효화 신호 없이도 오래된 닉네임이 나가지 않는다.
+        AuthorFragment fragment = authorFragments.getIfPresent(author.id());
+        if (fragment == null || !Objects.equals(fragment.nickname(), author.nickname())) {
+            fragment = AuthorFragment.of(author);
+            authorFragments.put(author.id(), fragment);
+        }
+        generator.writeRawValue(fragment.json());
+    }
+
+    // 미리 만든 조각은 writeRawValue 로 그대로 붙으므로 들여쓰기(INDENT_OUTPUT)나 ESCAPE_NON_ASCII 같은 출력 설정을 따르지 않는다.
+    // 이런 설정이 켜진 생성기에서는 조각을 쓰지 않고 필드를 하나씩 쓴다.
+    private static boolean writesPlainJson(final JsonGenerator generator) {
+        return generator.getPrettyPrinter() == null
+                && generator.getHighestEscapedChar() == 0
+                && generator.getCharacterEscapes() == null;
+    }
+
+    private static void writeAuthorFields(final JsonGenerator generator, final FindMemberResponse author) throws IOException {
+        generator.writeStartObject(author);
+        writeNumberField(generator, ID, author.id());
+        writeStringField(generator, NICKNAME, author.nickname());
+        generator.writeEndObject();
+    }
+
+    private static void writeNumberField(final JsonGenerator generator, final SerializableString name, final Long value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    private static void writeStringField(final JsonGenerator generator, final SerializableString name, final String value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    // SerializedString 은 UTF-8 인코딩 결과를 한 번만 만들어 두므로 같은 작성자를 다시 쓸 때 복사만 한다.
+    private record AuthorFragment(String nickname, SerializableString json) {
+
+        static AuthorFragment of(final FindMemberResponse author) {
+            final String nickname = author.nickname() == null
+                    ? "null"
+                    : "\"" + new String(JsonStringEncoder.getInstance().quoteAsString(author.nickname())) + "\"";
+            final String json = "{\"id\":" + author.id() + ",\"nickname\":" + nickname + "}";
+            return new AuthorFragment(author.nickname(), new SerializedString(json));
+        }
+    }
+}
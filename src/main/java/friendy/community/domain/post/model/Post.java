@@ -15,6 +15,10 @@ import org.hibernate.annotations.ColumnDefault;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_post_created_date", columnList = "createdDate DESC, id DESC"),
+        @Index(name = "idx_post_member_created_date", columnList = "memberId, createdDate DESC")
+})
 public class Post extends BaseEntity {
 
     @Id
@@ -0,0 +1,78 @@
+package friendy.community.domain.post.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// 보관된 게시글. 원래 게시글의 id 와 작성/수정 시각을 그대로 옮기므로 BaseEntity 의 감사(auditing)를 쓰지 않는다.
+@Entity
+@Getter
+@Table(indexes = @Index(name = "idx_post_archive_created_date", columnList = "createdDate DESC, id DESC"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostArchive implements Persistable<Long> {
+
+    public static final int MAX_PAYLOAD_LENGTH = 4096;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private Integer likeCount;
+
+    @Column(nullable = false)
+    private Integer commentCount;
+
+    @Column(nullable = false)
+    private Integer shareCount;
+
+    private LocalDateTime createdDate;
+
+    private LocalDateTime modifiedDate;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    // 본문과 해시태그 이름을 PostArchiveCodec 으로 압축한 값
+    @Column(nullable = false, length = MAX_PAYLOAD_LENGTH)
+    private byte[] payload;
+
+    // 식별자를 직접 채우므로 save() 가 merge 로 빠져 INSERT 전에 SELECT 를 하지 않도록 새 엔티티임을 알린다.
+    @Transient
+    private boolean isNew = true;
+
+    public PostArchive(final Post post, final byte[] payload, final LocalDateTime archivedAt) {
+        this.id = post.getId();
+        this.memberId = post.getMember().getId();
+        this.likeCount = post.getLikeCount();
+        this.commentCount = post.getCommentCount();
+        this.shareCount = post.getShareCount();
+        this.createdDate = post.getCreatedDate();
+        this.modifiedDate = post.getModifiedDate();
+        this.archivedAt = archivedAt;
+        this.payload = payload;
+    }
+
+    // 보관된 게시글을 수정하면 본문과 해시태그를 다시 압축해 담는다.
+    public void update(final byte[] payload, final LocalDateTime modifiedDate) {
+        this.payload = payload;
+        this.modifiedDate = modifiedDate;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -3,6 +3,7 @@ package friendy.community.domain.post.model;
 import friendy.community.domain.hashtag.model.Hashtag;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import java.io.Serializable;
 
@@ -10,7 +11,8 @@ import java.io.Serializable;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode(of = "id", callSuper = false)
-public class PostHashtag {
+@Table(indexes = @Index(name = "idx_post_hashtag_hashtag_post", columnList = "hashtag_id, post_id"))
+public class PostHashtag implements Persistable<PostHashtag.TemplateTagId> {
 
     @Embeddable
     @Getter
@@ -35,10 +37,25 @@ public class PostHashtag {
     @JoinColumn(name = "hashtag_id")
     private Hashtag hashtag;
 
+    // 식별자를 직접 채우는 엔티티라 save() 가 merge 로 빠져 INSERT 전에 SELECT 를 하지 않도록 새 엔티티임을 알린다.
+    @Transient
+    private boolean isNew = true;
+
     public PostHashtag(Post post, Hashtag hashtag) {
         this.id = new TemplateTagId(post.getId(), hashtag.getId());
         this.post = post;
         this.hashtag = hashtag;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
 }
@@ -0,0 +1,9 @@
+package friendy.community.domain.post.repository;
+
+import java.time.LocalDateTime;
+
+public record PostArchiveCandidate(
+        Long id,
+        LocalDateTime createdDate
+) {
+}
@@ -0,0 +1,9 @@
+package friendy.community.domain.post.repository;
+
+import friendy.community.domain.post.model.PostArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostArchiveRepository extends JpaRepository<PostArchive, Long> {
+}
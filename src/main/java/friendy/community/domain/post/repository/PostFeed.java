@@ -0,0 +1,12 @@
+package friendy.community.domain.post.repository;
+
+import friendy.community.domain.post.model.Post;
+
+import java.util.List;
+
+public record PostFeed(
+        List<Post> posts,
+        long postCount,
+        long archivedPostCount
+) {
+}
@@ -1,12 +1,16 @@
 package friendy.community.domain.post.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import friendy.community.domain.member.model.QMember;
 import friendy.community.domain.post.model.Post;
+import friendy.community.domain.post.model.PostArchive;
 import friendy.community.domain.post.model.QPost;
+import friendy.community.domain.post.model.QPostArchive;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -28,7 +32,8 @@ public class PostQueryDSLRepository{
         );
     }
 
-    public Page<Post> findAllPosts(Pageable pageable) {
+    // 핫 테이블의 게시글 수와 보관된 게시글 수는 한 번의 쿼리로 센다.
+    public PostFeed findAllPosts(Pageable pageable) {
         List<Post> posts = queryFactory.selectFrom(QPost.post)
                 .leftJoin(QPost.post.member, QMember.member).fetchJoin()
                 .orderBy(QPost.post.createdDate.desc())
@@ -36,11 +41,22 @@ public class PostQueryDSLRepository{
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        long total = queryFactory.select(QPost.post.count())
+        NumberExpression<Long> postCount = QPost.post.count();
+        JPQLQuery<Long> archivedPostCount = JPAExpressions.select(QPostArchive.postArchive.count())
+                .from(QPostArchive.postArchive);
+        Tuple counts = queryFactory.select(postCount, archivedPostCount)
                 .from(QPost.post)
                 .fetchOne();
 
-        return new PageImpl<>(posts, pageable, total);
+        return new PostFeed(posts, counts.get(postCount), counts.get(archivedPostCount));
+    }
+
+    public List<PostArchive> findArchivedPosts(long offset, int limit) {
+        return queryFactory.selectFrom(QPostArchive.postArchive)
+                .orderBy(QPostArchive.postArchive.createdDate.desc(), QPostArchive.postArchive.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
     }
 
 }
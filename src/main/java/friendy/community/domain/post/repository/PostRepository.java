@@ -1,9 +1,43 @@
 package friendy.community.domain.post.repository;
 
 import friendy.community.domain.post.model.Post;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    @Query("select new friendy.community.domain.post.repository.PostArchiveCandidate(p.id, p.createdDate) from Post p " +
+            "where p.createdDate < :cutoff order by p.createdDate, p.id")
+    List<PostArchiveCandidate> findArchiveCandidates(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // (createdDate, id) 순서에서 마지막으로 본 게시글 다음부터 읽는다.
+    @Query("select new friendy.community.domain.post.repository.PostArchiveCandidate(p.id, p.createdDate) from Post p " +
+            "where p.createdDate < :cutoff " +
+            "and (p.createdDate > :createdDate or (p.createdDate = :createdDate and p.id > :id)) " +
+            "order by p.createdDate, p.id")
+    List<PostArchiveCandidate> findArchiveCandidatesAfter(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("createdDate") LocalDateTime createdDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // 보관하는 동안 수정/삭제가 끼어들어 바뀐 내용이 사라지지 않도록 옮길 게시글을 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Post p where p.id in :ids")
+    List<Post> findAllForArchiveByIdIn(@Param("ids") List<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Post p where p.id in :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
 }
@@ -5,28 +5,38 @@ import friendy.community.domain.auth.jwt.JwtTokenProvider;
 import friendy.community.domain.auth.service.AuthService;
 import friendy.community.domain.hashtag.service.HashtagService;
 import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.domain.post.archive.PostArchiveCodec;
 import friendy.community.domain.post.dto.request.PostCreateRequest;
 import friendy.community.domain.post.dto.request.PostUpdateRequest;
 import friendy.community.domain.post.dto.response.FindPostResponse;
 import friendy.community.domain.post.dto.response.FindAllPostResponse;
 import friendy.community.domain.post.model.Post;
+import friendy.community.domain.post.model.PostArchive;
+import friendy.community.domain.post.repository.PostArchiveRepository;
+import friendy.community.domain.post.repository.PostFeed;
 import friendy.community.domain.post.repository.PostQueryDSLRepository;
 import friendy.community.domain.post.repository.PostRepository;
 import friendy.community.global.exception.ErrorCode;
 import friendy.community.global.exception.FriendyException;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class PostService {
 
     private final PostRepository postRepository;
@@ -35,7 +45,10 @@ public class PostService {
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthService authService;
     private final HashtagService hashtagService;
+    private final PostArchiveRepository postArchiveRepository;
+    private final MemberRepository memberRepository;
 
+    @Transactional
     public long savePost(final PostCreateRequest postCreateRequest, final HttpServletRequest httpServletRequest) {
         final Member member = getMemberFromRequest(httpServletRequest);
         final Post post = Post.of(postCreateRequest, member);
@@ -46,13 +59,17 @@ public class PostService {
         return post.getId();
     }
 
+    @Transactional
     public long updatePost(
             final PostUpdateRequest postUpdateRequest,
             final HttpServletRequest httpServletRequest,
             final Long postId
     ) {
         final Member member = getMemberFromRequest(httpServletRequest);
-        final Post post = validatePostExistence(postId);
+        final Post post = postRepository.findById(postId).orElse(null);
+        if (post == null) {
+            return updateArchivedPost(member, postId, postUpdateRequest);
+        }
         validatePostAuthor(member,post);
 
         post.updatePost(postUpdateRequest);
@@ -63,9 +80,14 @@ public class PostService {
         return post.getId();
     }
 
+    @Transactional
     public void deletePost(final HttpServletRequest httpServletRequest, final Long postId) {
         final Member member = getMemberFromRequest(httpServletRequest);
-        final Post post = validatePostExistence(postId);
+        final Post post = postRepository.findById(postId).orElse(null);
+        if (post == null) {
+            deleteArchivedPost(member, postId);
+            return;
+        }
         validatePostAuthor(member,post);
 
         hashtagService.deleteHashtags(postId);
@@ -73,44 +95,111 @@ public class PostService {
     }
 
     public FindPostResponse getPost(final Long postId){
-        Post post = postQueryDSLRepository.findPostById(postId)
+        return postQueryDSLRepository.findPostById(postId)
+                .map(FindPostResponse::from)
+                .or(() -> findArchivedPost(postId))
                 .orElseThrow(() -> new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 게시글입니다."));
-
-        return FindPostResponse.from(post);
     }
 
+    // 핫 테이블을 다 읽은 페이지부터는 보관된 게시글로 이어서 채운다.
     public FindAllPostResponse getAllPosts(Pageable pageable) {
         Pageable defaultPageable = PageRequest.of(pageable.getPageNumber(), 10);
-        Page<Post> postPage = postQueryDSLRepository.findAllPosts(defaultPageable);
+        PostFeed feed = postQueryDSLRepository.findAllPosts(defaultPageable);
+        long total = feed.postCount() + feed.archivedPostCount();
+        int totalPages = (int) ((total + defaultPageable.getPageSize() - 1) / defaultPageable.getPageSize());
+
+        validatePageNumber(defaultPageable.getPageNumber(), totalPages);
+        List<FindPostResponse> findPostResponses = new ArrayList<>(defaultPageable.getPageSize());
+        feed.posts().forEach(post -> findPostResponses.add(FindPostResponse.from(post)));
+
+        int remaining = defaultPageable.getPageSize() - findPostResponses.size();
+        if (remaining > 0 && feed.archivedPostCount() > 0) {
+            long archiveOffset = Math.max(0, defaultPageable.getOffset() - feed.postCount());
+            findPostResponses.addAll(findArchivedPosts(archiveOffset, remaining));
+        }
 
-        validatePageNumber(defaultPageable.getPageNumber(), postPage);
-        List<FindPostResponse> findPostResponses = postPage.getContent().stream()
-                .map(FindPostResponse::from)
+        return new FindAllPostResponse(findPostResponses, totalPages);
+    }
+
+    // 핫 테이블에 없는 게시글만 보관 저장소에서 찾는다. 작성자는 2차 캐시에 올라가 있는 회원 엔티티로 채운다.
+    private Optional<FindPostResponse> findArchivedPost(final Long postId) {
+        return postArchiveRepository.findById(postId)
+                .map(archive -> FindPostResponse.from(
+                        archive,
+                        PostArchiveCodec.decode(archive.getPayload()).content(),
+                        memberRepository.getReferenceById(archive.getMemberId())
+                ));
+    }
+
+    // 작성자는 페이지에 나온 회원만 한 번에 읽는다.
+    private List<FindPostResponse> findArchivedPosts(final long offset, final int limit) {
+        final List<PostArchive> archives = postQueryDSLRepository.findArchivedPosts(offset, limit);
+        if (archives.isEmpty()) {
+            return List.of();
+        }
+        final Map<Long, Member> authors = memberRepository.findAllById(
+                        archives.stream().map(PostArchive::getMemberId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        return archives.stream()
+                .map(archive -> FindPostResponse.from(
+                        archive,
+                        PostArchiveCodec.decode(archive.getPayload()).content(),
+                        authors.get(archive.getMemberId())
+                ))
                 .toList();
+    }
+
+    // 보관된 게시글은 해시태그 연결 대신 payload 에 이름을 담고 있으므로 본문과 함께 다시 압축한다.
+    private long updateArchivedPost(final Member member, final Long postId, final PostUpdateRequest postUpdateRequest) {
+        final PostArchive archive = validateArchivedPostExistence(postId);
+        validateArchivedPostAuthor(member, archive);
+
+        final List<String> hashtags = postUpdateRequest.hashtags() == null
+                ? List.of()
+                : postUpdateRequest.hashtags().stream().distinct().toList();
+        final byte[] payload = PostArchiveCodec.encode(postUpdateRequest.content(), hashtags);
+        if (payload.length > PostArchive.MAX_PAYLOAD_LENGTH) {
+            throw new FriendyException(ErrorCode.INVALID_REQUEST, "해시태그가 너무 많아 게시글을 수정할 수 없습니다.");
+        }
+        archive.update(payload, LocalDateTime.now());
+
+        return archive.getId();
+    }
 
-        return new FindAllPostResponse(findPostResponses, postPage.getTotalPages());
+    private void deleteArchivedPost(final Member member, final Long postId) {
+        final PostArchive archive = validateArchivedPostExistence(postId);
+        validateArchivedPostAuthor(member, archive);
+
+        postArchiveRepository.delete(archive);
     }
 
-    private Post validatePostExistence(Long postId) {
-        return postRepository.findById(postId)
+    private PostArchive validateArchivedPostExistence(Long postId) {
+        return postArchiveRepository.findById(postId)
                 .orElseThrow(() -> new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 게시글입니다."));
     }
 
+    private void validateArchivedPostAuthor(Member member, PostArchive archive) {
+        if (!archive.getMemberId().equals(member.getId())) {
+            throw new FriendyException(ErrorCode.FORBIDDEN_ACCESS, "게시글은 작성자 본인만 관리할 수 있습니다.");
+        }
+    }
+
     private void validatePostAuthor(Member member, Post post) {
         if (!post.getMember().getId().equals(member.getId())) {
             throw new FriendyException(ErrorCode.FORBIDDEN_ACCESS, "게시글은 작성자 본인만 관리할 수 있습니다.");
         }
     }
 
-    private void validatePageNumber(int requestedPage, Page<?> page) {
-        if (requestedPage >= page.getTotalPages()) {
+    private void validatePageNumber(int requestedPage, int totalPages) {
+        if (requestedPage >= totalPages) {
             throw new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "요청한 페이지가 존재하지 않습니다.");
         }
     }
 
     private Member getMemberFromRequest(HttpServletRequest httpServletRequest) {
         final String accessToken = jwtTokenExtractor.extractAccessToken(httpServletRequest);
-        final String email = jwtTokenProvider.extractEmailFromAccessToken(accessToken);
+        final String email = jwtTokenProvider.extractPayloadFromAccessToken(accessToken, httpServletRequest).email();
         return authService.getMemberByEmail(email);
     }
 
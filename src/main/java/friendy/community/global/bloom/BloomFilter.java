@@ -0,0 +1,69 @@
+package friendy.community.global.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 여러 스레드가 잠금 없이 추가/조회할 수 있는 문자열 블룸 필터
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(final long expectedInsertions, final double falsePositiveProbability) {
+        if (expectedInsertions <= 0 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("블룸 필터 설정이 올바르지 않습니다.");
+        }
+        final double ln2 = Math.log(2);
+        final long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2));
+        final int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + 63) / 64));
+
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * ln2));
+    }
+
+    public void put(final String value) {
+        final long hash1 = hash(value);
+        final long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            final long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            final long mask = 1L << bitIndex;
+            final int wordIndex = (int) (bitIndex >>> 6);
+            long current = words.get(wordIndex);
+            while ((current & mask) == 0 && !words.compareAndSet(wordIndex, current, current | mask)) {
+                current = words.get(wordIndex);
+            }
+        }
+    }
+
+    public boolean mightContain(final String value) {
+        final long hash1 = hash(value);
+        final long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            final long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((words.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a 로 문자를 누적한 뒤 한 번 더 섞어 하위 비트 편향을 없앤다.
+    private static long hash(final String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,19 @@
+package friendy.community.global.concurrent;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ThreadFactory;
+
+// 가상 스레드 모드에서는 I/O 를 기다리는 작업자를 가상 스레드로 만든다. 풀 크기는 그대로라 동시 작업 수 제한은 유지된다.
+public final class WorkerThreads {
+
+    private WorkerThreads() {
+    }
+
+    public static ThreadFactory factory(final String namePrefix, final boolean virtual) {
+        if (virtual) {
+            return Thread.ofVirtual().name(namePrefix, 1).factory();
+        }
+        return new CustomizableThreadFactory(namePrefix);
+    }
+}
@@ -0,0 +1,61 @@
+package friendy.community.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import friendy.community.global.datasource.ReplicaHealthMonitor;
+import friendy.community.global.datasource.ReplicationRoutingDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// 레플리카를 켜면 spring.datasource 는 프라이머리 풀이 되고, 애플리케이션은 두 풀 앞의 라우팅 DataSource 를 쓴다.
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+@ConditionalOnProperty(name = "friendy.community.datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("friendy.community.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            @Qualifier("replicaDataSource") final DataSource replicaDataSource,
+            @Value("${friendy.community.datasource.replica.max-lag:5s}") final Duration maxLag,
+            @Value("${friendy.community.datasource.replica.lag-query:}") final String lagQuery
+    ) {
+        return new ReplicaHealthMonitor(replicaDataSource, maxLag, lagQuery);
+    }
+
+    // 트랜잭션이 시작되며 읽기 전용 여부가 정해진 뒤 첫 SQL 에서 실제 커넥션을 고르도록 지연 프록시로 감싼다.
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") final DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") final DataSource replicaDataSource,
+            final ReplicaHealthMonitor replicaHealthMonitor
+    ) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource, replicaHealthMonitor)
+        );
+    }
+}
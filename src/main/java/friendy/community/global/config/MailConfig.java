@@ -0,0 +1,58 @@
+package friendy.community.global.config;
+
+import friendy.community.global.mail.PooledJavaMailSender;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Properties;
+
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfig {
+
+    private final ObjectProvider<PooledJavaMailSender> mailSenderProvider;
+
+    public MailConfig(final ObjectProvider<PooledJavaMailSender> mailSenderProvider) {
+        this.mailSenderProvider = mailSenderProvider;
+    }
+
+    @Bean(destroyMethod = "close")
+    public PooledJavaMailSender javaMailSender(
+            final MailProperties mailProperties,
+            @Value("${friendy.community.mail.pool.max-connections:4}") final int maxConnections,
+            @Value("${friendy.community.mail.pool.idle-timeout:60s}") final Duration idleTimeout,
+            @Value("${friendy.community.mail.pool.borrow-timeout:10s}") final Duration borrowTimeout,
+            @Value("${friendy.community.mail.pool.max-messages-per-connection:100}") final int maxMessagesPerConnection
+    ) {
+        PooledJavaMailSender mailSender = new PooledJavaMailSender(maxConnections, idleTimeout, borrowTimeout, maxMessagesPerConnection);
+        mailSender.setHost(mailProperties.getHost());
+        if (mailProperties.getPort() != null) {
+            mailSender.setPort(mailProperties.getPort());
+        }
+        mailSender.setUsername(mailProperties.getUsername());
+        mailSender.setPassword(mailProperties.getPassword());
+        mailSender.setProtocol(mailProperties.getProtocol());
+        if (mailProperties.getDefaultEncoding() != null) {
+            mailSender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+        }
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(mailProperties.getProperties());
+        mailSender.setJavaMailProperties(javaMailProperties);
+
+        return mailSender;
+    }
+
+    @Scheduled(fixedDelayString = "${friendy.community.mail.pool.eviction-interval-ms:30000}")
+    public void evictIdleMailConnections() {
+        PooledJavaMailSender mailSender = mailSenderProvider.getIfAvailable();
+        if (mailSender != null) {
+            mailSender.evictIdleConnections();
+        }
+    }
+}
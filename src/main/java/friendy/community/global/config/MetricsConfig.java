@@ -0,0 +1,30 @@
+package friendy.community.global.config;
+
+import friendy.community.global.metrics.HandlerMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final int defaultQueryBudget;
+
+    public MetricsConfig(
+            final ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${friendy.community.metrics.query-budget:10}") final int defaultQueryBudget
+    ) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.defaultQueryBudget = defaultQueryBudget;
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        meterRegistryProvider.ifAvailable(meterRegistry ->
+                registry.addInterceptor(new HandlerMetricsInterceptor(meterRegistry, defaultQueryBudget)));
+    }
+}
@@ -1,9 +1,11 @@
 package friendy.community.global.config;
 
+import io.lettuce.core.metrics.MicrometerOptions;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -18,4 +20,20 @@ public class RedisConfig {
 
         return template;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        return container;
+    }
+
+    // StringRedisTemplate 의 모든 명령은 Lettuce 를 거치므로, 드라이버에서 명령별 지연 시간을 히스토그램으로 기록한다.
+    @Bean
+    public MicrometerOptions micrometerOptions() {
+        return MicrometerOptions.builder()
+                .histogram(true)
+                .build();
+    }
 }
@@ -0,0 +1,76 @@
+package friendy.community.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+// Member/Hashtag 의 Hibernate 2차 캐시 영역. 영역마다 크기와 만료를 정하고, 여기서 만들지 않은 영역은 Hibernate 가 쓰지 못한다.
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String MEMBER_REGION = "member";
+    public static final String MEMBER_NATURAL_ID_REGION = "member-natural-id";
+    public static final String HASHTAG_REGION = "hashtag";
+    public static final String HASHTAG_NATURAL_ID_REGION = "hashtag-natural-id";
+
+    // 컨텍스트마다 별도의 CachingProvider 를 써서, 테스트처럼 컨텍스트가 여럿 떠 있어도 같은 CacheManager 를 공유하지 않게 한다.
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${friendy.community.jpa.second-level-cache.member.maximum-size:10000}") final long memberMaximumSize,
+            @Value("${friendy.community.jpa.second-level-cache.member.expire-after-write:10m}") final Duration memberExpireAfterWrite,
+            @Value("${friendy.community.jpa.second-level-cache.hashtag.maximum-size:50000}") final long hashtagMaximumSize,
+            @Value("${friendy.community.jpa.second-level-cache.hashtag.expire-after-write:1h}") final Duration hashtagExpireAfterWrite
+    ) {
+        final CachingProvider cachingProvider = new CaffeineCachingProvider();
+        final CacheManager cacheManager = cachingProvider.getCacheManager(
+                cachingProvider.getDefaultURI(), SecondLevelCacheConfig.class.getClassLoader());
+        createRegion(cacheManager, MEMBER_REGION, memberMaximumSize, memberExpireAfterWrite);
+        createRegion(cacheManager, MEMBER_NATURAL_ID_REGION, memberMaximumSize, memberExpireAfterWrite);
+        createRegion(cacheManager, HASHTAG_REGION, hashtagMaximumSize, hashtagExpireAfterWrite);
+        createRegion(cacheManager, HASHTAG_NATURAL_ID_REGION, hashtagMaximumSize, hashtagExpireAfterWrite);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(final CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    // 영역마다 내부 Caffeine 캐시의 적중/누락/축출 통계를 cache=hibernate-<영역> 태그로 내보낸다.
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(final CacheManager secondLevelCacheManager) {
+        return registry -> {
+            for (final String region : secondLevelCacheManager.getCacheNames()) {
+                final com.github.benmanes.caffeine.cache.Cache<?, ?> cache = secondLevelCacheManager.getCache(region)
+                        .unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+                CaffeineCacheMetrics.monitor(registry, cache, "hibernate-" + region);
+            }
+        };
+    }
+
+    // Hibernate 가 꺼낸 값을 바로 복사해 쓰므로 값 복사(store-by-value)는 끄고, JMX 대신 Caffeine 자체 통계만 켠다.
+    private static void createRegion(
+            final CacheManager cacheManager,
+            final String region,
+            final long maximumSize,
+            final Duration expireAfterWrite
+    ) {
+        final CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        configuration.setNativeStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
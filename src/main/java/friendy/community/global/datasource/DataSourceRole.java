@@ -0,0 +1,6 @@
+package friendy.community.global.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,103 @@
+package friendy.community.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+// 레플리카가 살아 있고 지연이 허용 범위 안인지 주기적으로 확인한다. 확인에 실패하면 다음 확인 전까지 읽기도 프라이머리로 보낸다.
+@Slf4j
+public class ReplicaHealthMonitor implements MeterBinder {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource replica;
+    private final Duration maxLag;
+    // 첫 번째 열이 복제 지연(초)인 한 행을 돌려주는 쿼리. 비어 있으면 연결 가능 여부만 본다.
+    private final String lagQuery;
+
+    private volatile boolean available = true;
+    private volatile double lagInSeconds = 0;
+
+    public ReplicaHealthMonitor(final DataSource replica, final Duration maxLag, final String lagQuery) {
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void markUnavailable(final SQLException cause) {
+        if (available) {
+            log.warn("[ReplicaHealthMonitor] 레플리카 연결 실패, 프라이머리로 읽습니다: {}", cause.getMessage());
+        }
+        available = false;
+    }
+
+    @Scheduled(
+            initialDelayString = "${friendy.community.datasource.replica.check-interval-ms:5000}",
+            fixedDelayString = "${friendy.community.datasource.replica.check-interval-ms:5000}"
+    )
+    public void check() {
+        try (Connection connection = replica.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                update(false, "연결 검증 실패");
+                return;
+            }
+            if (!StringUtils.hasText(lagQuery)) {
+                update(true, null);
+                return;
+            }
+            lagInSeconds = queryLag(connection);
+            final boolean withinTolerance = lagInSeconds * 1000 <= maxLag.toMillis();
+            update(withinTolerance, withinTolerance ? null : "복제 지연 " + lagInSeconds + "초");
+        } catch (SQLException e) {
+            update(false, e.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("friendy.datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("레플리카로 읽기를 보내는지 여부")
+                .register(registry);
+        Gauge.builder("friendy.datasource.replica.lag", this, monitor -> monitor.lagInSeconds)
+                .description("마지막으로 확인한 복제 지연")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    private double queryLag(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                throw new SQLException("복제 지연 쿼리가 결과를 돌려주지 않았습니다.");
+            }
+            final double lag = resultSet.getDouble(1);
+            if (resultSet.wasNull()) {
+                throw new SQLException("복제 지연을 알 수 없습니다(복제 중단).");
+            }
+            return lag;
+        }
+    }
+
+    private void update(final boolean healthy, final String reason) {
+        if (healthy && !available) {
+            log.info("[ReplicaHealthMonitor] 레플리카 복구, 읽기를 레플리카로 보냅니다.");
+        } else if (!healthy && available) {
+            log.warn("[ReplicaHealthMonitor] 레플리카 사용 중지, 프라이머리로 읽습니다: {}", reason);
+        }
+        available = healthy;
+    }
+}
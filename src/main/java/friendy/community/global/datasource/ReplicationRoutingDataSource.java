@@ -0,0 +1,51 @@
+package friendy.community.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+// 읽기 전용 트랜잭션은 레플리카로, 나머지는 프라이머리로 보낸다.
+// 트랜잭션의 읽기 전용 여부는 커넥션을 얻은 뒤에 정해지므로 LazyConnectionDataSourceProxy 로 감싸서 써야 한다.
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final DataSource primary;
+    private final ReplicaHealthMonitor replicaHealthMonitor;
+
+    public ReplicationRoutingDataSource(
+            final DataSource primary,
+            final DataSource replica,
+            final ReplicaHealthMonitor replicaHealthMonitor
+    ) {
+        this.primary = primary;
+        this.replicaHealthMonitor = replicaHealthMonitor;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaHealthMonitor.isAvailable()) {
+            return DataSourceRole.REPLICA;
+        }
+        return DataSourceRole.PRIMARY;
+    }
+
+    // 레플리카 커넥션을 얻지 못하면 요청을 실패시키지 않고 프라이머리에서 읽는다.
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() != DataSourceRole.REPLICA) {
+            return primary.getConnection();
+        }
+        try {
+            return super.getConnection();
+        } catch (SQLException e) {
+            replicaHealthMonitor.markUnavailable(e);
+            return primary.getConnection();
+        }
+    }
+}
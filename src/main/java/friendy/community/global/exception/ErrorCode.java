@@ -19,7 +19,10 @@ public enum ErrorCode {
     UNAUTHORIZED_PASSWORD(1303, HttpStatus.UNAUTHORIZED),
     FORBIDDEN_ACCESS(1304, HttpStatus.FORBIDDEN),
 
-    INTERNAL_SERVER_ERROR(2000, HttpStatus.INTERNAL_SERVER_ERROR);
+    TOO_MANY_REQUESTS(1401, HttpStatus.TOO_MANY_REQUESTS),
+
+    INTERNAL_SERVER_ERROR(2000, HttpStatus.INTERNAL_SERVER_ERROR),
+    SERVICE_UNAVAILABLE(2001, HttpStatus.SERVICE_UNAVAILABLE);
 
     private final int code;
     private final HttpStatus httpStatus;
@@ -8,16 +8,18 @@ public class FriendyException extends RuntimeException {
 
     private final ErrorCode errorCode;
 
+    // 4xx 는 예상된 흐름(인증 실패, 없는 리소스 등)이라 스택 트레이스를 채우지 않는다. 5xx 만 원인 추적용으로 남긴다.
     public FriendyException(ErrorCode errorCode, String message) {
-        super(message);
+        super(message, null, isServerError(errorCode), isServerError(errorCode));
         this.errorCode = errorCode;
     }
 
     public ProblemDetail toProblemDetail() {
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                errorCode.getHttpStatus(),
-                getMessage());
-        return GlobalExceptionHandler.setProperties(problemDetail, errorCode.getCode());
+        return ProblemDetails.of(errorCode, getMessage());
+    }
+
+    private static boolean isServerError(ErrorCode errorCode) {
+        return errorCode.getHttpStatus().is5xxServerError();
     }
 
 }
@@ -1,5 +1,8 @@
 package friendy.community.global.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpHeaders;
@@ -13,21 +16,50 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
-import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestControllerAdvice
-public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler implements MeterBinder {
+
+    // 레지스트리에 묶이기 전(슬라이스 테스트 등)에는 비어 있어 집계하지 않는다.
+    private volatile Map<ErrorCode, Counter> errorCounters = Map.of();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Map<ErrorCode, Counter> counters = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            counters.put(errorCode, Counter.builder("friendy.errors")
+                    .description("ErrorCode 별 오류 응답 수")
+                    .tag("error", errorCode.name())
+                    .tag("code", String.valueOf(errorCode.getCode()))
+                    .tag("status", String.valueOf(errorCode.getHttpStatus().value()))
+                    .register(registry));
+        }
+        errorCounters = counters;
+    }
 
     @ExceptionHandler
     public ResponseEntity<ProblemDetail> handleFriendyException(FriendyException friendyException) {
         log.warn("[FriendyException] {}: {}", friendyException.getClass().getName(), friendyException.getMessage());
+        count(friendyException.getErrorCode());
 
         return ResponseEntity.status(friendyException.getErrorCode().getHttpStatus())
                 .body(friendyException.toProblemDetail());
     }
 
+    @ExceptionHandler
+    public ResponseEntity<ProblemDetail> handleRateLimitExceededException(RateLimitExceededException exception) {
+        log.warn("[RateLimitExceededException] {}: {}", exception.getClass().getName(), exception.getMessage());
+        count(exception.getErrorCode());
+
+        return ResponseEntity.status(exception.getErrorCode().getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(exception.toProblemDetail());
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(
             MethodArgumentNotValidException exception, HttpHeaders headers, HttpStatusCode status, WebRequest request
@@ -40,16 +72,17 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 .toList();
         FriendyException friendyException =
                 new FriendyException(ErrorCode.INVALID_REQUEST, String.join("\n", errorMessages));
+        count(friendyException.getErrorCode());
 
         return ResponseEntity.status(friendyException.getErrorCode().getHttpStatus())
                 .body(friendyException.toProblemDetail());
     }
 
-    public static ProblemDetail setProperties(ProblemDetail problemDetail, int code) {
-        problemDetail.setProperty("errorCode", code);
-        problemDetail.setProperty("timestamp", LocalDateTime.now().toString());
-
-        return problemDetail;
+    private void count(ErrorCode errorCode) {
+        Counter counter = errorCounters.get(errorCode);
+        if (counter != null) {
+            counter.increment();
+        }
     }
 
 }
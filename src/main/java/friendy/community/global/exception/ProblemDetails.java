@@ -0,0 +1,40 @@
+package friendy.community.global.exception;
+
+import org.springframework.http.ProblemDetail;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+// ErrorCode 마다 변하지 않는 부분(status, title, errorCode)을 미리 만들어 두고, 응답마다 복사해 detail 과 timestamp 만 채운다.
+final class ProblemDetails {
+
+    private static final Map<ErrorCode, ProblemDetail> TEMPLATES = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (final ErrorCode errorCode : ErrorCode.values()) {
+            final ProblemDetail template = ProblemDetail.forStatus(errorCode.getHttpStatus());
+            template.setTitle(errorCode.getHttpStatus().getReasonPhrase());
+            template.setProperty("errorCode", errorCode.getCode());
+            TEMPLATES.put(errorCode, template);
+        }
+    }
+
+    private ProblemDetails() {
+    }
+
+    static ProblemDetail of(final ErrorCode errorCode, final String detail) {
+        final ProblemDetail problemDetail = new CopiedProblemDetail(TEMPLATES.get(errorCode));
+        problemDetail.setDetail(detail);
+        problemDetail.setProperty("timestamp", LocalDateTime.now().toString());
+        return problemDetail;
+    }
+
+    // 템플릿은 공유되므로 응답에는 항상 복사본을 내보낸다. ProblemDetail 의 복사 생성자는 protected 이다.
+    private static class CopiedProblemDetail extends ProblemDetail {
+
+        CopiedProblemDetail(final ProblemDetail template) {
+            super(template);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package friendy.community.global.exception;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+@Getter
+public class RateLimitExceededException extends FriendyException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(final long retryAfterInMs) {
+        super(ErrorCode.TOO_MANY_REQUESTS, "요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.");
+        this.retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterInMs + 999));
+    }
+}
@@ -0,0 +1,296 @@
+package friendy.community.global.mail;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// 메일마다 SMTP 연결과 STARTTLS 협상을 새로 하지 않도록, 인증이 끝난 연결을 모아 두고 여러 메일에 재사용한다.
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements MeterBinder {
+
+    private static final Duration IDLE_POLL_INTERVAL = Duration.ofMillis(50);
+
+    private final BlockingDeque<PooledTransport> idleTransports = new LinkedBlockingDeque<>();
+    private final Semaphore connectionPermits;
+    private final Duration idleTimeout;
+    private final Duration borrowTimeout;
+    private final int maxMessagesPerConnection;
+
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder connectionsClosed = new LongAdder();
+    private final LongAdder messagesSent = new LongAdder();
+    private final LongAdder messagesSentOnReusedConnection = new LongAdder();
+    private final LongAdder failedSends = new LongAdder();
+    private volatile Timer sendTimer;
+
+    public PooledJavaMailSender(final int maxConnections, final Duration idleTimeout, final Duration borrowTimeout, final int maxMessagesPerConnection) {
+        this.connectionPermits = new Semaphore(maxConnections, true);
+        this.idleTimeout = idleTimeout;
+        this.borrowTimeout = borrowTimeout;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+    }
+
+    @Override
+    protected void doSend(final MimeMessage[] mimeMessages, final Object[] originalMessages) throws MailException {
+        final Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport transport = null;
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                final Object original = originalMessages != null ? originalMessages[i] : mimeMessages[i];
+                final MimeMessage message = mimeMessages[i];
+                try {
+                    prepare(message);
+                    if (transport == null) {
+                        transport = borrow();
+                    }
+                    send(transport, message);
+                } catch (AuthenticationFailedException e) {
+                    throw new MailAuthenticationException(e);
+                } catch (MessagingException e) {
+                    // 연결을 얻지 못했거나 연결이 살아 있는데 실패했다면 이 메일만 실패로 남기고 다음 메일을 보낸다.
+                    if (transport == null || transport.transport().isConnected()) {
+                        recordFailure(failedMessages, original, e);
+                        continue;
+                    }
+                    final boolean reused = transport.messagesSent() > 0;
+                    discard(transport);
+                    transport = null;
+                    if (!reused) {
+                        recordFailure(failedMessages, original, e);
+                        continue;
+                    }
+                    // 재사용한 연결이 끊어져 있었다면 다른 연결로 한 번만 다시 보낸다.
+                    log.debug("재사용한 SMTP 연결이 끊어져 새 연결로 다시 전송합니다.", e);
+                    try {
+                        transport = borrow();
+                        send(transport, message);
+                    } catch (MessagingException retryFailure) {
+                        recordFailure(failedMessages, original, retryFailure);
+                    }
+                }
+            }
+        } finally {
+            if (transport != null) {
+                giveBack(transport);
+            }
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        sendTimer = Timer.builder("friendy.mail.send")
+                .description("SMTP 메일 한 통을 보내는 데 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("friendy.mail.pool.idle", idleTransports, BlockingDeque::size)
+                .register(registry);
+        Gauge.builder("friendy.mail.pool.available", connectionPermits, Semaphore::availablePermits)
+                .register(registry);
+        FunctionCounter.builder("friendy.mail.pool.connections.opened", connectionsOpened, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("friendy.mail.messages.sent", messagesSent, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("friendy.mail.messages.sent.reused", messagesSentOnReusedConnection, LongAdder::sum)
+                .description("이미 열려 있던 연결로 보낸 메일 수")
+                .register(registry);
+        FunctionCounter.builder("friendy.mail.failures", failedSends, LongAdder::sum)
+                .register(registry);
+    }
+
+    public PooledMailTransportStats stats() {
+        return new PooledMailTransportStats(
+                idleTransports.size(),
+                connectionsOpened.sum(),
+                connectionsClosed.sum(),
+                messagesSent.sum(),
+                messagesSentOnReusedConnection.sum(),
+                failedSends.sum()
+        );
+    }
+
+    // 오래 쉬고 있던 연결은 서버가 먼저 끊었을 가능성이 높으므로 미리 정리한다.
+    public void evictIdleConnections() {
+        final long now = System.nanoTime();
+        for (PooledTransport transport : idleTransports) {
+            if (transport.idleFor(now) > idleTimeout.toNanos() && idleTransports.remove(transport)) {
+                discard(transport);
+            }
+        }
+    }
+
+    public void close() {
+        PooledTransport transport;
+        while ((transport = idleTransports.pollFirst()) != null) {
+            discard(transport);
+        }
+    }
+
+    private void recordFailure(final Map<Object, Exception> failedMessages, final Object original, final MessagingException e) {
+        failedSends.increment();
+        failedMessages.put(original, e);
+    }
+
+    private void prepare(final MimeMessage message) throws MessagingException {
+        if (message.getSentDate() == null) {
+            message.setSentDate(new Date());
+        }
+        final String messageId = message.getMessageID();
+        message.saveChanges();
+        if (messageId != null) {
+            message.setHeader("Message-ID", messageId);
+        }
+    }
+
+    private void send(final PooledTransport transport, final MimeMessage message) throws MessagingException {
+        final Address[] addresses = message.getAllRecipients();
+        final long startedAt = System.nanoTime();
+        transport.transport().sendMessage(message, addresses != null ? addresses : new Address[0]);
+        final Timer timer = sendTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        if (transport.messagesSent() > 0) {
+            messagesSentOnReusedConnection.increment();
+        }
+        transport.recordSend();
+        messagesSent.increment();
+    }
+
+    // 허가는 열려 있는 연결(유휴 포함) 수를 센다. 허가가 모두 나가 있으면 새로 열지 않고, 다른 스레드가 돌려주는 유휴 연결을 기다린다.
+    private PooledTransport borrow() throws MessagingException {
+        final long deadline = System.nanoTime() + borrowTimeout.toNanos();
+        try {
+            while (true) {
+                PooledTransport transport;
+                while ((transport = idleTransports.pollFirst()) != null) {
+                    if (isReusable(transport)) {
+                        return transport;
+                    }
+                    discard(transport);
+                }
+                if (connectionPermits.tryAcquire()) {
+                    return open();
+                }
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new MessagingException("사용 가능한 SMTP 연결이 없습니다.");
+                }
+                // 연결이 버려져 허가가 돌아오는 경우도 알아챌 수 있게 조금씩 나눠 기다린다.
+                transport = idleTransports.pollFirst(Math.min(remaining, IDLE_POLL_INTERVAL.toNanos()), TimeUnit.NANOSECONDS);
+                if (transport != null) {
+                    if (isReusable(transport)) {
+                        return transport;
+                    }
+                    discard(transport);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("SMTP 연결을 기다리는 중 중단되었습니다.", e);
+        }
+    }
+
+    private boolean isReusable(final PooledTransport transport) {
+        return transport.transport().isConnected() && transport.idleFor(System.nanoTime()) <= idleTimeout.toNanos();
+    }
+
+    // 호출하기 전에 허가를 하나 얻어 두어야 한다. 연결에 실패하면 허가를 돌려준다.
+    private PooledTransport open() throws MessagingException {
+        try {
+            final Transport transport = connectTransport();
+            connectionsOpened.increment();
+            return new PooledTransport(transport);
+        } catch (MessagingException | RuntimeException e) {
+            connectionPermits.release();
+            throw e;
+        }
+    }
+
+    // 최근에 쓴 연결을 앞에 두어, 자주 쓰는 연결은 계속 따뜻하게 유지되고 남는 연결은 유휴 시간이 지나 정리되게 한다.
+    private void giveBack(final PooledTransport transport) {
+        if (transport.transport().isConnected() && transport.messagesSent() < maxMessagesPerConnection) {
+            transport.touch();
+            idleTransports.offerFirst(transport);
+            return;
+        }
+        discard(transport);
+    }
+
+    private void discard(final PooledTransport transport) {
+        if (!transport.markClosed()) {
+            return;
+        }
+        try {
+            transport.transport().close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결을 닫는 중 오류가 발생했습니다.", e);
+        } finally {
+            connectionsClosed.increment();
+            connectionPermits.release();
+        }
+    }
+
+    private static final class PooledTransport {
+
+        private final Transport transport;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private int messagesSent;
+        private volatile long lastUsedAt = System.nanoTime();
+
+        private PooledTransport(final Transport transport) {
+            this.transport = transport;
+        }
+
+        private Transport transport() {
+            return transport;
+        }
+
+        private int messagesSent() {
+            return messagesSent;
+        }
+
+        private void recordSend() {
+            messagesSent++;
+        }
+
+        private boolean markClosed() {
+            return closed.compareAndSet(false, true);
+        }
+
+        private void touch() {
+            lastUsedAt = System.nanoTime();
+        }
+
+        private long idleFor(final long now) {
+            return now - lastUsedAt;
+        }
+    }
+}
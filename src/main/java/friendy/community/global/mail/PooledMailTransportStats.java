@@ -0,0 +1,15 @@
+package friendy.community.global.mail;
+
+public record PooledMailTransportStats(
+        int idleConnections,
+        long connectionsOpened,
+        long connectionsClosed,
+        long messagesSent,
+        long messagesSentOnReusedConnection,
+        long failedSends
+) {
+
+    public double reuseRatio() {
+        return messagesSent == 0 ? 0 : (double) messagesSentOnReusedConnection / messagesSent;
+    }
+}
@@ -0,0 +1,112 @@
+package friendy.community.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+// 컨트롤러 메서드마다 응답 시간과 요청 하나가 실행한 쿼리 수/시간을 히스토그램으로 남긴다.
+@Slf4j
+public class HandlerMetricsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry registry;
+    private final int defaultQueryBudget;
+    // 미터는 처음 호출될 때 한 번만 만들고, 이후에는 조회만 해서 기록 경로에서 할당이 없게 한다.
+    private final ConcurrentMap<Method, HandlerMeters> meters = new ConcurrentHashMap<>();
+
+    public HandlerMetricsInterceptor(final MeterRegistry registry, final int defaultQueryBudget) {
+        this.registry = registry;
+        this.defaultQueryBudget = defaultQueryBudget;
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        if (handler instanceof HandlerMethod) {
+            RequestStats.current().begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response, final Object handler, final Exception ex) {
+        final RequestStats stats = RequestStats.current();
+        if (!(handler instanceof HandlerMethod handlerMethod) || !stats.inRequest()) {
+            return;
+        }
+        final HandlerMeters handlerMeters = metersFor(handlerMethod);
+
+        handlerMeters.latency().record(stats.elapsedInNanos(), TimeUnit.NANOSECONDS);
+        handlerMeters.queryCount().record(stats.statementCount());
+        handlerMeters.queryTime().record(stats.statementTimeInNanos(), TimeUnit.NANOSECONDS);
+        if (stats.statementCount() > handlerMeters.queryBudget()) {
+            reportBudgetExceeded(handlerMethod, handlerMeters, stats);
+        }
+        stats.end();
+    }
+
+    // N+1 이나 merge 전 SELECT 같은 회귀를 바로 찾을 수 있도록 실행된 SQL 을 함께 남긴다.
+    private void reportBudgetExceeded(final HandlerMethod handlerMethod, final HandlerMeters handlerMeters, final RequestStats stats) {
+        handlerMeters.budgetExceeded().increment();
+        log.warn("[QueryBudget] {}.{} 요청이 쿼리 {}개를 실행했습니다. (예산 {}개)\n{}",
+                handlerMethod.getBeanType().getSimpleName(),
+                handlerMethod.getMethod().getName(),
+                stats.statementCount(),
+                handlerMeters.queryBudget(),
+                String.join("\n", stats.recentStatements(stats.statementCount())));
+    }
+
+    private HandlerMeters metersFor(final HandlerMethod handlerMethod) {
+        final Method method = handlerMethod.getMethod();
+        final HandlerMeters cached = meters.get(method);
+        if (cached != null) {
+            return cached;
+        }
+        return meters.computeIfAbsent(method, key -> createMeters(handlerMethod));
+    }
+
+    private HandlerMeters createMeters(final HandlerMethod handlerMethod) {
+        final String controller = handlerMethod.getBeanType().getSimpleName();
+        final String method = handlerMethod.getMethod().getName();
+        final QueryBudget queryBudget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        return new HandlerMeters(
+                queryBudget != null ? queryBudget.value() : defaultQueryBudget,
+                Timer.builder("friendy.http.handler")
+                        .description("컨트롤러 메서드 응답 시간")
+                        .tag("controller", controller)
+                        .tag("method", method)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .publishPercentileHistogram()
+                        .register(registry),
+                DistributionSummary.builder("friendy.jpa.queries.per.request")
+                        .description("요청 하나가 실행한 JDBC 문장 수")
+                        .tag("controller", controller)
+                        .tag("method", method)
+                        .publishPercentiles(0.5, 0.99)
+                        .register(registry),
+                Timer.builder("friendy.jpa.query.time.per.request")
+                        .description("요청 하나가 JDBC 문장 실행에 쓴 시간")
+                        .tag("controller", controller)
+                        .tag("method", method)
+                        .publishPercentiles(0.5, 0.99)
+                        .register(registry),
+                Counter.builder("friendy.jpa.query.budget.exceeded")
+                        .description("쿼리 예산을 넘긴 요청 수")
+                        .tag("controller", controller)
+                        .tag("method", method)
+                        .register(registry)
+        );
+    }
+
+    private record HandlerMeters(int queryBudget, Timer latency, DistributionSummary queryCount, Timer queryTime, Counter budgetExceeded) {
+    }
+}
@@ -0,0 +1,15 @@
+package friendy.community.global.metrics;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+
+// 요청 하나가 실행해도 되는 JDBC 문장 수. 넘으면 실행된 SQL 과 함께 경고 로그를 남긴다.
+@Target(value = METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
@@ -0,0 +1,27 @@
+package friendy.community.global.metrics;
+
+import org.hibernate.SessionEventListener;
+
+// hibernate.session.events.auto 로 세션마다 등록되어, 실행된 JDBC 문장을 현재 스레드의 통계에 더한다.
+public class QueryMetricsSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        RequestStats.current().statementStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestStats.current().statementFinished();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        RequestStats.current().statementStarted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestStats.current().statementFinished();
+    }
+}
@@ -0,0 +1,87 @@
+package friendy.community.global.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 요청을 처리하는 스레드의 시작 시각과 실행한 JDBC 문장 수/시간을 모은다. 스레드마다 하나를 재사용해 기록 중에 할당이 없다.
+public final class RequestStats {
+
+    private static final ThreadLocal<RequestStats> CURRENT = ThreadLocal.withInitial(RequestStats::new);
+    private static final int RECENT_STATEMENT_SLOTS = 32;
+
+    // 예산 초과를 알릴 때 어떤 SQL 이 실행됐는지 보여주기 위해 최근 SQL 을 원형 버퍼에 남긴다.
+    private final String[] recentStatements = new String[RECENT_STATEMENT_SLOTS];
+    private long preparedStatementCount;
+    private long totalStatementCount;
+    private long requestStartedAt;
+    private int statementCount;
+    private long statementTimeInNanos;
+    private long statementStartedAt;
+
+    private RequestStats() {
+    }
+
+    public static RequestStats current() {
+        return CURRENT.get();
+    }
+
+    public void begin() {
+        requestStartedAt = System.nanoTime();
+        statementCount = 0;
+        statementTimeInNanos = 0;
+        statementStartedAt = 0;
+    }
+
+    public void end() {
+        requestStartedAt = 0;
+    }
+
+    public boolean inRequest() {
+        return requestStartedAt != 0;
+    }
+
+    public long elapsedInNanos() {
+        return System.nanoTime() - requestStartedAt;
+    }
+
+    public void statementPrepared(final String sql) {
+        recentStatements[(int) (preparedStatementCount++ % RECENT_STATEMENT_SLOTS)] = sql;
+    }
+
+    public void statementStarted() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    public void statementFinished() {
+        if (statementStartedAt == 0) {
+            return;
+        }
+        statementCount++;
+        totalStatementCount++;
+        statementTimeInNanos += System.nanoTime() - statementStartedAt;
+        statementStartedAt = 0;
+    }
+
+    public int statementCount() {
+        return statementCount;
+    }
+
+    public long statementTimeInNanos() {
+        return statementTimeInNanos;
+    }
+
+    // 요청 경계와 상관없이 이 스레드가 지금까지 실행한 JDBC 문장 수
+    public long totalStatementCount() {
+        return totalStatementCount;
+    }
+
+    // 가장 최근에 준비된 SQL 을 오래된 것부터 최대 limit 개 돌려준다.
+    public List<String> recentStatements(final int limit) {
+        final int count = (int) Math.min(Math.min(limit, RECENT_STATEMENT_SLOTS), preparedStatementCount);
+        final List<String> statements = new ArrayList<>(count);
+        for (long i = preparedStatementCount - count; i < preparedStatementCount; i++) {
+            statements.add(recentStatements[(int) (i % RECENT_STATEMENT_SLOTS)]);
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,13 @@
+package friendy.community.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// hibernate.session_factory.statement_inspector 로 등록되어, 준비되는 SQL 을 현재 스레드의 통계에 남긴다.
+public class SqlCapturingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(final String sql) {
+        RequestStats.current().statementPrepared(sql);
+        return sql;
+    }
+}
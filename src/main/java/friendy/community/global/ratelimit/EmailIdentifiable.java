@@ -0,0 +1,6 @@
+package friendy.community.global.ratelimit;
+
+// 요청 본문에 이메일이 있는 DTO 가 구현하면 이메일 단위로 요청 수를 제한할 수 있다.
+public interface EmailIdentifiable {
+    String email();
+}
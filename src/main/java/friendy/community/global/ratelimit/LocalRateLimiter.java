@@ -0,0 +1,130 @@
+package friendy.community.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 노드마다 따로 집계한다. 키별 상태는 해시로 나눈 잠금 구간 안에서만 갱신한다.
+@Component
+@ConditionalOnProperty(name = "friendy.community.rate-limit.mode", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimiter implements RateLimiter {
+
+    private static final int STRIPE_COUNT = 64;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+    private final Cache<String, LimitState> states;
+
+    public LocalRateLimiter(
+            @Value("${friendy.community.rate-limit.local.maximum-keys:100000}") final long maximumKeys,
+            @Value("${friendy.community.rate-limit.local.expire-after-access:1h}") final Duration expireAfterAccess
+    ) {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.states = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    @Override
+    public RateLimitDecision tryAcquireAll(final List<RateLimitBucket> buckets) {
+        final long now = System.currentTimeMillis();
+        // 여러 잠금 구간을 잡을 때는 항상 같은 순서로 잡아 교착을 막는다.
+        final int[] stripeIndexes = buckets.stream()
+                .mapToInt(bucket -> Math.floorMod(bucket.key().hashCode(), STRIPE_COUNT))
+                .distinct()
+                .sorted()
+                .toArray();
+        for (int index : stripeIndexes) {
+            stripes[index].lock();
+        }
+        try {
+            final List<LimitState> limitStates = new ArrayList<>(buckets.size());
+            boolean rejected = false;
+            long retryAfterInMs = 0;
+            for (RateLimitBucket bucket : buckets) {
+                final RateLimitRule rule = bucket.rule();
+                final LimitState state = states.get(bucket.key(), ignored -> new LimitState(rule.limit(), now));
+                final long waitInMs = rule.algorithm() == RateLimitAlgorithm.TOKEN_BUCKET
+                        ? checkToken(state, rule, now)
+                        : checkSlot(state, rule, now);
+                if (waitInMs > 0) {
+                    rejected = true;
+                    retryAfterInMs = Math.max(retryAfterInMs, waitInMs);
+                }
+                limitStates.add(state);
+            }
+            if (rejected) {
+                return RateLimitDecision.reject(retryAfterInMs);
+            }
+
+            for (int i = 0; i < buckets.size(); i++) {
+                consume(limitStates.get(i), buckets.get(i).rule());
+            }
+            return RateLimitDecision.allow();
+        } finally {
+            for (int i = stripeIndexes.length - 1; i >= 0; i--) {
+                stripes[stripeIndexes[i]].unlock();
+            }
+        }
+    }
+
+    // 확인 단계에서는 경과 시간만 반영하고 차감하지 않는다. 반환값은 재시도까지 남은 시간이며 0 이면 허용이다.
+    private long checkToken(final LimitState state, final RateLimitRule rule, final long now) {
+        final double refillPerMs = (double) rule.limit() / rule.windowInMs();
+        state.tokens = Math.min(rule.limit(), state.tokens + Math.max(0, now - state.updatedAt) * refillPerMs);
+        state.updatedAt = now;
+        if (state.tokens >= 1) {
+            return 0;
+        }
+        return (long) Math.ceil((1 - state.tokens) / refillPerMs);
+    }
+
+    private long checkSlot(final LimitState state, final RateLimitRule rule, final long now) {
+        final long window = rule.windowInMs();
+        final long windowStart = now - now % window;
+        if (state.windowStart != windowStart) {
+            state.previousCount = windowStart - state.windowStart == window ? state.currentCount : 0;
+            state.currentCount = 0;
+            state.windowStart = windowStart;
+        }
+
+        final long elapsed = now - windowStart;
+        final double estimated = state.previousCount * (double) (window - elapsed) / window + state.currentCount;
+        if (estimated + 1 > rule.limit()) {
+            return window - elapsed;
+        }
+        return 0;
+    }
+
+    private void consume(final LimitState state, final RateLimitRule rule) {
+        if (rule.algorithm() == RateLimitAlgorithm.TOKEN_BUCKET) {
+            state.tokens -= 1;
+        } else {
+            state.currentCount++;
+        }
+    }
+
+    private static final class LimitState {
+
+        private double tokens;
+        private long updatedAt;
+        private long windowStart;
+        private long currentCount;
+        private long previousCount;
+
+        private LimitState(final int limit, final long now) {
+            this.tokens = limit;
+            this.updatedAt = now;
+            this.windowStart = -1;
+        }
+    }
+}
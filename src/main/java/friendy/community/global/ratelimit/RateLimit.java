@@ -0,0 +1,26 @@
+package friendy.community.global.ratelimit;
+
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+
+@Target(value = METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(RateLimits.class)
+public @interface RateLimit {
+
+    // 같은 식별자라도 이름이 다르면 별도로 집계한다.
+    String name();
+
+    RateLimitKey key();
+
+    RateLimitAlgorithm algorithm() default RateLimitAlgorithm.TOKEN_BUCKET;
+
+    int limit();
+
+    // 초 단위
+    long window();
+}
@@ -0,0 +1,16 @@
+package friendy.community.global.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum RateLimitAlgorithm {
+
+    // 구간 동안 limit 개의 토큰이 일정하게 채워진다. 순간적인 몰림을 limit 까지 허용한다.
+    TOKEN_BUCKET("token_bucket"),
+    // 직전 구간의 요청 수를 경과 비율만큼 반영해 구간 경계에서 두 배가 허용되는 것을 막는다.
+    SLIDING_WINDOW("sliding_window");
+
+    private final String scriptName;
+}
@@ -0,0 +1,50 @@
+package friendy.community.global.ratelimit;
+
+import friendy.community.global.exception.RateLimitExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 요청 본문이 검증된 뒤에 동작해야 이메일 단위 제한을 걸 수 있으므로 인터셉터가 아닌 컨트롤러 메서드에 적용한다.
+@Aspect
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "friendy.community.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitAspect {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitKeyResolver keyResolver;
+    private final Map<Method, List<RateLimitRule>> rules = new ConcurrentHashMap<>();
+
+    @Around("@annotation(friendy.community.global.ratelimit.RateLimit) || @annotation(friendy.community.global.ratelimit.RateLimits)")
+    public Object limit(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        final HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+
+        final List<RateLimitRule> methodRules = rules.computeIfAbsent(method, RateLimitRule::of);
+        final List<RateLimitBucket> buckets = new ArrayList<>(methodRules.size());
+        for (RateLimitRule rule : methodRules) {
+            final String identifier = keyResolver.resolve(rule.key(), request, joinPoint.getArgs());
+            buckets.add(new RateLimitBucket(rule.name() + ":" + identifier, rule));
+        }
+        // 앞선 규칙이 차감한 뒤 뒤 규칙이 거절하면 거절된 요청도 한도를 깎으므로, 모든 규칙을 한 번에 확인한다.
+        final RateLimitDecision decision = rateLimiter.tryAcquireAll(buckets);
+        if (!decision.allowed()) {
+            throw new RateLimitExceededException(decision.retryAfterInMs());
+        }
+        return joinPoint.proceed();
+    }
+}
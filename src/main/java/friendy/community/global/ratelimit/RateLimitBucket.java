@@ -0,0 +1,7 @@
+package friendy.community.global.ratelimit;
+
+public record RateLimitBucket(
+        String key,
+        RateLimitRule rule
+) {
+}
@@ -0,0 +1,17 @@
+package friendy.community.global.ratelimit;
+
+public record RateLimitDecision(
+        boolean allowed,
+        long retryAfterInMs
+) {
+
+    private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0);
+
+    public static RateLimitDecision allow() {
+        return ALLOWED;
+    }
+
+    public static RateLimitDecision reject(final long retryAfterInMs) {
+        return new RateLimitDecision(false, retryAfterInMs);
+    }
+}
@@ -0,0 +1,8 @@
+package friendy.community.global.ratelimit;
+
+public enum RateLimitKey {
+
+    IP,
+    EMAIL,
+    MEMBER
+}
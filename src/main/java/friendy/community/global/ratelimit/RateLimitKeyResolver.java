@@ -0,0 +1,37 @@
+package friendy.community.global.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class RateLimitKeyResolver {
+
+    private final RateLimitMemberResolver memberResolver;
+
+    // 이메일이나 회원을 알 수 없는 요청은 IP 로 대신 집계한다.
+    public String resolve(final RateLimitKey key, final HttpServletRequest request, final Object[] arguments) {
+        return switch (key) {
+            case IP -> "ip:" + request.getRemoteAddr();
+            case EMAIL -> findEmail(arguments)
+                    .map(email -> "email:" + email.toLowerCase(Locale.ROOT))
+                    .orElseGet(() -> "ip:" + request.getRemoteAddr());
+            case MEMBER -> memberResolver.resolve(request)
+                    .map(member -> "member:" + member)
+                    .orElseGet(() -> "ip:" + request.getRemoteAddr());
+        };
+    }
+
+    private Optional<String> findEmail(final Object[] arguments) {
+        for (Object argument : arguments) {
+            if (argument instanceof EmailIdentifiable identifiable && identifiable.email() != null) {
+                return Optional.of(identifiable.email());
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,10 @@
+package friendy.community.global.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Optional;
+
+@FunctionalInterface
+public interface RateLimitMemberResolver {
+    Optional<String> resolve(HttpServletRequest request);
+}
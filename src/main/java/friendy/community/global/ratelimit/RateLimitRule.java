@@ -0,0 +1,31 @@
+package friendy.community.global.ratelimit;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public record RateLimitRule(
+        String name,
+        RateLimitKey key,
+        RateLimitAlgorithm algorithm,
+        int limit,
+        long windowInMs
+) {
+
+    public static RateLimitRule from(final RateLimit rateLimit) {
+        return new RateLimitRule(
+                rateLimit.name(),
+                rateLimit.key(),
+                rateLimit.algorithm(),
+                rateLimit.limit(),
+                TimeUnit.SECONDS.toMillis(rateLimit.window())
+        );
+    }
+
+    public static List<RateLimitRule> of(final Method method) {
+        return Arrays.stream(method.getAnnotationsByType(RateLimit.class))
+                .map(RateLimitRule::from)
+                .toList();
+    }
+}
@@ -0,0 +1,13 @@
+package friendy.community.global.ratelimit;
+
+import java.util.List;
+
+public interface RateLimiter {
+
+    // 모든 버킷을 먼저 확인하고, 모두 허용할 때만 한꺼번에 차감한다. 하나라도 거절하면 어느 버킷도 차감하지 않는다.
+    RateLimitDecision tryAcquireAll(List<RateLimitBucket> buckets);
+
+    default RateLimitDecision tryAcquire(final String key, final RateLimitRule rule) {
+        return tryAcquireAll(List.of(new RateLimitBucket(key, rule)));
+    }
+}
@@ -0,0 +1,13 @@
+package friendy.community.global.ratelimit;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+
+@Target(value = METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimits {
+    RateLimit[] value();
+}
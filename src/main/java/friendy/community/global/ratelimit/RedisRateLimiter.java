@@ -0,0 +1,67 @@
+package friendy.community.global.ratelimit;
+
+import friendy.community.global.redis.RedisKeyspace;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 모든 노드가 같은 상태를 공유한다. 요청에 걸린 모든 버킷의 확인과 차감을 스크립트 하나로 처리한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "friendy.community.rate-limit.mode", havingValue = "redis")
+public class RedisRateLimiter implements RateLimiter {
+
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<Long>> RATE_LIMIT_SCRIPT =
+            (RedisScript<List<Long>>) (RedisScript<?>) RedisScript.of(new ClassPathResource("scripts/rate_limit.lua"), List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public RateLimitDecision tryAcquireAll(final List<RateLimitBucket> buckets) {
+        if (buckets.isEmpty()) {
+            return RateLimitDecision.allow();
+        }
+        final List<String> keys = new ArrayList<>(buckets.size());
+        final List<String> arguments = new ArrayList<>(buckets.size() * 3);
+        for (RateLimitBucket bucket : buckets) {
+            keys.add(keyOf(bucket, buckets));
+            arguments.add(bucket.rule().algorithm().getScriptName());
+            arguments.add(String.valueOf(bucket.rule().limit()));
+            arguments.add(String.valueOf(bucket.rule().windowInMs()));
+        }
+
+        final List<Long> result;
+        try {
+            result = redisTemplate.execute(RATE_LIMIT_SCRIPT, keys, arguments.toArray());
+        } catch (RedisConnectionFailureException | QueryTimeoutException e) {
+            // Redis 장애로 모든 요청을 막지 않도록, 연결하지 못할 때만 통과시킨다. 스크립트 오류는 그대로 드러낸다.
+            log.warn("요청 수 제한 상태를 확인하지 못해 요청을 허용합니다. keys : {}", keys, e);
+            return RateLimitDecision.allow();
+        }
+
+        if (result == null || result.get(0) == 1L) {
+            return RateLimitDecision.allow();
+        }
+        return RateLimitDecision.reject(result.get(1));
+    }
+
+    // 스크립트의 키는 클러스터에서 한 슬롯에 있어야 한다. 버킷이 여럿이면 식별자가 달라도 첫 규칙 이름을 공통 해시 태그로 쓴다.
+    // 한 메서드의 규칙 구성은 바뀌지 않으므로 같은 버킷은 요청마다 같은 키가 된다.
+    static String keyOf(final RateLimitBucket bucket, final List<RateLimitBucket> buckets) {
+        if (buckets.size() == 1) {
+            return RedisKeyspace.RATE_LIMIT.key(bucket.key());
+        }
+        return RedisKeyspace.RATE_LIMIT.key(buckets.get(0).rule().name(), bucket.key());
+    }
+}
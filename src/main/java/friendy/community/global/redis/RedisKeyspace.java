@@ -0,0 +1,32 @@
+package friendy.community.global.redis;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum RedisKeyspace {
+
+    SESSION("session:"),
+    SESSION_ISSUED_AT("session-issued-at:"),
+    SESSION_ACCESS_TOKEN("session-access-token:"),
+    EMAIL_AUTH_CODE("email-auth-code:"),
+    REVOKED_ACCESS_TOKEN("revoked-access-token:"),
+    RATE_LIMIT("rate-limit:");
+
+    private final String prefix;
+
+    // 같은 회원의 키들이 클러스터에서도 한 슬롯에 모이도록 식별자를 해시 태그로 감싼다.
+    public String key(final String id) {
+        return prefix + "{" + id + "}";
+    }
+
+    // 여러 키를 한 스크립트에서 다뤄야 할 때, 식별자 대신 공통 태그로 묶어 클러스터에서 같은 슬롯에 둔다.
+    public String key(final String tag, final String id) {
+        return prefix + "{" + tag + "}" + id;
+    }
+
+    public String extractId(final String key) {
+        return key.substring(prefix.length() + 1, key.length() - 1);
+    }
+}
@@ -0,0 +1,59 @@
+-- ddl-auto: update 로 만들어지던 스키마. 이미 운영 중인 DB 는 이 버전을 기준선(baseline)으로 삼고 V2 부터 적용한다.
+CREATE TABLE member (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    email      VARCHAR(255) NOT NULL,
+    nickname   VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    salt       VARCHAR(255) NOT NULL,
+    birth_date DATE         NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_member_email UNIQUE (email),
+    CONSTRAINT uk_member_nickname UNIQUE (nickname)
+);
+
+CREATE TABLE post (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    member_id     BIGINT       NOT NULL,
+    content       VARCHAR(255) NOT NULL,
+    like_count    INTEGER      DEFAULT 0 NOT NULL,
+    comment_count INTEGER      DEFAULT 0 NOT NULL,
+    share_count   INTEGER      DEFAULT 0 NOT NULL,
+    created_date  DATETIME(6),
+    modified_date DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE hashtag (
+    id   BIGINT       NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_hashtag_name UNIQUE (name)
+);
+
+CREATE TABLE post_hashtag (
+    post_id    BIGINT NOT NULL,
+    hashtag_id BIGINT NOT NULL,
+    PRIMARY KEY (post_id, hashtag_id),
+    CONSTRAINT fk_post_hashtag_post FOREIGN KEY (post_id) REFERENCES post (id),
+    CONSTRAINT fk_post_hashtag_hashtag FOREIGN KEY (hashtag_id) REFERENCES hashtag (id)
+);
+
+CREATE TABLE email_outbox (
+    id              BIGINT        NOT NULL AUTO_INCREMENT,
+    recipient       VARCHAR(255)  NOT NULL,
+    subject         VARCHAR(255)  NOT NULL,
+    template_name   VARCHAR(255)  NOT NULL,
+    variables       VARCHAR(2000) NOT NULL,
+    status          ENUM ('PENDING', 'SENDING', 'SENT', 'FAILED') NOT NULL,
+    attempts        INTEGER       NOT NULL,
+    next_attempt_at DATETIME(6)   NOT NULL,
+    claimed_at      DATETIME(6),
+    sent_at         DATETIME(6),
+    last_error      VARCHAR(500),
+    created_date    DATETIME(6),
+    modified_date   DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_email_outbox_status_next_attempt ON email_outbox (status, next_attempt_at);
@@ -0,0 +1,8 @@
+-- 최신순 피드: 인덱스 순서대로 읽으면 정렬 없이 LIMIT 만큼 읽고 멈춘다. 같은 시각의 게시글은 id 로 순서를 고정한다.
+CREATE INDEX idx_post_created_date ON post (created_date DESC, id DESC);
+
+-- 작성자의 게시글을 최신순으로 찾는다. 회원 삭제 시 외래 키 확인에도 쓰인다.
+CREATE INDEX idx_post_member_created_date ON post (member_id, created_date DESC);
+
+-- 기본 키 (post_id, hashtag_id) 는 hashtag_id 로 시작하는 조회에 쓸 수 없으므로 해시태그로 게시글을 찾는 순서의 인덱스를 둔다.
+CREATE INDEX idx_post_hashtag_hashtag_post ON post_hashtag (hashtag_id, post_id);
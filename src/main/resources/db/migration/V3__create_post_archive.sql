@@ -0,0 +1,14 @@
+-- 오래된 게시글을 옮겨 두는 콜드 저장소. 본문과 해시태그 이름은 압축해 payload 하나에 담고, 조회에 필요한 값만 열로 남긴다.
+CREATE TABLE post_archive (
+    id            BIGINT          NOT NULL,
+    member_id     BIGINT          NOT NULL,
+    like_count    INTEGER         NOT NULL,
+    comment_count INTEGER         NOT NULL,
+    share_count   INTEGER         NOT NULL,
+    created_date  DATETIME(6),
+    modified_date DATETIME(6),
+    archived_at   DATETIME(6)     NOT NULL,
+    payload       VARBINARY(4096) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_archive_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
@@ -0,0 +1,2 @@
+-- 핫 테이블을 다 읽은 피드 페이지는 보관된 게시글로 이어진다. 핫 테이블 피드와 같은 순서로 정렬 없이 읽는다.
+CREATE INDEX idx_post_archive_created_date ON post_archive (created_date DESC, id DESC);
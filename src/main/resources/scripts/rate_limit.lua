@@ -0,0 +1,74 @@
+-- KEYS[i] : i 번째 요청 수 제한 상태 해시
+-- ARGV[3i-2] : 알고리즘(token_bucket | sliding_window), ARGV[3i-1] : 허용 횟수, ARGV[3i] : 구간 길이(ms)
+-- 모든 버킷을 먼저 확인하고, 모두 허용할 때만 차감한다. 하나라도 거절하면 어느 버킷도 바꾸지 않는다.
+-- 반환값 : { 허용 여부(1 = 허용, 0 = 거절), 재시도까지 남은 시간(ms, 거절한 버킷 중 가장 긴 값) }
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+-- 반환값 : 재시도까지 남은 시간(허용이면 0), 허용일 때 저장할 필드, 만료 시간(ms)
+local function checkTokenBucket(key, limit, window)
+    local state = redis.call('HMGET', key, 'tokens', 'updated_at')
+    local tokens = tonumber(state[1]) or limit
+    local updatedAt = tonumber(state[2]) or now
+    local refillPerMs = limit / window
+    tokens = math.min(limit, tokens + math.max(0, now - updatedAt) * refillPerMs)
+
+    if tokens < 1 then
+        return math.ceil((1 - tokens) / refillPerMs), nil, nil
+    end
+    return 0, { 'tokens', tostring(tokens - 1), 'updated_at', tostring(now) }, window
+end
+
+local function checkSlidingWindow(key, limit, window)
+    local windowStart = now - (now % window)
+    local state = redis.call('HMGET', key, 'window_start', 'current', 'previous')
+    local storedStart = tonumber(state[1]) or windowStart
+    local current = tonumber(state[2]) or 0
+    local previous = tonumber(state[3]) or 0
+    if storedStart ~= windowStart then
+        if windowStart - storedStart == window then
+            previous = current
+        else
+            previous = 0
+        end
+        current = 0
+    end
+
+    local elapsed = now - windowStart
+    local estimated = previous * (window - elapsed) / window + current
+    if estimated + 1 > limit then
+        return window - elapsed, nil, nil
+    end
+    return 0, { 'window_start', tostring(windowStart), 'current', tostring(current + 1), 'previous', tostring(previous) }, window * 2
+end
+
+local updates = {}
+local rejected = false
+local retryAfter = 0
+for i, key in ipairs(KEYS) do
+    local offset = (i - 1) * 3
+    local limit = tonumber(ARGV[offset + 2])
+    local window = tonumber(ARGV[offset + 3])
+    local check = checkSlidingWindow
+    if ARGV[offset + 1] == 'token_bucket' then
+        check = checkTokenBucket
+    end
+
+    local wait, fields, ttl = check(key, limit, window)
+    if fields == nil then
+        rejected = true
+        retryAfter = math.max(retryAfter, wait)
+    else
+        updates[i] = { fields = fields, ttl = ttl }
+    end
+end
+
+if rejected then
+    return { 0, retryAfter }
+end
+
+for i, key in ipairs(KEYS) do
+    redis.call('HSET', key, unpack(updates[i].fields))
+    redis.call('PEXPIRE', key, updates[i].ttl)
+end
+return { 1, 0 }
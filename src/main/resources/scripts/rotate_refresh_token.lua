@@ -0,0 +1,20 @@
+-- KEYS[1] : 기기별 리프레시 토큰 해시, KEYS[2] : 기기별 발급 시각 해시
+-- ARGV[1] : 기기 식별자, ARGV[2] : 제시된 리프레시 토큰, ARGV[3] : 새 리프레시 토큰
+-- ARGV[4] : 세션 만료 시간(ms), ARGV[5] : 발급 시각(epoch ms)
+-- 반환값 : 1 = 교체 성공, 0 = 세션 없음, -1 = 이미 교체된 토큰 재사용(해당 기기의 토큰 계열 폐기)
+local current = redis.call('HGET', KEYS[1], ARGV[1])
+if not current then
+    return 0
+end
+
+if current ~= ARGV[2] then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    redis.call('HDEL', KEYS[2], ARGV[1])
+    return -1
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+redis.call('HSET', KEYS[2], ARGV[1], ARGV[5])
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+redis.call('PEXPIRE', KEYS[2], ARGV[4])
+return 1
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import friendy.community.domain.auth.dto.request.LoginRequest;
 import friendy.community.domain.auth.jwt.JwtTokenProvider;
 import friendy.community.domain.member.dto.request.PasswordRequest;
+import friendy.community.domain.auth.dto.response.FindAllSessionResponse;
+import friendy.community.domain.auth.dto.response.SessionResponse;
 import friendy.community.domain.auth.dto.response.TokenResponse;
 import friendy.community.domain.auth.jwt.JwtTokenExtractor;
 import friendy.community.domain.auth.service.AuthService;
@@ -25,14 +27,19 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static friendy.community.domain.auth.fixtures.TokenFixtures.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AuthController.class)
@@ -62,7 +69,7 @@ class AuthControllerTest {
         LoginRequest loginRequest = new LoginRequest("example@friendy.com", "password123!");
         TokenResponse loginResponse = TokenResponse.of("accessToken", "refreshToken");
 
-        when(authService.login(any(LoginRequest.class))).thenReturn(loginResponse);
+        when(authService.login(any(LoginRequest.class), any())).thenReturn(loginResponse);
 
         // When & Then
         mockMvc.perform(post("/auth/login")
@@ -80,7 +87,7 @@ class AuthControllerTest {
         // Given
         LoginRequest loginRequest = new LoginRequest("nonexistent@example.com", "password123!");
 
-        when(authService.login(any(LoginRequest.class)))
+        when(authService.login(any(LoginRequest.class), any()))
                 .thenThrow(new FriendyException(ErrorCode.UNAUTHORIZED_EMAIL, "해당 이메일의 회원이 존재하지 않습니다."));
 
         // When & Then
@@ -99,7 +106,7 @@ class AuthControllerTest {
         // Given
         LoginRequest loginRequest = new LoginRequest("example@friendy.com", "password123!");
 
-        when(authService.login(any(LoginRequest.class)))
+        when(authService.login(any(LoginRequest.class), any()))
                 .thenThrow(new FriendyException(ErrorCode.UNAUTHORIZED_PASSWORD, "로그인에 실패하였습니다. 비밀번호를 확인해주세요."));
 
         // When & Then
@@ -311,4 +318,38 @@ class AuthControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("세션 목록 조회 요청이 성공하면 200 OK와 함께 기기별 세션 목록을 반환한다")
+    void getSessionsSuccessfullyReturns200() throws Exception {
+        // Given
+        when(jwtTokenExtractor.extractAccessToken(any(HttpServletRequest.class))).thenReturn("accessToken");
+        when(authService.getSessions("accessToken")).thenReturn(new FindAllSessionResponse(List.of(
+                new SessionResponse("default", "2025-01-01T12:00:00", true),
+                new SessionResponse("iphone-15", "2025-01-01T10:00:00", false)
+        )));
+
+        // When & Then
+        mockMvc.perform(get("/auth/sessions")
+                        .header("Authorization", "Bearer accessToken"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sessions.length()").value(2))
+                .andExpect(jsonPath("$.sessions[1].deviceId").value("iphone-15"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 세션 종료 요청 시 404 NOT FOUND 반환")
+    void revokeUnknownSessionReturns404() throws Exception {
+        // Given
+        when(jwtTokenExtractor.extractAccessToken(any(HttpServletRequest.class))).thenReturn("accessToken");
+        doThrow(new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 세션입니다."))
+                .when(authService).revokeSession("accessToken", "unknown-device");
+
+        // When & Then
+        mockMvc.perform(delete("/auth/sessions/unknown-device")
+                        .header("Authorization", "Bearer accessToken"))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
 }
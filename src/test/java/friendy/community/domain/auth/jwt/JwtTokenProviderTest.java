@@ -2,18 +2,19 @@ package friendy.community.domain.auth.jwt;
 
 import friendy.community.domain.auth.service.AuthService;
 import friendy.community.global.exception.FriendyException;
+import friendy.community.global.redis.RedisKeyspace;
 import org.assertj.core.data.Percentage;
 import org.hamcrest.number.IsCloseTo;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
-import java.util.concurrent.TimeUnit;
-
 import static friendy.community.domain.auth.fixtures.TokenFixtures.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -91,42 +92,34 @@ class JwtTokenProviderTest {
                 .hasMessageContaining("인증 실패(JWT 액세스 토큰 Payload 이메일 누락) - 토큰 : " + tokenWithoutEmailClaim);
     }
 
+    private void mockSessionExists(String email, String deviceId, boolean exists) {
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.hasKey(RedisKeyspace.SESSION.key(email), deviceId)).thenReturn(exists);
+    }
+
     @Test
     @DisplayName("리프레시 토큰 생성에 성공하면 redis에 토큰이 저장된다.")
     void generateRefreshTokenSuccessfullyStoresRefreshToken() {
         // given
         String email = "example@friendy.com";
 
-        // Redis Mock 설정
-        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
         // when
         String refreshToken = jwtTokenProvider.generateRefreshToken(email);
 
         // then
         assertThat(refreshToken).isNotNull();
-        verify(valueOperations, times(1)).set(
-                eq(email),
-                eq(refreshToken),
-                anyLong(),
-                eq(TimeUnit.MILLISECONDS)
-        );
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
     }
 
     @Test
     @DisplayName("리프레시 토큰에서 이메일을 추출한다")
     void extractEmailFromRefreshTokenSuccessfully() {
-        // Redis Mock 설정
-        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
         // given
         String email = "example@friendy.com";
         String refreshToken = jwtTokenProvider.generateRefreshToken(email);
 
-        when(redisTemplate.hasKey(email)).thenReturn(true);
-        when(redisTemplate.opsForValue().get(email)).thenReturn(refreshToken);
+        mockSessionExists(email, JwtTokenProvider.DEFAULT_DEVICE_ID, true);
 
         // when
         String extractedEmail = jwtTokenProvider.extractEmailFromRefreshToken(refreshToken);
@@ -174,15 +167,11 @@ class JwtTokenProviderTest {
     @Test
     @DisplayName("유효한 리프레시 토큰이 Redis에 저장되어 있지 않으면 예외를 발생시킨다")
     void throwExceptionForValidRefreshTokenNotSavedInRedis() {
-        // Redis Mock 설정
-        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
         // given
         String email = "example@friendy.com";
         String refreshToken = jwtTokenProvider.generateRefreshToken(email);
 
-        when(redisTemplate.hasKey(email)).thenReturn(false);
+        mockSessionExists(email, JwtTokenProvider.DEFAULT_DEVICE_ID, false);
 
         // when & then
         assertThatThrownBy(() -> jwtTokenProvider.extractEmailFromRefreshToken(refreshToken))
@@ -190,4 +179,41 @@ class JwtTokenProviderTest {
                 .hasMessageContaining("로그인 되어있지 않은 사용자입니다.");
     }
 
+    @Test
+    @DisplayName("토큰에는 발급한 기기 식별자가 담긴다")
+    void tokenCarriesDeviceId() {
+        // given
+        String email = "example@friendy.com";
+        String refreshToken = jwtTokenProvider.generateRefreshToken(email, "iphone-15");
+        String accessToken = jwtTokenProvider.generateAccessToken(email, "iphone-15");
+
+        mockSessionExists(email, "iphone-15", true);
+
+        // when
+        TokenPayload refreshPayload = jwtTokenProvider.extractPayloadFromRefreshToken(refreshToken);
+        TokenPayload accessPayload = jwtTokenProvider.extractPayloadFromAccessToken(accessToken);
+
+        // then
+        assertThat(refreshPayload).isEqualTo(new TokenPayload(email, "iphone-15"));
+        assertThat(accessPayload).isEqualTo(new TokenPayload(email, "iphone-15"));
+    }
+
+    @Test
+    @DisplayName("같은 요청에서 이미 검증한 액세스 토큰은 다시 파싱하지 않고 결과를 재사용한다")
+    void reusesPayloadVerifiedInSameRequest() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        String accessToken = jwtTokenProvider.generateAccessToken("example@friendy.com", "iphone-15");
+        String otherAccessToken = jwtTokenProvider.generateAccessToken("other@friendy.com", "iphone-15");
+        TokenPayload first = jwtTokenProvider.extractPayloadFromAccessToken(accessToken, request);
+
+        // when
+        TokenPayload reused = jwtTokenProvider.extractPayloadFromAccessToken(accessToken, request);
+        TokenPayload other = jwtTokenProvider.extractPayloadFromAccessToken(otherAccessToken, request);
+
+        // then
+        assertThat(reused).isSameAs(first);
+        assertThat(other.email()).isEqualTo("other@friendy.com");
+    }
+
 }
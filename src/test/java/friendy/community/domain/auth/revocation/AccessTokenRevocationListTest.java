@@ -0,0 +1,102 @@
+package friendy.community.domain.auth.revocation;
+
+import friendy.community.global.redis.RedisKeyspace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class AccessTokenRevocationListTest {
+
+    private StringRedisTemplate redisTemplate;
+    private AccessTokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        revocationList = new AccessTokenRevocationList(redisTemplate, mock(RedisMessageListenerContainer.class), 3_600_000L, 1_000, 0.01);
+
+        Cursor<String> emptyCursor = mock(Cursor.class);
+        when(emptyCursor.hasNext()).thenReturn(false);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(emptyCursor);
+    }
+
+    @Test
+    @DisplayName("필터를 불러온 뒤에는 폐기되지 않은 토큰을 Redis 조회 없이 판단한다")
+    void unrevokedTokenIsAnsweredLocally() {
+        // Given
+        revocationList.warmUp();
+
+        // When
+        boolean revoked = revocationList.isRevoked("unknown-token-id");
+
+        // Then
+        assertThat(revoked).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("필터를 불러오기 전에는 Redis 에서 폐기 여부를 확인한다")
+    void fallsThroughToRedisBeforeWarmUp() {
+        // Given
+        when(redisTemplate.hasKey(RedisKeyspace.REVOKED_ACCESS_TOKEN.key("token-id"))).thenReturn(true);
+
+        // When & Then
+        assertThat(revocationList.isRevoked("token-id")).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰을 폐기하면 남은 수명만큼 Redis 에 기록하고 다른 노드에 알린다")
+    void revokeStoresWithRemainingLifetimeAndPublishes() {
+        // Given
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        revocationList.warmUp();
+
+        // When
+        revocationList.revoke("token-id", System.currentTimeMillis() + 60_000L);
+        when(redisTemplate.hasKey(RedisKeyspace.REVOKED_ACCESS_TOKEN.key("token-id"))).thenReturn(true);
+
+        // Then
+        verify(valueOperations).set(eq(RedisKeyspace.REVOKED_ACCESS_TOKEN.key("token-id")), eq("1"), any(Duration.class));
+        verify(redisTemplate).convertAndSend(AccessTokenRevocationList.REVOCATION_CHANNEL, "token-id");
+        assertThat(revocationList.isRevoked("token-id")).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 폐기 목록에 기록하지 않는다")
+    void expiredTokenIsNotStored() {
+        // When
+        revocationList.revoke("token-id", System.currentTimeMillis() - 1_000L);
+
+        // Then
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 폐기 알림을 받으면 해당 토큰은 Redis 에서 다시 확인한다")
+    void remoteRevocationIsMirroredLocally() {
+        // Given
+        revocationList.warmUp();
+        when(redisTemplate.hasKey(RedisKeyspace.REVOKED_ACCESS_TOKEN.key("remote-token-id"))).thenReturn(true);
+
+        // When
+        revocationList.onMessage(new DefaultMessage(
+                AccessTokenRevocationList.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "remote-token-id".getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        assertThat(revocationList.isRevoked("remote-token-id")).isTrue();
+    }
+}
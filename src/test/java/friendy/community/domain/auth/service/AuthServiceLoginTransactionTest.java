@@ -0,0 +1,74 @@
+package friendy.community.domain.auth.service;
+
+import friendy.community.domain.auth.dto.request.LoginRequest;
+import friendy.community.domain.member.cache.MemberCache;
+import friendy.community.domain.member.encryption.PasswordHashingService;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static friendy.community.domain.auth.jwt.JwtTokenProvider.DEFAULT_DEVICE_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+// 로그인이 트랜잭션 밖에서 해시를 계산하는지 보려면 테스트 트랜잭션 없이 돌려야 하므로 데이터는 직접 정리한다.
+@SpringBootTest
+@DirtiesContext
+class AuthServiceLoginTransactionTest {
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MemberCache memberCache;
+    @MockitoSpyBean
+    private PasswordHashingService passwordHashingService;
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    private Member member;
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAllInBatch();
+        memberCache.evict(member);
+    }
+
+    @Test
+    @DisplayName("로그인은 비밀번호 검증과 재암호화를 트랜잭션 밖에서 수행하고, 바뀐 해시는 저장한다")
+    void loginHashesOutsideTransaction() {
+        // Given
+        member = memberRepository.save(MemberFixture.memberFixture());
+        List<Boolean> transactionActive = new ArrayList<>();
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordHashingService).matches(anyString(), anyString(), anyString());
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordHashingService).hash(anyString(), anyString());
+
+        // When
+        authService.login(new LoginRequest(member.getEmail(), MemberFixture.getFixturePlainPassword()), DEFAULT_DEVICE_ID);
+
+        // Then
+        assertThat(transactionActive).hasSize(2).containsOnly(false);
+        assertThat(memberRepository.findByEmail(member.getEmail()).orElseThrow().getPassword()).startsWith("{pbkdf2}");
+    }
+}
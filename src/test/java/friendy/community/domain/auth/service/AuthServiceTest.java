@@ -1,13 +1,16 @@
 package friendy.community.domain.auth.service;
 
 import friendy.community.domain.auth.dto.request.LoginRequest;
+import friendy.community.domain.auth.dto.response.FindAllSessionResponse;
 import friendy.community.domain.auth.dto.response.TokenResponse;
 import friendy.community.domain.auth.jwt.JwtTokenExtractor;
 import friendy.community.domain.auth.jwt.JwtTokenProvider;
+import friendy.community.domain.member.cache.MemberCache;
 import friendy.community.domain.member.fixture.MemberFixture;
 import friendy.community.domain.member.model.Member;
 import friendy.community.domain.member.repository.MemberRepository;
 import friendy.community.global.exception.FriendyException;
+import friendy.community.global.redis.RedisKeyspace;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.DisplayName;
@@ -15,15 +18,22 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.io.Console;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static friendy.community.domain.auth.fixtures.TokenFixtures.*;
+import static friendy.community.domain.auth.jwt.JwtTokenProvider.DEFAULT_DEVICE_ID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
@@ -42,27 +52,54 @@ class AuthServiceTest {
     @Autowired
     JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    MemberCache memberCache;
+
     @MockitoBean
     private StringRedisTemplate redisTemplate;
 
+    private void mockLoggedInSession(String email, boolean loggedIn) {
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.hasKey(RedisKeyspace.SESSION.key(email), DEFAULT_DEVICE_ID)).thenReturn(loggedIn);
+        when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+    }
+
+    private void mockRotationResult(Long result) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any()))
+                .thenReturn(result);
+    }
 
     @Test
     @DisplayName("로그인 성공 시 액세스 토큰과 리프레시 토큰이 생성된다.")
     void loginSuccessfullyGeneratesTokens() {
-        // Redis Mock 셋업
-        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
         // Given
         Member savedMember = memberRepository.save(MemberFixture.memberFixture());
         LoginRequest loginRequest = new LoginRequest(savedMember.getEmail(), MemberFixture.getFixturePlainPassword());
 
         // When
-        TokenResponse response = authService.login(loginRequest);
+        TokenResponse response = authService.login(loginRequest, DEFAULT_DEVICE_ID);
 
         // Then
         assertThat(response.accessToken()).isNotNull();
         assertThat(response.refreshToken()).isNotNull();
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("기존 방식으로 저장된 비밀번호는 로그인에 성공하면 현재 알고리즘으로 다시 저장된다.")
+    void loginUpgradesLegacyPasswordHash() {
+        // Given
+        Member savedMember = memberRepository.save(MemberFixture.memberFixture());
+        LoginRequest loginRequest = new LoginRequest(savedMember.getEmail(), MemberFixture.getFixturePlainPassword());
+
+        // When
+        authService.login(loginRequest, DEFAULT_DEVICE_ID);
+
+        // Then
+        Member upgradedMember = memberRepository.findByEmail(savedMember.getEmail()).orElseThrow();
+        assertThat(upgradedMember.getPassword()).startsWith("{pbkdf2}");
+        assertThat(upgradedMember.getSalt()).isNotEqualTo("salt");
     }
 
     @Test
@@ -72,7 +109,7 @@ class AuthServiceTest {
         LoginRequest request = new LoginRequest("nonexistent@example.com", MemberFixture.getFixturePlainPassword());
 
         // When & Then
-        assertThatThrownBy(() -> authService.login(request))
+        assertThatThrownBy(() -> authService.login(request, DEFAULT_DEVICE_ID))
                 .isInstanceOf(FriendyException.class)
                 .hasMessageContaining("해당 이메일의 회원이 존재하지 않습니다.");
     }
@@ -85,7 +122,22 @@ class AuthServiceTest {
         LoginRequest loginRequest = new LoginRequest(savedMember.getEmail(), "wrongPassword");
 
         // When & Then
-        assertThatThrownBy(() -> authService.login(loginRequest))
+        assertThatThrownBy(() -> authService.login(loginRequest, DEFAULT_DEVICE_ID))
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("로그인에 실패하였습니다. 비밀번호를 확인해주세요.");
+    }
+
+    @Test
+    @DisplayName("저장된 비밀번호 해시의 형식이 깨져 있으면 서버 오류 대신 로그인 실패로 처리한다")
+    void malformedStoredHashFailsLoginWithoutServerError() {
+        // Given
+        Member savedMember = memberRepository.save(new Member(
+                "example@friendy.com", "bokSungKim", "{pbkdf2}broken", "salt", LocalDate.parse("2002-08-13")));
+        memberCache.evict(savedMember);
+        LoginRequest loginRequest = new LoginRequest(savedMember.getEmail(), MemberFixture.getFixturePlainPassword());
+
+        // When & Then
+        assertThatThrownBy(() -> authService.login(loginRequest, DEFAULT_DEVICE_ID))
                 .isInstanceOf(FriendyException.class)
                 .hasMessageContaining("로그인에 실패하였습니다. 비밀번호를 확인해주세요.");
     }
@@ -93,42 +145,54 @@ class AuthServiceTest {
     @Test
     @DisplayName("로그아웃에 성공하면 Redis에서 리프레시 토큰이 삭제된다.")
     void logoutSuccessfullyDeleteRefreshTokenInRedis() {
-        // Redis Mock 셋업
-        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
         // Given
         Member savedMember = memberRepository.save(MemberFixture.memberFixture());
         final String memberEmail = savedMember.getEmail();
         final String accessToken = jwtTokenProvider.generateAccessToken(memberEmail);
 
-        when(redisTemplate.hasKey(memberEmail)).thenReturn(true);
+        mockLoggedInSession(memberEmail, true);
 
         // When
         authService.logout(accessToken);
 
-        // Then
-        verify(redisTemplate, times(1)).delete(memberEmail);
+        // Then: 액세스 토큰 발급 기록 1번, 세션 삭제 1번
+        verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+        verify(redisTemplate, times(1)).convertAndSend(eq("access-token:revoked"), anyString());
     }
 
     @Test
-    @DisplayName("로그인 상태가 아닌 사용자가 로그아웃 요청을 하면 예외가 발생한다.")
-    void inValidLogoutRequestThrowsException() {
-        // Redis Mock 셋업
-        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
+    @DisplayName("로그아웃한 액세스 토큰으로 요청하면 예외가 발생한다.")
+    void loggedOutAccessTokenIsRejected() {
         // Given
         Member savedMember = memberRepository.save(MemberFixture.memberFixture());
         final String memberEmail = savedMember.getEmail();
-        String accessToken = jwtTokenProvider.generateAccessToken(memberEmail);
+        final String accessToken = jwtTokenProvider.generateAccessToken(memberEmail);
 
-        when(redisTemplate.hasKey(memberEmail)).thenReturn(false);
+        mockLoggedInSession(memberEmail, true);
+        authService.logout(accessToken);
+        when(redisTemplate.hasKey(startsWith(RedisKeyspace.REVOKED_ACCESS_TOKEN.getPrefix()))).thenReturn(true);
 
         // When & Then
-        assertThatThrownBy(() -> authService.logout(accessToken))
+        assertThatThrownBy(() -> authService.getSessions(accessToken))
                 .isInstanceOf(FriendyException.class)
-                .hasMessageContaining("로그인 되어있지 않은 사용자입니다.");
+                .hasMessageContaining("인증 실패(폐기된 액세스 토큰)");
+    }
+
+    @Test
+    @DisplayName("세션이 이미 끊긴 뒤에 로그아웃해도 실패하지 않고 액세스 토큰을 폐기한다.")
+    void logoutWithoutSessionStillRevokesAccessToken() {
+        // Given
+        Member savedMember = memberRepository.save(MemberFixture.memberFixture());
+        final String memberEmail = savedMember.getEmail();
+        String accessToken = jwtTokenProvider.generateAccessToken(memberEmail);
+
+        mockLoggedInSession(memberEmail, false);
+
+        // When
+        authService.logout(accessToken);
+
+        // Then
+        verify(redisTemplate, times(1)).convertAndSend(eq("access-token:revoked"), anyString());
     }
 
 
@@ -140,32 +204,58 @@ class AuthServiceTest {
         String refreshToken = CORRECT_REFRESH_TOKEN;
 
         // Redis Mock 셋업
-        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.hasKey(savedMember.getEmail())).thenReturn(true);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(redisTemplate.opsForValue().get(savedMember.getEmail())).thenReturn(refreshToken);
+        mockRotationResult(1L);
 
         // When
         TokenResponse response = authService.reissueToken(refreshToken);
 
         // Then
         assertThat(response.accessToken()).isNotNull();
-        assertThat(response.refreshToken()).isNotNull();
+        assertThat(response.refreshToken()).isNotNull().isNotEqualTo(refreshToken);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any());
+        verify(redisTemplate, never()).opsForHash();
+    }
+
+    @Test
+    @DisplayName("이미 교체된 리프레시 토큰으로 재발급을 요청하면 예외가 발생한다.")
+    void reissueWithReusedRefreshTokenThrowsException() {
+        // Given
+        String refreshToken = CORRECT_REFRESH_TOKEN;
+        mockRotationResult(-1L);
+
+        when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of("reused-device-jti:" + (System.currentTimeMillis() + 60_000), 1L));
+
+        // When & Then
+        assertThatThrownBy(() -> authService.reissueToken(refreshToken))
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("이미 사용된 리프레시 토큰");
+        verify(redisTemplate).convertAndSend("access-token:revoked", "reused-device-jti");
+    }
+
+    @Test
+    @DisplayName("세션이 없는 리프레시 토큰으로 재발급을 요청하면 예외가 발생한다.")
+    void reissueWithoutSessionThrowsException() {
+        // Given
+        String refreshToken = CORRECT_REFRESH_TOKEN;
+        mockRotationResult(0L);
+
+        // When & Then
+        assertThatThrownBy(() -> authService.reissueToken(refreshToken))
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("로그인 되어있지 않은 사용자입니다.");
     }
 
     @Test
     @DisplayName("유효한 액세스 토큰으로 요청 시 성공적으로 회원 정보가 데이터베이스에서 삭제된다.")
     void requestWithValidTokensWithdrawalSuccessfully() {
-        // Redis Mock 셋업
-        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
         // Given
         final Member savedMember = memberRepository.save(MemberFixture.memberFixture());
         final String memberEmail = savedMember.getEmail();
         final String validAccessToken = jwtTokenProvider.generateAccessToken(memberEmail);
 
-        when(redisTemplate.hasKey(memberEmail)).thenReturn(true);
+        mockLoggedInSession(memberEmail, true);
 
         // When
         authService.withdrawal(validAccessToken);
@@ -177,16 +267,12 @@ class AuthServiceTest {
     @Test
     @DisplayName("로그인하지 않은 회원의 토큰으로 탈퇴 요청 시 예외를 발생한다.")
     void requestWithUnauthorizedUsersTokenThrowsException() {
-        // Redis Mock 셋업
-        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
         // Given
         final Member savedMember = memberRepository.save(MemberFixture.memberFixture());
         final String memberEmail = savedMember.getEmail();
         final String accessToken = jwtTokenProvider.generateAccessToken(memberEmail);
 
-        when(redisTemplate.hasKey(memberEmail)).thenReturn(false);
+        mockLoggedInSession(memberEmail, false);
 
         // When & Then
         assertThatThrownBy(() -> authService.withdrawal(accessToken))
@@ -194,4 +280,67 @@ class AuthServiceTest {
                 .hasMessageContaining("로그인 되어있지 않은 사용자입니다.");
     }
 
+    @Test
+    @DisplayName("세션 목록 조회 시 기기별 세션과 현재 기기 여부를 반환한다")
+    void getSessionsReturnsEveryDeviceSession() {
+        // Given
+        Member savedMember = memberRepository.save(MemberFixture.memberFixture());
+        final String memberEmail = savedMember.getEmail();
+        final String accessToken = jwtTokenProvider.generateAccessToken(memberEmail);
+
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.hasKey(RedisKeyspace.SESSION.key(memberEmail), DEFAULT_DEVICE_ID)).thenReturn(true);
+        final String now = String.valueOf(System.currentTimeMillis());
+        when(hashOperations.entries(RedisKeyspace.SESSION_ISSUED_AT.key(memberEmail)))
+                .thenReturn(Map.of(DEFAULT_DEVICE_ID, now, "iphone-15", now));
+
+        // When
+        FindAllSessionResponse response = authService.getSessions(accessToken);
+
+        // Then
+        assertThat(response.sessions()).hasSize(2);
+        assertThat(response.sessions())
+                .filteredOn(session -> session.current())
+                .extracting(session -> session.deviceId())
+                .containsExactly(DEFAULT_DEVICE_ID);
+    }
+
+    @Test
+    @DisplayName("다른 기기의 세션을 종료하면 그 기기에 마지막으로 발급한 액세스 토큰도 폐기한다")
+    void revokeSessionRevokesLatestAccessTokenOfDevice() {
+        // Given
+        Member savedMember = memberRepository.save(MemberFixture.memberFixture());
+        final String memberEmail = savedMember.getEmail();
+        final String accessToken = jwtTokenProvider.generateAccessToken(memberEmail);
+
+        mockLoggedInSession(memberEmail, true);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(
+                List.of("iphone-15-jti:" + (System.currentTimeMillis() + 60_000), 1L),
+                List.of(1L, 1L, 1L)
+        );
+
+        // When
+        authService.revokeSession(accessToken, "iphone-15");
+
+        // Then
+        verify(redisTemplate).convertAndSend("access-token:revoked", "iphone-15-jti");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 기기의 세션을 종료하려 하면 예외를 던진다")
+    void revokeUnknownSessionThrowsException() {
+        // Given
+        Member savedMember = memberRepository.save(MemberFixture.memberFixture());
+        final String memberEmail = savedMember.getEmail();
+        final String accessToken = jwtTokenProvider.generateAccessToken(memberEmail);
+
+        mockLoggedInSession(memberEmail, true);
+
+        // When & Then
+        assertThatThrownBy(() -> authService.revokeSession(accessToken, "unknown-device"))
+                .isInstanceOf(FriendyException.class)
+                .hasMessageContaining("존재하지 않는 세션입니다.");
+    }
+
 }
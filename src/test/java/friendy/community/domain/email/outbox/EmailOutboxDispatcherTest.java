@@ -0,0 +1,160 @@
+package friendy.community.domain.email.outbox;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import friendy.community.domain.email.model.EmailOutbox;
+import friendy.community.domain.email.model.EmailOutboxStatus;
+import friendy.community.domain.email.repository.EmailOutboxRepository;
+import friendy.community.domain.email.service.EmailOutboxService;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "spring.mail.username=",
+        "spring.mail.password=",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "friendy.community.email.outbox.poll-interval-ms=100",
+        "friendy.community.email.outbox.initial-backoff=1h",
+        "friendy.community.email.outbox.max-backoff=1d"
+})
+@DirtiesContext
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private EmailOutboxDispatcher emailOutboxDispatcher;
+
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        emailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("아웃박스에 쌓인 메일은 요청 스레드 밖에서 전송되고 전송 완료로 표시된다")
+    void pendingEmailIsDeliveredAndMarkedSent() throws Exception {
+        // When
+        Long outboxId = emailOutboxService.enqueue("test@example.com", "인증 코드", "email", Map.of("authCode", "123456"));
+
+        // Then
+        assertThat(greenMail.waitForIncomingEmail(5_000, 1)).isTrue();
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertThat(received.getAllRecipients()[0].toString()).isEqualTo("test@example.com");
+        assertThat(GreenMailUtil.getBody(received)).contains("123456");
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            EmailOutbox outbox = emailOutboxRepository.findById(outboxId).orElseThrow();
+            assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+            assertThat(outbox.getAttempts()).isEqualTo(1);
+            assertThat(outbox.getVariables()).doesNotContain("123456");
+        });
+        assertThat(emailOutboxDispatcher.stats().sent()).isPositive();
+    }
+
+    @Test
+    @DisplayName("SMTP 서버에 연결하지 못하면 시도 횟수를 늘리고 다음 시도 시각을 미룬다")
+    void failedDeliveryIsRescheduledWithBackoff() {
+        // Given
+        greenMail.stop();
+
+        // When
+        Long outboxId = emailOutboxService.enqueue("test@example.com", "인증 코드", "email", Map.of("authCode", "123456"));
+
+        // Then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            EmailOutbox outbox = emailOutboxRepository.findById(outboxId).orElseThrow();
+            assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+            assertThat(outbox.getAttempts()).isEqualTo(1);
+            assertThat(outbox.getLastError()).isNotBlank();
+            assertThat(outbox.getNextAttemptAt()).isAfter(outbox.getCreatedDate().plusMinutes(20));
+        });
+    }
+
+    @Test
+    @DisplayName("템플릿 렌더링이 실패해도 시도 횟수를 늘리고 선점을 풀어 다음 시도로 미룬다")
+    void renderFailureIsCountedAsAttempt() {
+        // When
+        Long outboxId = emailOutboxService.enqueue("test@example.com", "인증 코드", "missing-template", Map.of("authCode", "123456"));
+
+        // Then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            EmailOutbox outbox = emailOutboxRepository.findById(outboxId).orElseThrow();
+            assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+            assertThat(outbox.getAttempts()).isEqualTo(1);
+            assertThat(outbox.getLastError()).isNotBlank();
+        });
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 시도할수록 늘어나되 최대 간격을 넘지 않는다")
+    void backoffGrowsExponentiallyUpToMaximum() {
+        // When
+        Duration first = emailOutboxDispatcher.backoff(0);
+        Duration fifth = emailOutboxDispatcher.backoff(4);
+        Duration capped = emailOutboxDispatcher.backoff(30);
+
+        // Then
+        assertThat(first).isBetween(Duration.ofMinutes(30), Duration.ofHours(1));
+        assertThat(fifth).isBetween(Duration.ofHours(8), Duration.ofHours(16));
+        assertThat(capped).isBetween(Duration.ofHours(12), Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 전송 완료/실패 메일만 지우고 최근 메일은 남긴다")
+    void purgeDeletesOnlyExpiredFinishedEmails() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        EmailOutbox oldSent = new EmailOutbox("old@example.com", "인증 코드", "email", "{\"authCode\":\"111111\"}");
+        oldSent.markSent(now.minusDays(10));
+        EmailOutbox oldFailed = new EmailOutbox("failed@example.com", "인증 코드", "email", "{\"authCode\":\"222222\"}");
+        oldFailed.markFailed("연결 실패", now.minusDays(10));
+        EmailOutbox recentSent = new EmailOutbox("recent@example.com", "인증 코드", "email", "{\"authCode\":\"333333\"}");
+        recentSent.markSent(now);
+        emailOutboxRepository.saveAll(List.of(oldSent, oldFailed, recentSent));
+
+        // When
+        long purged = emailOutboxDispatcher.purgeFinishedBefore(now.minusDays(7));
+
+        // Then
+        assertThat(purged).isEqualTo(2);
+        assertThat(emailOutboxRepository.findAll())
+                .extracting(EmailOutbox::getRecipient)
+                .containsExactly("recent@example.com");
+        assertThat(emailOutboxRepository.findAll())
+                .extracting(EmailOutbox::getVariables)
+                .containsExactly("{}");
+    }
+}
@@ -2,8 +2,11 @@ package friendy.community.domain.email.service;
 
 import friendy.community.domain.email.dto.request.EmailRequest;
 import friendy.community.domain.email.dto.request.VerifyCodeRequest;
+import friendy.community.domain.email.model.EmailOutboxStatus;
+import friendy.community.domain.email.repository.EmailOutboxRepository;
 import friendy.community.global.exception.ErrorCode;
 import friendy.community.global.exception.FriendyException;
+import friendy.community.global.redis.RedisKeyspace;
 import jakarta.mail.internet.MimeMessage;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +22,7 @@ import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
@@ -31,6 +35,9 @@ class EmailServiceTest {
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
     @MockitoBean
     private StringRedisTemplate redisTemplate;
 
@@ -44,26 +51,28 @@ class EmailServiceTest {
     private MimeMessage mimeMessage;
 
     @Test
-    @DisplayName("이메일 전송이 성공하면 Redis에 인증 코드가 저장된다")
+    @DisplayName("이메일 전송 요청이 성공하면 Redis에 인증 코드가 저장되고 아웃박스에 전송 작업이 쌓인다")
     void sendAuthenticatedEmailSuccessfullyStoresCodeInRedis() throws Exception {
         // Given
         EmailRequest request = new EmailRequest("test@example.com");
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
 
         // Redis Mock 설정
         ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
-        // TemplateEngine Mock 설정
-        when(templateEngine.process(anyString(), any())).thenReturn("<html>dummy content</html>");
-
         // When
         emailService.sendAuthenticatedEmail(request);
 
         // Then
-        verify(mailSender, times(1)).send(any(MimeMessage.class));
+        verify(mailSender, never()).send(any(MimeMessage.class));
+        assertThat(emailOutboxRepository.findAll())
+                .anySatisfy(outbox -> {
+                    assertThat(outbox.getRecipient()).isEqualTo(request.email());
+                    assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+                    assertThat(outbox.getVariables()).contains("authCode");
+                });
         verify(valueOperations, times(1)).set(
-                eq(request.email()),
+                eq(RedisKeyspace.EMAIL_AUTH_CODE.key(request.email())),
                 anyString(),
                 eq(300000L),
                 eq(TimeUnit.MILLISECONDS)
@@ -81,7 +90,7 @@ class EmailServiceTest {
         // Mock 설정 추가
         ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(email)).thenReturn(authCode);
+        when(valueOperations.get(RedisKeyspace.EMAIL_AUTH_CODE.key(email))).thenReturn(authCode);
 
         // When & Then (예외가 발생하지 않으면 성공)
         emailService.verifyAuthCode(request);
@@ -97,7 +106,7 @@ class EmailServiceTest {
         // Mock 설정 추가
         ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(email)).thenReturn(null);
+        when(valueOperations.get(RedisKeyspace.EMAIL_AUTH_CODE.key(email))).thenReturn(null);
 
         // When & Then
         assertThatThrownBy(() -> emailService.verifyAuthCode(request))
@@ -116,7 +125,7 @@ class EmailServiceTest {
         // Mock 설정 추가
         ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(email)).thenReturn("654321");
+        when(valueOperations.get(RedisKeyspace.EMAIL_AUTH_CODE.key(email))).thenReturn("654321");
 
         // When & Then
         assertThatThrownBy(() -> emailService.verifyAuthCode(request))
@@ -0,0 +1,78 @@
+package friendy.community.domain.email.template;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailTemplateRendererTest {
+
+    private SpringTemplateEngine templateEngine;
+    private EmailTemplateRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        renderer = new EmailTemplateRenderer(templateEngine, List.of(Locale.KOREAN, Locale.ENGLISH));
+    }
+
+    private String renderWithThymeleaf(String authCode, Locale locale) {
+        Context context = new Context(locale);
+        context.setVariable("authCode", authCode);
+        return templateEngine.process("email", context);
+    }
+
+    @Test
+    @DisplayName("등록된 템플릿은 시작할 때 언어별로 미리 컴파일된다")
+    void templatesAreCompiledPerLocale() {
+        assertThat(renderer.isCompiled("email", Locale.KOREAN)).isTrue();
+        assertThat(renderer.isCompiled("email", Locale.ENGLISH)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"123456", "000000", "<script>alert('x')</script>", "a & b \"quoted\""})
+    @DisplayName("컴파일된 템플릿의 렌더링 결과는 Thymeleaf 렌더링 결과와 같다")
+    void compiledOutputMatchesThymeleaf(String authCode) {
+        // When
+        String compiled = renderer.render("email", Locale.KOREAN, Map.of("authCode", authCode));
+
+        // Then
+        assertThat(compiled).isEqualTo(renderWithThymeleaf(authCode, Locale.KOREAN));
+    }
+
+    @Test
+    @DisplayName("기본 언어로 렌더링하면 첫 번째 언어의 템플릿을 사용한다")
+    void renderUsesDefaultLocale() {
+        assertThat(renderer.render("email", Map.of("authCode", "123456")))
+                .isEqualTo(renderWithThymeleaf("123456", Locale.KOREAN));
+    }
+
+    @Test
+    @DisplayName("컴파일되지 않은 언어는 Thymeleaf 로 렌더링한다")
+    void unknownLocaleFallsBackToThymeleaf() {
+        // When
+        String rendered = renderer.render("email", Locale.JAPANESE, Map.of("authCode", "123456"));
+
+        // Then
+        assertThat(renderer.isCompiled("email", Locale.JAPANESE)).isFalse();
+        assertThat(rendered).isEqualTo(renderWithThymeleaf("123456", Locale.JAPANESE));
+    }
+}
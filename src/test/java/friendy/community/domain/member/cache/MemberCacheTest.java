@@ -0,0 +1,179 @@
+package friendy.community.domain.member.cache;
+
+import friendy.community.domain.member.model.Member;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class MemberCacheTest {
+
+    private StringRedisTemplate redisTemplate;
+    private CacheImplementor secondLevelCache;
+    private NaturalIdDataAccess naturalIdAccess;
+    private EntityPersister memberPersister;
+    private MemberCache memberCache;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        secondLevelCache = mock(CacheImplementor.class);
+        naturalIdAccess = mock(NaturalIdDataAccess.class);
+        memberPersister = mock(EntityPersister.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+        MappingMetamodelImplementor mappingMetamodel = mock(MappingMetamodelImplementor.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(secondLevelCache);
+        when(sessionFactory.getMappingMetamodel()).thenReturn(mappingMetamodel);
+        when(sessionFactory.openStatelessSession()).thenReturn(
+                mock(StatelessSession.class, withSettings().extraInterfaces(SharedSessionContractImplementor.class)));
+        when(mappingMetamodel.getEntityDescriptor(Member.class)).thenReturn(memberPersister);
+        when(memberPersister.getNaturalIdCacheAccessStrategy()).thenReturn(naturalIdAccess);
+        memberCache = new MemberCache(redisTemplate, mock(RedisMessageListenerContainer.class), entityManagerFactory, 100, Duration.ofMinutes(10));
+    }
+
+    private Member member() {
+        return new Member(1L, "example@friendy.com", "bokSungKim", "password", "salt", LocalDate.parse("2002-08-13"));
+    }
+
+    private Function<String, Optional<Member>> countingLoader(AtomicInteger loadCount) {
+        return email -> {
+            loadCount.incrementAndGet();
+            return Optional.of(member());
+        };
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 다시 조회하면 DB를 거치지 않고 캐시에서 반환한다")
+    void getByEmailLoadsOnlyOnce() {
+        // Given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // When
+        memberCache.getByEmail("example@friendy.com", countingLoader(loadCount));
+        Optional<Member> cached = memberCache.getByEmail("example@friendy.com", countingLoader(loadCount));
+
+        // Then
+        assertThat(loadCount).hasValue(1);
+        assertThat(cached).isPresent();
+        assertThat(cached.get().getNickname()).isEqualTo("bokSungKim");
+    }
+
+    @Test
+    @DisplayName("이메일로 적재된 회원은 ID로도 캐시에서 조회된다")
+    void getByIdUsesEntryLoadedByEmail() {
+        // Given
+        memberCache.getByEmail("example@friendy.com", email -> Optional.of(member()));
+
+        // When
+        Optional<Member> cached = memberCache.getById(1L, id -> Optional.empty());
+
+        // Then
+        assertThat(cached).isPresent();
+        assertThat(cached.get().getEmail()).isEqualTo("example@friendy.com");
+    }
+
+    @Test
+    @DisplayName("캐시는 조회할 때마다 서로 다른 회원 사본을 반환한다")
+    void getByEmailReturnsDetachedCopies() {
+        // Given
+        memberCache.getByEmail("example@friendy.com", email -> Optional.of(member()));
+
+        // When
+        Member first = memberCache.getByEmail("example@friendy.com", email -> Optional.empty()).orElseThrow();
+        first.resetPassword("changed", "changedSalt");
+        Member second = memberCache.getByEmail("example@friendy.com", email -> Optional.empty()).orElseThrow();
+
+        // Then
+        assertThat(first).isNotSameAs(second);
+        assertThat(second.getPassword()).isEqualTo("password");
+    }
+
+    @Test
+    @DisplayName("무효화하면 로컬 캐시가 비워지고 다른 노드로 무효화 메시지를 발행한다")
+    void evictRemovesEntryAndPublishesInvalidation() {
+        // Given
+        AtomicInteger loadCount = new AtomicInteger();
+        memberCache.getByEmail("example@friendy.com", countingLoader(loadCount));
+
+        // When
+        memberCache.evict(member());
+        memberCache.getByEmail("example@friendy.com", countingLoader(loadCount));
+
+        // Then
+        assertThat(loadCount).hasValue(2);
+        verify(redisTemplate, times(1)).convertAndSend(MemberCache.INVALIDATION_CHANNEL, "1:example@friendy.com");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 이메일과 ID 캐시를 모두 비운다")
+    void invalidationMessageEvictsBothIndexes() {
+        // Given
+        AtomicInteger loadCount = new AtomicInteger();
+        memberCache.getByEmail("example@friendy.com", countingLoader(loadCount));
+        DefaultMessage message = new DefaultMessage(
+                MemberCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1:example@friendy.com".getBytes(StandardCharsets.UTF_8)
+        );
+
+        // When
+        memberCache.onMessage(message, null);
+
+        // Then
+        assertThat(memberCache.getById(1L, id -> Optional.empty())).isEmpty();
+        memberCache.getByEmail("example@friendy.com", countingLoader(loadCount));
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 Hibernate 2차 캐시의 회원과 그 이메일의 자연 키 항목만 비운다")
+    void invalidationMessageEvictsSecondLevelCache() {
+        // Given
+        Object naturalIdKey = new Object();
+        when(naturalIdAccess.generateCacheKey(eq("example@friendy.com"), eq(memberPersister), any()))
+                .thenReturn(naturalIdKey);
+        DefaultMessage message = new DefaultMessage(
+                MemberCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1:example@friendy.com".getBytes(StandardCharsets.UTF_8)
+        );
+
+        // When
+        memberCache.onMessage(message, null);
+
+        // Then
+        verify(secondLevelCache).evictEntityData(Member.class, 1L);
+        verify(naturalIdAccess).evict(naturalIdKey);
+        verify(secondLevelCache, never()).evictNaturalIdData(Member.class);
+    }
+
+    @Test
+    @DisplayName("이 노드에서 무효화할 때는 Hibernate 가 관리하는 2차 캐시를 건드리지 않는다")
+    void localEvictDoesNotTouchSecondLevelCache() {
+        // When
+        memberCache.evict(member());
+
+        // Then
+        verifyNoInteractions(secondLevelCache, naturalIdAccess);
+    }
+}
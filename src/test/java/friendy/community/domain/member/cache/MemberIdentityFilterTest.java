@@ -0,0 +1,152 @@
+package friendy.community.domain.member.cache;
+
+import friendy.community.domain.member.repository.MemberIdentity;
+import friendy.community.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class MemberIdentityFilterTest {
+
+    private MemberRepository memberRepository;
+    private StringRedisTemplate redisTemplate;
+    private MemberIdentityFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        filter = new MemberIdentityFilter(memberRepository, redisTemplate, mock(RedisMessageListenerContainer.class),
+                true, 1000, 0.001, 2, 2);
+    }
+
+    private void givenMembers(MemberIdentity... identities) {
+        when(memberRepository.findIdentitiesAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            int size = invocation.<Pageable>getArgument(1).getPageSize();
+            return List.of(identities).stream()
+                    .filter(identity -> identity.id() > lastId)
+                    .limit(size)
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("구성되기 전에는 모든 값을 있을 수도 있다고 판단한다")
+    void mightContainEverythingBeforeRebuild() {
+        // When & Then
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContainNickname("anyone")).isTrue();
+        assertThat(filter.mightContainEmail("anyone@friendy.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB 의 회원을 배치로 읽어 필터를 구성한다")
+    void rebuildLoadsAllMembersInBatches() {
+        // Given
+        givenMembers(
+                new MemberIdentity(1L, "first@friendy.com", "first"),
+                new MemberIdentity(2L, "second@friendy.com", "second"),
+                new MemberIdentity(3L, "third@friendy.com", "third")
+        );
+
+        // When
+        filter.rebuild();
+
+        // Then
+        assertThat(filter.isReady()).isTrue();
+        assertThat(filter.mightContainNickname("third")).isTrue();
+        assertThat(filter.mightContainEmail("first@friendy.com")).isTrue();
+        assertThat(filter.mightContainNickname("nobody")).isFalse();
+        verify(memberRepository, times(2)).findIdentitiesAfter(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("대소문자만 다른 닉네임도 있을 수 있다고 판단한다")
+    void mightContainIgnoresCase() {
+        // Given
+        givenMembers(new MemberIdentity(1L, "first@friendy.com", "bokSungKim"));
+
+        // When
+        filter.rebuild();
+
+        // Then
+        assertThat(filter.mightContainNickname("BOKSUNGKIM")).isTrue();
+    }
+
+    @Test
+    @DisplayName("가입한 회원은 필터에 추가되고 다른 노드에도 알린다")
+    void registerAddsAndPublishes() {
+        // Given
+        givenMembers();
+        filter.rebuild();
+
+        // When
+        filter.register("new@friendy.com", "newbie");
+
+        // Then
+        assertThat(filter.mightContainNickname("newbie")).isTrue();
+        assertThat(filter.mightContainEmail("new@friendy.com")).isTrue();
+        verify(redisTemplate).convertAndSend(MemberIdentityFilter.REGISTRATION_CHANNEL, "new@friendy.com\nnewbie");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 가입 메시지를 받으면 필터에 추가한다")
+    void onMessageAddsRemoteRegistration() {
+        // Given
+        givenMembers();
+        filter.rebuild();
+        byte[] body = "remote@friendy.com\nremote".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        filter.onMessage(new DefaultMessage(MemberIdentityFilter.REGISTRATION_CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+        // Then
+        assertThat(filter.mightContainNickname("remote")).isTrue();
+    }
+
+    @Test
+    @DisplayName("탈퇴가 임계치만큼 쌓이면 필터를 다시 구성한다")
+    void rebuildIfStaleRebuildsAfterThreshold() {
+        // Given
+        givenMembers();
+        filter.rebuild();
+        filter.unregister();
+        filter.rebuildIfStale();
+        verify(memberRepository, times(1)).findIdentitiesAfter(anyLong(), any(Pageable.class));
+
+        // When
+        filter.unregister();
+        filter.rebuildIfStale();
+
+        // Then
+        verify(memberRepository, times(2)).findIdentitiesAfter(anyLong(), any(Pageable.class));
+        assertThat(filter.staleEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화되면 구성하지 않고 항상 DB 로 넘긴다")
+    void disabledFilterNeverBuilds() {
+        // Given
+        MemberIdentityFilter disabled = new MemberIdentityFilter(memberRepository, redisTemplate,
+                mock(RedisMessageListenerContainer.class), false, 1000, 0.001, 2, 2);
+
+        // When
+        disabled.rebuild();
+
+        // Then
+        assertThat(disabled.isReady()).isFalse();
+        assertThat(disabled.mightContainNickname("nobody")).isTrue();
+        verifyNoInteractions(memberRepository);
+    }
+}
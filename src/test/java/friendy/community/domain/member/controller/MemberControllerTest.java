@@ -4,6 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import friendy.community.domain.auth.service.AuthService;
 import friendy.community.domain.member.dto.request.MemberSignUpRequest;
 import friendy.community.domain.member.dto.request.PasswordRequest;
+import friendy.community.domain.member.dto.response.FindAllSearchMemberResponse;
+import friendy.community.domain.member.dto.response.NicknameAvailabilityResponse;
+import friendy.community.domain.member.dto.response.SearchMemberResponse;
 import friendy.community.domain.member.service.MemberService;
 import friendy.community.global.exception.ErrorCode;
 import friendy.community.global.exception.FriendyException;
@@ -18,14 +21,17 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = MemberController.class)
@@ -275,4 +281,64 @@ class MemberControllerTest {
                         assertThat(result.getResolvedException().getMessage())
                                 .contains("해당 이메일의 회원이 존재하지 않습니다."));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("닉네임 사용 가능 여부를 200 OK와 함께 반환한다")
+    void checkNicknameAvailabilityReturns200Ok() throws Exception {
+        // Given
+        when(memberService.checkNicknameAvailability("bokSungKim"))
+                .thenReturn(NicknameAvailabilityResponse.of("bokSungKim", true));
+
+        // When & Then
+        mockMvc.perform(get("/members/nickname/availability")
+                        .param("nickname", "bokSungKim"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nickname").value("bokSungKim"))
+                .andExpect(jsonPath("$.available").value(true));
+    }
+
+    @Test
+    @DisplayName("닉네임 글자수가 올바르지 않으면 400 Bad Request를 반환한다")
+    void checkNicknameAvailabilityWithInvalidLengthReturns400() throws Exception {
+        // Given
+        when(memberService.checkNicknameAvailability("a"))
+                .thenThrow(new FriendyException(ErrorCode.INVALID_REQUEST, "닉네임은 2~20자 사이로 입력해주세요."));
+
+        // When & Then
+        mockMvc.perform(get("/members/nickname/availability")
+                        .param("nickname", "a"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("회원 검색 요청이 성공하면 200 OK와 검색 결과를 반환한다")
+    void searchMembersReturns200Ok() throws Exception {
+        // Given
+        when(memberService.searchMembers("ㅊㄱ", 0))
+                .thenReturn(new FindAllSearchMemberResponse(List.of(new SearchMemberResponse(1L, "철구")), 1));
+
+        // When & Then
+        mockMvc.perform(get("/members/search")
+                        .param("keyword", "ㅊㄱ"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.members[0].nickname").value("철구"))
+                .andExpect(jsonPath("$.totalPages").value(1));
+    }
+
+    @Test
+    @DisplayName("검색어가 비어 있으면 400 Bad Request를 반환한다")
+    void searchMembersWithBlankKeywordReturns400() throws Exception {
+        // Given
+        when(memberService.searchMembers(" ", 0))
+                .thenThrow(new FriendyException(ErrorCode.INVALID_REQUEST, "검색어가 입력되지 않았습니다."));
+
+        // When & Then
+        mockMvc.perform(get("/members/search")
+                        .param("keyword", " "))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,127 @@
+package friendy.community.domain.member.encryption;
+
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+
+    private final SHA2PasswordEncryptor sha2PasswordEncryptor = new SHA2PasswordEncryptor();
+    private final Pbkdf2PasswordEncryptor pbkdf2PasswordEncryptor = new Pbkdf2PasswordEncryptor(1000);
+    private PasswordHashingService hashingService;
+
+    @AfterEach
+    void tearDown() {
+        if (hashingService != null) {
+            hashingService.shutdown();
+        }
+    }
+
+    private PasswordHashingService hashingService(int poolSize, int queueCapacity) {
+        return new PasswordHashingService(
+                List.of(sha2PasswordEncryptor, pbkdf2PasswordEncryptor),
+                "pbkdf2",
+                poolSize,
+                queueCapacity,
+                Duration.ofSeconds(5)
+        );
+    }
+
+    @Test
+    @DisplayName("새 비밀번호는 설정된 알고리즘으로 암호화된다")
+    void hashUsesConfiguredAlgorithm() {
+        // Given
+        hashingService = hashingService(2, 8);
+
+        // When
+        String encryptedPassword = hashingService.hash("password123", "salt");
+
+        // Then
+        assertThat(encryptedPassword).startsWith(Pbkdf2PasswordEncryptor.PREFIX);
+        assertThat(hashingService.matches("password123", "salt", encryptedPassword)).isTrue();
+    }
+
+    @Test
+    @DisplayName("기존 SHA-256 해시도 검증할 수 있고 재암호화 대상으로 판단한다")
+    void legacyHashMatchesAndNeedsUpgrade() {
+        // Given
+        hashingService = hashingService(2, 8);
+        String legacyPassword = sha2PasswordEncryptor.encrypt("password123", "salt");
+
+        // When & Then
+        assertThat(hashingService.matches("password123", "salt", legacyPassword)).isTrue();
+        assertThat(hashingService.matches("wrongPassword", "salt", legacyPassword)).isFalse();
+        assertThat(hashingService.needsUpgrade(legacyPassword)).isTrue();
+        assertThat(hashingService.needsUpgrade(hashingService.hash("password123", "salt"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 가득 차면 기다리지 않고 503 예외를 던진다")
+    void rejectsWhenSaturated() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncryptor blockingEncryptor = new PasswordEncryptor() {
+            @Override
+            public String algorithm() {
+                return "blocking";
+            }
+
+            @Override
+            public String encrypt(String plainPassword, String salt) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return plainPassword;
+            }
+
+            @Override
+            public boolean supports(String encryptedPassword) {
+                return true;
+            }
+        };
+        hashingService = new PasswordHashingService(List.of(blockingEncryptor), "blocking", 1, 1, Duration.ofSeconds(5));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<String> running = callers.submit(() -> hashingService.hash("first", "salt"));
+        started.await();
+        Future<String> queued = callers.submit(() -> hashingService.hash("second", "salt"));
+        while (hashingService.queuedTasks() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // Then
+        assertThatThrownBy(() -> hashingService.hash("third", "salt"))
+                .isInstanceOf(FriendyException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SERVICE_UNAVAILABLE);
+
+        release.countDown();
+        assertThat(running.get()).isEqualTo("first");
+        assertThat(queued.get()).isEqualTo("second");
+        callers.shutdown();
+    }
+
+    @Test
+    @DisplayName("설정된 알고리즘을 찾을 수 없으면 예외가 발생한다")
+    void unknownAlgorithmThrowsException() {
+        assertThatThrownBy(() -> new PasswordHashingService(List.of(sha2PasswordEncryptor), "argon2", 1, 1, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,61 @@
+package friendy.community.domain.member.encryption;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Pbkdf2PasswordEncryptorTest {
+
+    private final Pbkdf2PasswordEncryptor passwordEncryptor = new Pbkdf2PasswordEncryptor(1000);
+
+    @Test
+    @DisplayName("암호화 결과에 알고리즘 접두어와 반복 횟수가 포함되면 성공")
+    void encryptIncludesPrefixAndIterations() {
+        // When
+        String encryptedPassword = passwordEncryptor.encrypt("password123", "randomSalt");
+
+        // Then
+        assertThat(encryptedPassword).startsWith("{pbkdf2}1000$");
+        assertThat(passwordEncryptor.supports(encryptedPassword)).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 평문과 salt 라면 일치, 다른 평문이라면 불일치로 판단하면 성공")
+    void matchesComparesWithStoredHash() {
+        // Given
+        String encryptedPassword = passwordEncryptor.encrypt("password123", "randomSalt");
+
+        // When & Then
+        assertThat(passwordEncryptor.matches("password123", "randomSalt", encryptedPassword)).isTrue();
+        assertThat(passwordEncryptor.matches("wrongPassword", "randomSalt", encryptedPassword)).isFalse();
+    }
+
+    @Test
+    @DisplayName("반복 횟수를 올려도 기존 해시를 검증할 수 있고, 재암호화 대상으로 판단하면 성공")
+    void olderIterationCountStillMatchesButNeedsUpgrade() {
+        // Given
+        String encryptedPassword = passwordEncryptor.encrypt("password123", "randomSalt");
+        Pbkdf2PasswordEncryptor strongerEncryptor = new Pbkdf2PasswordEncryptor(2000);
+
+        // When & Then
+        assertThat(strongerEncryptor.matches("password123", "randomSalt", encryptedPassword)).isTrue();
+        assertThat(strongerEncryptor.needsUpgrade(encryptedPassword)).isTrue();
+        assertThat(passwordEncryptor.needsUpgrade(encryptedPassword)).isFalse();
+    }
+
+    @Test
+    @DisplayName("형식이 깨진 저장 해시는 예외 없이 불일치이자 재암호화 대상으로 판단하면 성공")
+    void malformedStoredHashDoesNotMatchAndNeedsUpgrade() {
+        // Given
+        String missingDelimiter = "{pbkdf2}310000";
+        String notANumber = "{pbkdf2}abc$aGFzaA==";
+        String zeroIterations = "{pbkdf2}0$aGFzaA==";
+
+        // When & Then
+        for (String malformed : new String[]{missingDelimiter, notANumber, zeroIterations}) {
+            assertThat(passwordEncryptor.matches("password123", "randomSalt", malformed)).isFalse();
+            assertThat(passwordEncryptor.needsUpgrade(malformed)).isTrue();
+        }
+    }
+}
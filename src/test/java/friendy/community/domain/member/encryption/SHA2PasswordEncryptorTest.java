@@ -4,6 +4,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -73,4 +79,32 @@ class SHA2PasswordEncryptorTest {
         assertThat(encryptedPassword1).isNotEqualTo(encryptedPassword2);
     }
 
+    @Test
+    @DisplayName("여러 스레드가 동시에 암호화해도 항상 같은 결과를 반환하면 성공")
+    void encryptIsConsistentUnderConcurrency() throws Exception {
+        // Given
+        String plainPassword = "password123";
+        String salt = "randomSalt";
+        String expected = passwordEncryptor.encrypt(plainPassword, salt);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Callable<String>> tasks = IntStream.range(0, 1_000)
+                .mapToObj(i -> (Callable<String>) () -> passwordEncryptor.encrypt(plainPassword, salt))
+                .toList();
+        List<Future<String>> results = executor.invokeAll(tasks);
+        executor.shutdown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("접두어가 없는 기존 해시만 지원 대상으로 판별하면 성공")
+    void supportsOnlyUnprefixedHashes() {
+        assertThat(passwordEncryptor.supports(passwordEncryptor.encrypt("password123", "salt"))).isTrue();
+        assertThat(passwordEncryptor.supports("{pbkdf2}1000$abc")).isFalse();
+    }
 }
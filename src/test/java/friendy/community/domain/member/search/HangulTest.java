@@ -0,0 +1,46 @@
+package friendy.community.domain.member.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulTest {
+
+    @Test
+    @DisplayName("한글 음절은 초성으로, 나머지 문자는 소문자로 바꾼 키를 만든다")
+    void toChosungKeyDecomposesSyllables() {
+        // When & Then
+        assertThat(Hangul.toChosungKey("철구")).isEqualTo("ㅊㄱ");
+        assertThat(Hangul.toChosungKey("까치Kim")).isEqualTo("ㄲㅊkim");
+        assertThat(Hangul.toChosungKey("힣")).isEqualTo("ㅎ");
+    }
+
+    @Test
+    @DisplayName("검색어에서 첫 초성 앞까지를 소문자 접두사로 잘라낸다")
+    void literalPrefixStopsAtFirstChosung() {
+        // When & Then
+        assertThat(Hangul.literalPrefix("철ㄱ")).isEqualTo("철");
+        assertThat(Hangul.literalPrefix("ㅊㄱ")).isEmpty();
+        assertThat(Hangul.literalPrefix("BOK")).isEqualTo("bok");
+    }
+
+    @ParameterizedTest
+    @DisplayName("초성, 음절, 영문이 섞인 검색어를 닉네임 접두사와 비교한다")
+    @CsvSource({
+        "철구, ㅊㄱ, true",
+        "철구, ㅊ, true",
+        "철구, 철ㄱ, true",
+        "철구, 철구, true",
+        "철구, ㅊㄴ, false",
+        "철구, 철구야, false",
+        "bokSungKim, BOK, true",
+        "bokSungKim, ㅂ, false"
+    })
+    void matchesPrefix(String nickname, String query, boolean expected) {
+        // When & Then
+        assertThat(Hangul.matchesPrefix(nickname, query)).isEqualTo(expected);
+    }
+}
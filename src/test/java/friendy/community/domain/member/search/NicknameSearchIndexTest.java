@@ -0,0 +1,180 @@
+package friendy.community.domain.member.search;
+
+import friendy.community.domain.member.repository.MemberIdentity;
+import friendy.community.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class NicknameSearchIndexTest {
+
+    private MemberRepository memberRepository;
+    private StringRedisTemplate redisTemplate;
+    private NicknameSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        index = new NicknameSearchIndex(memberRepository, redisTemplate, mock(RedisMessageListenerContainer.class), 2, 100, 100);
+    }
+
+    private List<String> nicknames(NicknameSearchResult result) {
+        return result.hits().stream().map(NicknameSearchResult.Hit::nickname).toList();
+    }
+
+    @Test
+    @DisplayName("초성 검색어로 닉네임을 찾는다")
+    void searchByChosung() {
+        // Given
+        index.addLocally(1L, "철구");
+        index.addLocally(2L, "철수");
+        index.addLocally(3L, "민수");
+
+        // When
+        NicknameSearchResult result = index.search("ㅊㄱ", 0, 10);
+
+        // Then
+        assertThat(nicknames(result)).containsExactly("철구");
+    }
+
+    @Test
+    @DisplayName("완전히 일치하는 닉네임, 짧은 닉네임 순으로 정렬한다")
+    void searchRanksExactMatchThenShorter() {
+        // Given
+        index.addLocally(1L, "철구왕자");
+        index.addLocally(2L, "철구님");
+        index.addLocally(3L, "철구");
+
+        // When
+        NicknameSearchResult result = index.search("철구", 0, 10);
+
+        // Then
+        assertThat(nicknames(result)).containsExactly("철구", "철구님", "철구왕자");
+    }
+
+    @Test
+    @DisplayName("영문 닉네임은 대소문자 구분 없이 접두사로 찾는다")
+    void searchLatinPrefixIgnoringCase() {
+        // Given
+        index.addLocally(1L, "bokSungKim");
+        index.addLocally(2L, "Bob");
+        index.addLocally(3L, "alice");
+
+        // When
+        NicknameSearchResult result = index.search("bo", 0, 10);
+
+        // Then
+        assertThat(nicknames(result)).containsExactly("Bob", "bokSungKim");
+    }
+
+    @Test
+    @DisplayName("요청한 구간만 돌려주고 전체 개수를 함께 알려준다")
+    void searchPaginates() {
+        // Given
+        for (long id = 1; id <= 5; id++) {
+            index.addLocally(id, "ㅋ" + "ㅋ".repeat((int) id));
+        }
+
+        // When
+        NicknameSearchResult result = index.search("ㅋ", 2, 2);
+
+        // Then
+        assertThat(result.totalCount()).isEqualTo(5);
+        assertThat(nicknames(result)).containsExactly("ㅋㅋㅋㅋ", "ㅋㅋㅋㅋㅋ");
+    }
+
+    @Test
+    @DisplayName("음절로 시작하는 검색어는 초성만 같은 닉네임을 훑지 않는다")
+    void syllableQuerySkipsSameChosungNicknames() {
+        // Given
+        for (long id = 1; id <= 200; id++) {
+            index.addLocally(id, "차" + id);
+        }
+        index.addLocally(201L, "철구");
+
+        // When
+        NicknameSearchResult result = index.search("철", 0, 10);
+
+        // Then
+        assertThat(nicknames(result)).containsExactly("철구");
+    }
+
+    @Test
+    @DisplayName("훑는 항목 수가 상한에 닿으면 검색을 멈춘다")
+    void searchStopsAtMaxScanned() {
+        // Given
+        NicknameSearchIndex cappedIndex = new NicknameSearchIndex(
+                memberRepository, redisTemplate, mock(RedisMessageListenerContainer.class), 2, 100, 3);
+        for (long id = 1; id <= 5; id++) {
+            cappedIndex.addLocally(id, "ㅋ".repeat((int) id));
+        }
+
+        // When
+        NicknameSearchResult result = cappedIndex.search("ㅋ", 0, 10);
+
+        // Then
+        assertThat(result.totalCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("시작할 때 DB 의 닉네임을 배치로 적재한다")
+    void loadReadsMembersInBatches() {
+        // Given
+        List<MemberIdentity> members = List.of(
+                new MemberIdentity(1L, "a@friendy.com", "철구"),
+                new MemberIdentity(2L, "b@friendy.com", "철수"),
+                new MemberIdentity(3L, "c@friendy.com", "민수")
+        );
+        when(memberRepository.findIdentitiesAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            return members.stream().filter(member -> member.id() > lastId).limit(2).toList();
+        });
+
+        // When
+        index.load();
+
+        // Then
+        assertThat(index.size()).isEqualTo(3);
+        verify(memberRepository, times(2)).findIdentitiesAfter(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원은 검색되지 않고 변경을 다른 노드에 알린다")
+    void removeDeletesEntryAndPublishes() {
+        // Given
+        index.add(1L, "철구");
+
+        // When
+        index.remove(1L, "철구");
+
+        // Then
+        assertThat(index.search("ㅊㄱ", 0, 10).hits()).isEmpty();
+        verify(redisTemplate).convertAndSend(NicknameSearchIndex.CHANGE_CHANNEL, "+\n1\n철구");
+        verify(redisTemplate).convertAndSend(NicknameSearchIndex.CHANGE_CHANNEL, "-\n1\n철구");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 가입 메시지를 받으면 색인에 추가한다")
+    void onMessageAddsRemoteMember() {
+        // Given
+        byte[] body = "+\n7\n철구".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        index.onMessage(new DefaultMessage(NicknameSearchIndex.CHANGE_CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+        // Then
+        assertThat(index.search("철", 0, 10).hits())
+                .containsExactly(new NicknameSearchResult.Hit(7L, "철구"));
+    }
+}
@@ -3,6 +3,7 @@ package friendy.community.domain.member.service;
 import friendy.community.domain.auth.service.AuthService;
 import friendy.community.domain.member.dto.request.MemberSignUpRequest;
 import friendy.community.domain.member.dto.request.PasswordRequest;
+import friendy.community.domain.member.dto.response.NicknameAvailabilityResponse;
 import friendy.community.domain.member.fixture.MemberFixture;
 import friendy.community.domain.member.model.Member;
 import friendy.community.domain.member.repository.MemberRepository;
@@ -104,4 +105,36 @@ class MemberServiceTest {
                 .isInstanceOf(FriendyException.class)
                 .hasMessageContaining("해당 이메일의 회원이 존재하지 않습니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("이미 사용 중인 닉네임은 사용할 수 없다고 응답한다")
+    void checkNicknameAvailabilityReturnsFalseForTakenNickname() {
+        // Given
+        Member savedMember = memberRepository.save(MemberFixture.memberFixture());
+
+        // When
+        NicknameAvailabilityResponse response = memberService.checkNicknameAvailability(savedMember.getNickname());
+
+        // Then
+        assertThat(response.available()).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용 중이 아닌 닉네임은 사용할 수 있다고 응답한다")
+    void checkNicknameAvailabilityReturnsTrueForFreeNickname() {
+        // When
+        NicknameAvailabilityResponse response = memberService.checkNicknameAvailability("freeNickname");
+
+        // Then
+        assertThat(response.available()).isTrue();
+    }
+
+    @Test
+    @DisplayName("닉네임 글자수가 올바르지 않으면 예외를 던진다")
+    void checkNicknameAvailabilityThrowsForInvalidLength() {
+        // When & Then
+        assertThatThrownBy(() -> memberService.checkNicknameAvailability("a"))
+                .isInstanceOf(FriendyException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+    }
+}
@@ -0,0 +1,65 @@
+package friendy.community.domain.post.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostArchiveCodecTest {
+
+    @Test
+    @DisplayName("압축한 본문과 해시태그는 그대로 복원된다")
+    void decodeRestoresEncodedBody() {
+        // Given
+        byte[] payload = PostArchiveCodec.encode("프렌디 게시글 내용입니다.", List.of("프렌디", "개발"));
+
+        // When
+        ArchivedPostBody body = PostArchiveCodec.decode(payload);
+
+        // Then
+        assertThat(body.content()).isEqualTo("프렌디 게시글 내용입니다.");
+        assertThat(body.hashtags()).containsExactly("프렌디", "개발");
+    }
+
+    @Test
+    @DisplayName("해시태그가 없는 게시글도 복원된다")
+    void decodeRestoresBodyWithoutHashtags() {
+        // Given
+        byte[] payload = PostArchiveCodec.encode("내용", List.of());
+
+        // When
+        ArchivedPostBody body = PostArchiveCodec.decode(payload);
+
+        // Then
+        assertThat(body.content()).isEqualTo("내용");
+        assertThat(body.hashtags()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반복이 많은 본문은 원래 크기보다 작게 저장된다")
+    void encodeCompressesRepetitiveContent() {
+        // Given
+        String content = "오늘도 프렌디에서 스터디를 했습니다. ".repeat(10);
+
+        // When
+        byte[] payload = PostArchiveCodec.encode(content, List.of("스터디"));
+
+        // Then
+        assertThat(payload.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length / 2);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식의 값은 읽지 않는다")
+    void decodeRejectsUnknownFormat() {
+        // Given
+        byte[] payload = {99, 1, 2, 3};
+
+        // When & Then
+        assertThatThrownBy(() -> PostArchiveCodec.decode(payload))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,285 @@
+package friendy.community.domain.post.archive;
+
+import friendy.community.domain.hashtag.repository.HashtagRepository;
+import friendy.community.domain.hashtag.repository.PostHashtagRepository;
+import friendy.community.domain.hashtag.service.HashtagService;
+import friendy.community.domain.member.cache.MemberCache;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.dto.request.PostUpdateRequest;
+import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.domain.post.dto.response.FindPostResponse;
+import friendy.community.domain.post.model.Post;
+import friendy.community.domain.post.model.PostArchive;
+import friendy.community.domain.post.repository.PostArchiveRepository;
+import friendy.community.domain.post.repository.PostRepository;
+import friendy.community.domain.post.service.PostService;
+import friendy.community.global.exception.ErrorCode;
+import friendy.community.global.exception.FriendyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static friendy.community.domain.auth.fixtures.TokenFixtures.CORRECT_ACCESS_TOKEN;
+import static friendy.community.domain.auth.fixtures.TokenFixtures.OTHER_USER_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 청크마다 커밋된 결과를 확인해야 하므로 테스트 트랜잭션 없이 돌리고 데이터는 직접 정리한다.
+@SpringBootTest
+@DirtiesContext
+class PostArchiverTest {
+
+    @Autowired
+    private PostArchiver postArchiver;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private HashtagService hashtagService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private HashtagRepository hashtagRepository;
+    @Autowired
+    private PostHashtagRepository postHashtagRepository;
+    @Autowired
+    private PostArchiveRepository postArchiveRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MemberCache memberCache;
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(MemberFixture.memberFixture());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postArchiveRepository.deleteAllInBatch();
+        postHashtagRepository.deleteAllInBatch();
+        hashtagRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        memberCache.evict(member);
+    }
+
+    private MockHttpServletRequest requestWithToken(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", token);
+        return request;
+    }
+
+    // 무작위 이름은 거의 압축되지 않으므로 해시태그가 많으면 보관 한도를 넘는다.
+    private List<String> incompressibleHashtags(int count) {
+        Random random = new Random(42);
+        List<String> hashtags = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder name = new StringBuilder();
+            for (int j = 0; j < 10; j++) {
+                name.append((char) ('가' + random.nextInt('힣' - '가')));
+            }
+            hashtags.add(name.toString());
+        }
+        return hashtags;
+    }
+
+    private Long createPost(String content, List<String> hashtags) {
+        Post post = postRepository.save(Post.of(new PostCreateRequest(content, hashtags), member));
+        hashtagService.saveHashtags(post, hashtags);
+        return post.getId();
+    }
+
+    @Test
+    @DisplayName("기준 시각 이전의 게시글과 해시태그 연결은 보관 저장소로 옮겨지고 핫 테이블에서 지워진다")
+    void archiveMovesOldPostsAndHashtagLinks() {
+        // Given
+        Long postId = createPost("오래된 게시글", List.of("프렌디", "개발"));
+
+        // When
+        long archived = postArchiver.archiveCreatedBefore(LocalDateTime.now().plusMinutes(1));
+
+        // Then
+        assertThat(archived).isEqualTo(1);
+        assertThat(postRepository.existsById(postId)).isFalse();
+        assertThat(postHashtagRepository.count()).isZero();
+        assertThat(hashtagRepository.count()).isEqualTo(2);
+
+        PostArchive archive = postArchiveRepository.findById(postId).orElseThrow();
+        ArchivedPostBody body = PostArchiveCodec.decode(archive.getPayload());
+        assertThat(archive.getMemberId()).isEqualTo(member.getId());
+        assertThat(archive.getCreatedDate()).isNotNull();
+        assertThat(body.content()).isEqualTo("오래된 게시글");
+        assertThat(body.hashtags()).containsExactlyInAnyOrder("프렌디", "개발");
+    }
+
+    @Test
+    @DisplayName("기준 시각 이후에 작성된 게시글은 옮기지 않는다")
+    void archiveKeepsRecentPosts() {
+        // Given
+        Long postId = createPost("최근 게시글", List.of("프렌디"));
+
+        // When
+        long archived = postArchiver.archiveCreatedBefore(LocalDateTime.now().minusDays(1));
+
+        // Then
+        assertThat(archived).isZero();
+        assertThat(postRepository.existsById(postId)).isTrue();
+        assertThat(postArchiveRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("보관된 게시글도 단건 조회로 내용과 작성자를 읽을 수 있다")
+    void getPostFallsBackToArchive() {
+        // Given
+        Long postId = createPost("보관될 게시글", List.of("프렌디"));
+        postArchiver.archiveCreatedBefore(LocalDateTime.now().plusMinutes(1));
+
+        // When
+        FindPostResponse response = postService.getPost(postId);
+
+        // Then
+        assertThat(response.id()).isEqualTo(postId);
+        assertThat(response.content()).isEqualTo("보관될 게시글");
+        assertThat(response.createdAt()).isNotNull();
+        assertThat(response.authorResponse().nickname()).isEqualTo(member.getNickname());
+    }
+
+    @Test
+    @DisplayName("한 번의 실행은 설정한 청크 수까지만 옮긴다")
+    void archiveStopsAfterMaxChunksPerRun() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            createPost("게시글 " + i, List.of());
+        }
+        PostArchiver smallChunks = new PostArchiver(
+                postRepository, postHashtagRepository, postArchiveRepository, transactionManager, 6, 2, 2);
+
+        // When
+        long archived = smallChunks.archiveCreatedBefore(LocalDateTime.now().plusMinutes(1));
+
+        // Then
+        assertThat(archived).isEqualTo(4);
+        assertThat(postRepository.count()).isEqualTo(1);
+        assertThat(postArchiveRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("보관 한도를 넘어 옮기지 못한 게시글이 앞에 있어도 그 뒤의 게시글은 계속 옮긴다")
+    void archivePagesPastSkippedPosts() {
+        // Given
+        Long oversizedPostId = createPost("해시태그가 많은 게시글", incompressibleHashtags(300));
+        createPost("게시글 1", List.of());
+        createPost("게시글 2", List.of());
+        PostArchiver singlePostChunks = new PostArchiver(
+                postRepository, postHashtagRepository, postArchiveRepository, transactionManager, 6, 1, 5);
+
+        // When
+        long archived = singlePostChunks.archiveCreatedBefore(LocalDateTime.now().plusMinutes(1));
+
+        // Then
+        assertThat(archived).isEqualTo(2);
+        assertThat(postRepository.findAll()).extracting(Post::getId).containsExactly(oversizedPostId);
+        assertThat(postArchiveRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작성자는 보관된 게시글을 삭제할 수 있다")
+    void authorDeletesArchivedPost() {
+        // Given
+        Long postId = createPost("보관될 게시글", List.of("프렌디"));
+        postArchiver.archiveCreatedBefore(LocalDateTime.now().plusMinutes(1));
+
+        // When
+        postService.deletePost(requestWithToken(CORRECT_ACCESS_TOKEN), postId);
+
+        // Then
+        assertThat(postArchiveRepository.existsById(postId)).isFalse();
+        assertThatThrownBy(() -> postService.getPost(postId))
+                .isInstanceOf(FriendyException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.RESOURCE_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("작성자가 아니면 보관된 게시글을 삭제할 수 없다")
+    void otherMemberCannotDeleteArchivedPost() {
+        // Given
+        memberRepository.save(new Member("user@example.com", "홍길동", "password", "salt", LocalDate.parse("2002-08-13")));
+        Long postId = createPost("보관될 게시글", List.of("프렌디"));
+        postArchiver.archiveCreatedBefore(LocalDateTime.now().plusMinutes(1));
+
+        // When & Then
+        assertThatThrownBy(() -> postService.deletePost(requestWithToken(OTHER_USER_TOKEN), postId))
+                .isInstanceOf(FriendyException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN_ACCESS);
+        assertThat(postArchiveRepository.existsById(postId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("작성자는 보관된 게시글의 내용과 해시태그를 수정할 수 있다")
+    void authorUpdatesArchivedPost() {
+        // Given
+        Long postId = createPost("보관될 게시글", List.of("프렌디"));
+        postArchiver.archiveCreatedBefore(LocalDateTime.now().plusMinutes(1));
+
+        // When
+        long updatedId = postService.updatePost(
+                new PostUpdateRequest("수정된 게시글", List.of("개발", "개발")), requestWithToken(CORRECT_ACCESS_TOKEN), postId);
+
+        // Then
+        ArchivedPostBody body = PostArchiveCodec.decode(postArchiveRepository.findById(postId).orElseThrow().getPayload());
+        assertThat(updatedId).isEqualTo(postId);
+        assertThat(body.content()).isEqualTo("수정된 게시글");
+        assertThat(body.hashtags()).containsExactly("개발");
+        assertThat(postService.getPost(postId).content()).isEqualTo("수정된 게시글");
+    }
+
+    @Test
+    @DisplayName("게시글 목록은 핫 테이블을 다 읽은 뒤 보관된 게시글로 이어진다")
+    void feedContinuesIntoArchive() {
+        // Given
+        for (int i = 0; i < 8; i++) {
+            createPost("오래된 게시글 " + i, List.of());
+        }
+        postArchiver.archiveCreatedBefore(LocalDateTime.now().plusMinutes(1));
+        for (int i = 0; i < 5; i++) {
+            createPost("최근 게시글 " + i, List.of());
+        }
+
+        // When
+        FindAllPostResponse firstPage = postService.getAllPosts(PageRequest.of(0, 10));
+        FindAllPostResponse secondPage = postService.getAllPosts(PageRequest.of(1, 10));
+
+        // Then
+        assertThat(firstPage.totalPages()).isEqualTo(2);
+        assertThat(firstPage.posts()).hasSize(10);
+        assertThat(firstPage.posts().subList(0, 5)).extracting(FindPostResponse::content).allMatch(content -> content.startsWith("최근"));
+        assertThat(firstPage.posts().subList(5, 10)).extracting(FindPostResponse::content).allMatch(content -> content.startsWith("오래된"));
+        assertThat(secondPage.posts()).hasSize(3)
+                .extracting(FindPostResponse::authorResponse)
+                .allSatisfy(author -> assertThat(author.nickname()).isEqualTo(member.getNickname()));
+    }
+}
@@ -0,0 +1,114 @@
+package friendy.community.domain.post.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import friendy.community.domain.hashtag.repository.HashtagRepository;
+import friendy.community.domain.hashtag.repository.PostHashtagRepository;
+import friendy.community.domain.member.cache.MemberCache;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.model.Post;
+import friendy.community.domain.post.repository.PostRepository;
+import friendy.community.global.metrics.MaxQueries;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static friendy.community.domain.auth.fixtures.TokenFixtures.CORRECT_ACCESS_TOKEN;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 실제 커밋까지 실행된 쿼리를 세야 하므로 테스트 트랜잭션 없이 돌리고 데이터는 직접 정리한다.
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+class PostQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private HashtagRepository hashtagRepository;
+    @Autowired
+    private PostHashtagRepository postHashtagRepository;
+    @Autowired
+    private MemberCache memberCache;
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    private Member member;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(MemberFixture.memberFixture());
+        for (int i = 0; i < 3; i++) {
+            postId = postRepository.save(Post.of(new PostCreateRequest("게시글 " + i, List.of()), member)).getId();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        postHashtagRepository.deleteAllInBatch();
+        hashtagRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        memberCache.evict(member);
+    }
+
+    @Test
+    @MaxQueries(2)
+    @DisplayName("게시글 목록 조회는 작성자 수와 상관없이 목록과 개수 쿼리 두 번만 실행한다")
+    void getAllPostsRunsAtMostTwoQueries() throws Exception {
+        // Given: setUp 에서 한 작성자의 게시글 3개를 저장해 둔다.
+
+        // When & Then: 쿼리 수는 @MaxQueries 가 요청이 끝난 뒤 검사한다.
+        mockMvc.perform(get("/posts/list"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxQueries(1)
+    @DisplayName("게시글 단건 조회는 작성자를 함께 읽는 쿼리 한 번만 실행한다")
+    void getPostRunsOneQuery() throws Exception {
+        // Given: setUp 에서 마지막으로 저장한 게시글을 조회한다.
+
+        // When & Then: 쿼리 수는 @MaxQueries 가 요청이 끝난 뒤 검사한다.
+        mockMvc.perform(get("/posts/" + postId))
+                .andExpect(status().isOk());
+    }
+
+    // 회원 조회 1 + 게시글 INSERT 1 + 해시태그 조회 1 + 새 해시태그 INSERT 2 + 게시글-해시태그 INSERT 2
+    @Test
+    @MaxQueries(7)
+    @DisplayName("게시글 작성은 게시글-해시태그를 저장하기 전에 SELECT 하지 않는다")
+    void createPostDoesNotSelectBeforeInsertingPostHashtags() throws Exception {
+        // Given
+        PostCreateRequest request = new PostCreateRequest("새 게시글", List.of("프렌디", "개발"));
+
+        // When & Then: 쿼리 수는 @MaxQueries 가 요청이 끝난 뒤 검사한다.
+        mockMvc.perform(post("/posts")
+                        .header("Authorization", CORRECT_ACCESS_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+}
@@ -0,0 +1,99 @@
+package friendy.community.domain.post.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.domain.post.dto.response.FindMemberResponse;
+import friendy.community.domain.post.dto.response.FindPostResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FindPostResponseSerializerTest {
+
+    private final ObjectMapper reflectiveMapper = new ObjectMapper();
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(FindPostResponse.class, new FindPostResponseSerializer(100));
+        module.addSerializer(FindAllPostResponse.class, new FindAllPostResponseSerializer());
+        objectMapper = new ObjectMapper().registerModule(module);
+    }
+
+    @Test
+    @DisplayName("전용 직렬화기는 레코드 기본 직렬화와 같은 JSON 을 만든다")
+    void serializesSameJsonAsRecordSerialization() throws Exception {
+        // Given
+        FindAllPostResponse response = new FindAllPostResponse(List.of(
+                new FindPostResponse(1L, "Post 1", "2025-01-23T10:00:00", 10, 5, 2, new FindMemberResponse(1L, "author1")),
+                new FindPostResponse(2L, "줄바꿈\n과 \"따옴표\"", "2025-01-23T11:00:00", 0, 0, 0, new FindMemberResponse(2L, "작성자\"2\""))
+        ), 3);
+
+        // When
+        String json = objectMapper.writeValueAsString(response);
+
+        // Then
+        assertThat(json).isEqualTo(reflectiveMapper.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("null 값도 레코드 기본 직렬화와 같이 null 로 쓴다")
+    void serializesNullsLikeRecordSerialization() throws Exception {
+        // Given
+        FindAllPostResponse response = new FindAllPostResponse(Arrays.asList(
+                new FindPostResponse(null, null, null, 0, 0, 0, null),
+                new FindPostResponse(3L, "Post 3", null, 1, 1, 1, new FindMemberResponse(null, null)),
+                null
+        ), null);
+
+        // When
+        String json = objectMapper.writeValueAsString(response);
+
+        // Then
+        assertThat(json).isEqualTo(reflectiveMapper.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("같은 회원의 닉네임이 바뀌면 캐시된 작성자 조각 대신 새 닉네임을 쓴다")
+    void refreshesAuthorFragmentWhenNicknameChanges() throws Exception {
+        // Given
+        FindPostResponse before = new FindPostResponse(1L, "Post 1", "2025-01-23T10:00:00", 0, 0, 0, new FindMemberResponse(7L, "before"));
+        FindPostResponse after = new FindPostResponse(2L, "Post 2", "2025-01-23T10:00:00", 0, 0, 0, new FindMemberResponse(7L, "after"));
+        objectMapper.writeValueAsString(before);
+
+        // When
+        String json = objectMapper.writeValueAsString(after);
+
+        // Then
+        assertThat(json).contains("\"authorResponse\":{\"id\":7,\"nickname\":\"after\"}");
+    }
+
+    @Test
+    @DisplayName("들여쓰기나 비 ASCII 이스케이프가 켜져 있으면 작성자도 그 설정대로 쓴다")
+    void authorFollowsGeneratorFeatures() throws Exception {
+        // Given
+        FindPostResponse response = new FindPostResponse(1L, "Post 1", "2025-01-23T10:00:00", 0, 0, 0, new FindMemberResponse(7L, "작성자"));
+        objectMapper.writeValueAsString(response);
+        ObjectMapper configured = objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .enable(JsonGenerator.Feature.ESCAPE_NON_ASCII);
+
+        // When
+        String json = configured.writeValueAsString(response);
+
+        // Then
+        assertThat(json).isEqualTo(reflectiveMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .enable(JsonGenerator.Feature.ESCAPE_NON_ASCII)
+                .writeValueAsString(response));
+    }
+}
@@ -0,0 +1,165 @@
+package friendy.community.domain.post.repository;
+
+import friendy.community.domain.hashtag.model.Hashtag;
+import friendy.community.domain.hashtag.repository.HashtagRepository;
+import friendy.community.domain.hashtag.repository.PostHashtagRepository;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.model.Post;
+import friendy.community.global.metrics.RequestStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 리포지토리가 실제로 실행한 SQL 을 받아 H2 의 EXPLAIN 으로 실행 계획을 확인한다. 인덱스가 빠지면 계획에 tableScan 이 나타난다.
+@SpringBootTest
+@DirtiesContext
+class PostQueryPlanTest {
+
+    private static final String FULL_SCAN = "tableScan";
+    // COUNT(*) 처럼 행 수만으로 답하는 집계는 테이블을 읽지 않는다.
+    private static final String ROW_COUNT_LOOKUP = "direct lookup";
+
+    @Autowired
+    private PostQueryDSLRepository postQueryDSLRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private HashtagRepository hashtagRepository;
+    @Autowired
+    private PostHashtagRepository postHashtagRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(MemberFixture.memberFixture());
+        for (int i = 0; i < 20; i++) {
+            postId = postRepository.save(Post.of(new PostCreateRequest("게시글 " + i, List.of()), member)).getId();
+        }
+        hashtagRepository.saveAll(List.of(new Hashtag("프렌디"), new Hashtag("개발"), new Hashtag("일상")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postHashtagRepository.deleteAllInBatch();
+        hashtagRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    private List<String> capture(Runnable query) {
+        long before = RequestStats.current().totalStatementCount();
+        query.run();
+        int executed = (int) (RequestStats.current().totalStatementCount() - before);
+        return RequestStats.current().recentStatements(executed);
+    }
+
+    // IN 목록이 배치 크기로 채워질 수 있으므로 주어진 값을 차례로 돌려 가며 모든 자리표시자에 넣는다.
+    private String explain(String sql, Object... parameters) {
+        int placeholders = (int) sql.chars().filter(c -> c == '?').count();
+        return jdbcTemplate.query("EXPLAIN " + sql, statement -> {
+            for (int i = 0; i < placeholders; i++) {
+                statement.setObject(i + 1, parameters[i % parameters.length]);
+            }
+        }, resultSet -> resultSet.next() ? resultSet.getString(1) : "");
+    }
+
+    @Test
+    @DisplayName("최신순 피드는 created_date 인덱스 순서대로 읽어 정렬과 전체 스캔을 하지 않는다")
+    void findAllPostsReadsFeedIndexInOrder() {
+        // Given
+        List<String> statements = capture(() -> postQueryDSLRepository.findAllPosts(PageRequest.of(0, 10)));
+
+        // When
+        String pagePlan = explain(statements.get(0), 10);
+        String countPlan = explain(statements.get(1));
+
+        // Then
+        assertThat(pagePlan).containsIgnoringCase("idx_post_created_date")
+                .containsIgnoringCase("index sorted")
+                .doesNotContainIgnoringCase(FULL_SCAN);
+        assertThat(countPlan).satisfiesAnyOf(
+                plan -> assertThat(plan).contains(ROW_COUNT_LOOKUP),
+                plan -> assertThat(plan).doesNotContainIgnoringCase(FULL_SCAN)
+        );
+    }
+
+    @Test
+    @DisplayName("게시글 단건 조회는 게시글과 작성자 모두 기본 키로 찾는다")
+    void findPostByIdUsesPrimaryKeys() {
+        // Given
+        List<String> statements = capture(() -> postQueryDSLRepository.findPostById(postId));
+
+        // When
+        String plan = explain(statements.get(0), postId);
+
+        // Then
+        assertThat(plan).doesNotContainIgnoringCase(FULL_SCAN);
+    }
+
+    @Test
+    @DisplayName("해시태그 이름 조회는 name 고유 인덱스를 쓴다")
+    void findHashtagsByNameUsesUniqueIndex() {
+        // Given
+        entityManagerFactory.getCache().evictAll();
+        List<String> statements = capture(() -> hashtagRepository.findAllByNameIn(List.of("프렌디", "개발")));
+
+        // When
+        String plan = explain(statements.get(0), "프렌디", "개발");
+
+        // Then
+        assertThat(plan).doesNotContainIgnoringCase(FULL_SCAN);
+    }
+
+    @Test
+    @DisplayName("게시글의 해시태그 삭제는 기본 키 앞부분(post_id)으로 찾는다")
+    void deletePostHashtagsByPostUsesPrimaryKeyPrefix() {
+        // Given
+        List<String> statements = capture(() ->
+                transactionTemplate.executeWithoutResult(status -> postHashtagRepository.deleteAllByPostId(postId)));
+
+        // When
+        String plan = explain(statements.get(0), postId);
+
+        // Then
+        assertThat(plan).doesNotContainIgnoringCase(FULL_SCAN);
+    }
+
+    @Test
+    @DisplayName("해시태그로 게시글을 찾을 때는 (hashtag_id, post_id) 인덱스를 쓴다")
+    void postsByHashtagUseHashtagIndex() {
+        // When
+        String plan = explain("SELECT post_id FROM post_hashtag WHERE hashtag_id = ?", 1L);
+
+        // Then
+        assertThat(plan).containsIgnoringCase("idx_post_hashtag_hashtag_post")
+                .doesNotContainIgnoringCase(FULL_SCAN);
+    }
+}
@@ -0,0 +1,48 @@
+package friendy.community.global.bloom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단한다")
+    void addedValuesAreAlwaysContained() {
+        // Given
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        // When
+        IntStream.range(0, 1_000).forEach(i -> filter.put("token-" + i));
+
+        // Then
+        assertThat(IntStream.range(0, 1_000).allMatch(i -> filter.mightContain("token-" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률은 설정값 근처에 머문다")
+    void falsePositiveRateStaysNearConfiguredValue() {
+        // Given
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        IntStream.range(0, 1_000).forEach(i -> filter.put("token-" + i));
+
+        // When
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain("other-" + i))
+                .count();
+
+        // Then
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("오탐률이 0과 1 사이가 아니면 예외가 발생한다")
+    void invalidConfigurationThrowsException() {
+        assertThatThrownBy(() -> new BloomFilter(1_000, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,140 @@
+package friendy.community.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import friendy.community.domain.hashtag.model.Hashtag;
+import friendy.community.domain.hashtag.repository.HashtagRepository;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.global.metrics.RequestStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.cache.CacheManager;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 캐시 적중을 커밋된 데이터로 확인해야 하므로 테스트 트랜잭션 없이 돌리고 데이터는 직접 정리한다.
+@SpringBootTest
+@DirtiesContext
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private HashtagRepository hashtagRepository;
+    @Autowired
+    private CacheManager secondLevelCacheManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        hashtagRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    private long statementsDuring(Runnable action) {
+        long before = RequestStats.current().totalStatementCount();
+        action.run();
+        return RequestStats.current().totalStatementCount() - before;
+    }
+
+    @Test
+    @DisplayName("이메일로 한 번 조회한 회원은 다시 조회할 때 SQL 을 실행하지 않는다")
+    void findByEmailHitsNaturalIdCache() {
+        // Given
+        Member member = memberRepository.save(MemberFixture.memberFixture());
+        memberRepository.findByEmail(member.getEmail());
+
+        // When
+        long statements = statementsDuring(() -> {
+            Optional<Member> cached = memberRepository.findByEmail(member.getEmail());
+            assertThat(cached).isPresent();
+            assertThat(cached.get().getNickname()).isEqualTo(member.getNickname());
+        });
+
+        // Then
+        assertThat(statements).isZero();
+    }
+
+    @Test
+    @DisplayName("비밀번호를 바꾸면 다음 조회는 캐시에서도 바뀐 비밀번호를 돌려준다")
+    void updatedMemberIsVisibleThroughCache() {
+        // Given
+        Member member = memberRepository.save(MemberFixture.memberFixture());
+        Member loaded = memberRepository.findByEmail(member.getEmail()).orElseThrow();
+
+        // When
+        loaded.resetPassword("newPassword", "newSalt");
+        memberRepository.save(loaded);
+
+        // Then
+        assertThat(memberRepository.findByEmail(member.getEmail()))
+                .get()
+                .extracting(Member::getPassword)
+                .isEqualTo("newPassword");
+    }
+
+    @Test
+    @DisplayName("해시태그 이름 목록은 중복이 있어도 한 번의 조회로 읽고, 없는 이름은 결과에서 빠진다")
+    void findAllByNameInLoadsInOneQuery() {
+        // Given
+        hashtagRepository.saveAll(List.of(new Hashtag("프렌디"), new Hashtag("개발")));
+
+        // When
+        long statements = statementsDuring(() -> {
+            List<Hashtag> hashtags = hashtagRepository.findAllByNameIn(List.of("프렌디", "개발", "개발", "없는태그"));
+            assertThat(hashtags).extracting(Hashtag::getName).containsExactlyInAnyOrder("프렌디", "개발");
+        });
+
+        // Then
+        assertThat(statements).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ID로 한 번 읽은 해시태그는 다시 읽을 때 SQL 을 실행하지 않는다")
+    void findByIdHitsEntityCache() {
+        // Given
+        Hashtag hashtag = hashtagRepository.save(new Hashtag("프렌디"));
+        hashtagRepository.findById(hashtag.getId());
+
+        // When
+        long statements = statementsDuring(() ->
+                assertThat(hashtagRepository.findById(hashtag.getId())).isPresent());
+
+        // Then
+        assertThat(statements).isZero();
+    }
+
+    @Test
+    @DisplayName("모든 캐시 영역은 설정한 최대 크기로 제한되고 영역별 지표를 내보낸다")
+    void regionsAreBoundedAndMonitored() {
+        // Given
+        List<String> regions = List.of(
+                SecondLevelCacheConfig.MEMBER_REGION,
+                SecondLevelCacheConfig.MEMBER_NATURAL_ID_REGION,
+                SecondLevelCacheConfig.HASHTAG_REGION,
+                SecondLevelCacheConfig.HASHTAG_NATURAL_ID_REGION
+        );
+
+        // When & Then
+        for (String region : regions) {
+            CaffeineConfiguration<?, ?> configuration = secondLevelCacheManager.getCache(region)
+                    .getConfiguration(CaffeineConfiguration.class);
+            assertThat(configuration.getMaximumSize()).isPresent();
+            assertThat(meterRegistry.find("cache.evictions").tag("cache", "hibernate-" + region).meters()).isNotEmpty();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package friendy.community.global.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 두 개의 H2 인메모리 DB 를 프라이머리와 레플리카로 두고, 각 DB 의 node 테이블에 적힌 이름으로 어느 쪽에서 읽었는지 확인한다.
+class ReplicationRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing-primary", "primary", 0);
+        replica = h2("routing-replica", "replica", 0);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카에서 읽는다")
+    void readOnlyTransactionUsesReplica() {
+        // Given
+        route(new ReplicaHealthMonitor(replica, Duration.ofSeconds(5), ""));
+
+        // When
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // Then
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("읽기 쓰기 트랜잭션과 트랜잭션 밖의 조회는 프라이머리를 쓴다")
+    void writesAndNonTransactionalReadsUsePrimary() {
+        // Given
+        route(new ReplicaHealthMonitor(replica, Duration.ofSeconds(5), ""));
+
+        // When
+        String inTransaction = readWriteTransaction.execute(status -> currentNode());
+        String withoutTransaction = currentNode();
+
+        // Then
+        assertThat(inTransaction).isEqualTo("primary");
+        assertThat(withoutTransaction).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 프라이머리에서 읽는다")
+    void laggingReplicaFallsBackToPrimary() {
+        // Given
+        replica = h2("routing-lagging-replica", "replica", 30);
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(replica, Duration.ofSeconds(5), "SELECT lag_seconds FROM node");
+        route(monitor);
+
+        // When
+        monitor.check();
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // Then
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("지연이 허용치 안으로 돌아오면 다시 레플리카에서 읽는다")
+    void recoveredReplicaIsUsedAgain() {
+        // Given
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(replica, Duration.ofSeconds(5), "SELECT lag_seconds FROM node");
+        route(monitor);
+        new JdbcTemplate(replica).update("UPDATE node SET lag_seconds = 30");
+        monitor.check();
+        new JdbcTemplate(replica).update("UPDATE node SET lag_seconds = 1");
+
+        // When
+        monitor.check();
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // Then
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("레플리카 커넥션을 얻지 못하면 프라이머리에서 읽고 레플리카를 사용 중지한다")
+    void unreachableReplicaFallsBackToPrimary() {
+        // Given
+        replica = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unreachable", "sa", "");
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(replica, Duration.ofSeconds(5), "");
+        route(monitor);
+
+        // When
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // Then
+        assertThat(node).isEqualTo("primary");
+        assertThat(monitor.isAvailable()).isFalse();
+    }
+
+    private void route(ReplicaHealthMonitor monitor) {
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(primary, replica, monitor));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource h2(String database, String name, int lagSeconds) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20), lag_seconds INT)");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name, lag_seconds) VALUES (?, ?)", name, lagSeconds);
+        return dataSource;
+    }
+}
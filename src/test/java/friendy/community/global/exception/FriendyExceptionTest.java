@@ -0,0 +1,63 @@
+package friendy.community.global.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ProblemDetail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FriendyExceptionTest {
+
+    @Test
+    @DisplayName("4xx 오류 코드의 예외는 스택 트레이스를 채우지 않는다")
+    void clientErrorHasNoStackTrace() {
+        // When
+        FriendyException exception = new FriendyException(ErrorCode.UNAUTHORIZED_USER, "로그인 되어있지 않은 사용자입니다.");
+
+        // Then
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("5xx 오류 코드의 예외는 스택 트레이스를 남긴다")
+    void serverErrorKeepsStackTrace() {
+        // When
+        FriendyException exception = new FriendyException(ErrorCode.INTERNAL_SERVER_ERROR, "암호화 알고리즘이 잘못 명시되었습니다.");
+
+        // Then
+        assertThat(exception.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("ProblemDetail 은 오류 코드의 상태, 제목, 코드와 예외 메시지, 시각을 담는다")
+    void toProblemDetailContainsErrorCodeAndMessage() {
+        // Given
+        FriendyException exception = new FriendyException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 게시글입니다.");
+
+        // When
+        ProblemDetail problemDetail = exception.toProblemDetail();
+
+        // Then
+        assertThat(problemDetail.getStatus()).isEqualTo(404);
+        assertThat(problemDetail.getTitle()).isEqualTo("Not Found");
+        assertThat(problemDetail.getDetail()).isEqualTo("존재하지 않는 게시글입니다.");
+        assertThat(problemDetail.getProperties())
+                .containsEntry("errorCode", 1201)
+                .containsKey("timestamp");
+    }
+
+    @Test
+    @DisplayName("응답마다 ProblemDetail 을 복사하므로 한 응답을 바꿔도 다른 응답에 영향이 없다")
+    void problemDetailsDoNotShareState() {
+        // Given
+        ProblemDetail first = new FriendyException(ErrorCode.INVALID_REQUEST, "첫 번째").toProblemDetail();
+        first.setProperty("extra", "value");
+
+        // When
+        ProblemDetail second = new FriendyException(ErrorCode.INVALID_REQUEST, "두 번째").toProblemDetail();
+
+        // Then
+        assertThat(second.getDetail()).isEqualTo("두 번째");
+        assertThat(second.getProperties()).doesNotContainKey("extra");
+    }
+}
@@ -0,0 +1,46 @@
+package friendy.community.global.exception;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    @Test
+    @DisplayName("오류 응답을 ErrorCode 별 카운터로 집계한다")
+    void countsErrorsPerErrorCode() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+        handler.bindTo(registry);
+
+        // When
+        handler.handleFriendyException(new FriendyException(ErrorCode.UNAUTHORIZED_PASSWORD, "로그인에 실패하였습니다."));
+        handler.handleFriendyException(new FriendyException(ErrorCode.UNAUTHORIZED_PASSWORD, "로그인에 실패하였습니다."));
+        handler.handleRateLimitExceededException(new RateLimitExceededException(1000));
+
+        // Then
+        assertThat(registry.get("friendy.errors").tag("error", "UNAUTHORIZED_PASSWORD").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("friendy.errors").tag("code", "1401").tag("status", "429").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("friendy.errors").tag("error", "RESOURCE_NOT_FOUND").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("레지스트리에 묶이기 전에도 오류 응답을 만든다")
+    void handlesExceptionWithoutRegistry() {
+        // Given
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+        // When
+        ResponseEntity<ProblemDetail> response = handler.handleFriendyException(
+                new FriendyException(ErrorCode.DUPLICATE_EMAIL, "이미 가입된 이메일입니다."));
+
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(409);
+        assertThat(response.getBody().getProperties()).containsEntry("errorCode", 1202);
+    }
+}
@@ -0,0 +1,167 @@
+package friendy.community.global.mail;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PooledJavaMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    private PooledJavaMailSender mailSender;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = mailSender(Duration.ofMinutes(1), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailSender.close();
+    }
+
+    private PooledJavaMailSender mailSender(Duration idleTimeout, int maxMessagesPerConnection) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(2, idleTimeout, Duration.ofSeconds(5), maxMessagesPerConnection);
+        sender.setHost("localhost");
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+        return sender;
+    }
+
+    private SimpleMailMessage message(int index) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@friendy.com");
+        message.setTo("member" + index + "@friendy.com");
+        message.setSubject("인증 코드");
+        message.setText("123456");
+        return message;
+    }
+
+    @Test
+    @DisplayName("연속으로 보내는 메일은 하나의 SMTP 연결을 재사용한다")
+    void sequentialSendsReuseOneConnection() {
+        // When
+        for (int i = 0; i < 10; i++) {
+            mailSender.send(message(i));
+        }
+
+        // Then
+        PooledMailTransportStats stats = mailSender.stats();
+        assertThat(greenMail.getReceivedMessages()).hasSize(10);
+        assertThat(stats.connectionsOpened()).isEqualTo(1);
+        assertThat(stats.messagesSentOnReusedConnection()).isEqualTo(9);
+        assertThat(stats.reuseRatio()).isEqualTo(0.9);
+    }
+
+    @Test
+    @DisplayName("동시에 보내도 최대 연결 수를 넘지 않는다")
+    void concurrentSendsAreBoundedByPoolSize() throws InterruptedException {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 40; i++) {
+            int index = i;
+            executor.submit(() -> mailSender.send(message(index)));
+        }
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(greenMail.getReceivedMessages()).hasSize(40);
+        assertThat(mailSender.stats().connectionsOpened()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("연결 수보다 많은 스레드가 보내도 유휴 연결을 넘겨받아 모두 보낸다")
+    void waitersReceiveIdleConnectionsWhenPoolIsFull() throws Exception {
+        // Given
+        mailSender.close();
+        mailSender = new PooledJavaMailSender(2, Duration.ofMinutes(1), Duration.ofSeconds(2), 100);
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> sends = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 80; i++) {
+            int index = i;
+            sends.add(executor.submit(() -> mailSender.send(message(index))));
+        }
+        for (Future<?> send : sends) {
+            send.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(greenMail.getReceivedMessages()).hasSize(80);
+        assertThat(mailSender.stats().failedSends()).isZero();
+        assertThat(mailSender.stats().connectionsOpened()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("서버가 연결을 끊으면 새 연결로 다시 보낸다")
+    void brokenConnectionIsReplaced() {
+        // Given
+        mailSender.send(message(0));
+        greenMail.reset();
+
+        // When
+        mailSender.send(message(1));
+
+        // Then
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(mailSender.stats().connectionsOpened()).isEqualTo(2);
+        assertThat(mailSender.stats().failedSends()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 연결로 보낼 수 있는 메일 수를 넘기면 연결을 교체한다")
+    void connectionIsRecycledAfterMessageLimit() {
+        // Given
+        mailSender.close();
+        mailSender = mailSender(Duration.ofMinutes(1), 3);
+
+        // When
+        for (int i = 0; i < 6; i++) {
+            mailSender.send(message(i));
+        }
+
+        // Then
+        assertThat(mailSender.stats().connectionsOpened()).isEqualTo(2);
+        assertThat(mailSender.stats().connectionsClosed()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 지난 연결은 정리된다")
+    void idleConnectionsAreEvicted() {
+        // Given
+        mailSender.close();
+        mailSender = mailSender(Duration.ZERO, 100);
+        mailSender.send(message(0));
+
+        // When
+        mailSender.evictIdleConnections();
+
+        // Then
+        assertThat(mailSender.stats().idleConnections()).isZero();
+        assertThat(mailSender.stats().connectionsClosed()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,104 @@
+package friendy.community.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HandlerMetricsInterceptorTest {
+
+    private SimpleMeterRegistry registry;
+    private HandlerMetricsInterceptor interceptor;
+    private HandlerMethod handlerMethod;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        registry = new SimpleMeterRegistry();
+        interceptor = new HandlerMetricsInterceptor(registry, 2);
+        handlerMethod = new HandlerMethod(new SampleController(), SampleController.class.getMethod("hello"));
+    }
+
+    private void handle(int statements) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, handlerMethod);
+        for (int i = 0; i < statements; i++) {
+            RequestStats.current().statementStarted();
+            RequestStats.current().statementFinished();
+        }
+        interceptor.afterCompletion(request, response, handlerMethod, null);
+    }
+
+    @Test
+    @DisplayName("컨트롤러 메서드별로 응답 시간과 쿼리 수를 기록한다")
+    void recordsLatencyAndQueryCountPerHandler() {
+        // When
+        handle(3);
+        handle(1);
+
+        // Then
+        Timer latency = registry.get("friendy.http.handler")
+                .tag("controller", "SampleController")
+                .tag("method", "hello")
+                .timer();
+        DistributionSummary queries = registry.get("friendy.jpa.queries.per.request")
+                .tag("method", "hello")
+                .summary();
+        assertThat(latency.count()).isEqualTo(2);
+        assertThat(queries.count()).isEqualTo(2);
+        assertThat(queries.totalAmount()).isEqualTo(4);
+        assertThat(queries.max()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 실행된 쿼리는 다음 요청에 섞이지 않는다")
+    void statementsOutsideRequestAreNotCounted() {
+        // Given
+        RequestStats.current().statementStarted();
+        RequestStats.current().statementFinished();
+
+        // When
+        handle(0);
+
+        // Then
+        assertThat(registry.get("friendy.jpa.queries.per.request").summary().totalAmount()).isZero();
+    }
+
+    @Test
+    @DisplayName("컨트롤러가 아닌 핸들러는 기록하지 않는다")
+    void ignoresNonHandlerMethods() {
+        // When
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Then
+        assertThat(registry.find("friendy.http.handler").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("쿼리 예산을 넘긴 요청 수를 센다")
+    void countsRequestsOverQueryBudget() {
+        // When
+        handle(2);
+        handle(3);
+
+        // Then
+        assertThat(registry.get("friendy.jpa.query.budget.exceeded").counter().count()).isEqualTo(1);
+    }
+
+    static class SampleController {
+
+        public String hello() {
+            return "hello";
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package friendy.community.global.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 테스트 본문(@BeforeEach 제외)이 실행하는 JDBC 문장 수가 value 를 넘으면 실패시킨다.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface MaxQueries {
+
+    int value();
+}
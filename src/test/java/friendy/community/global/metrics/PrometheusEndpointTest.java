@@ -0,0 +1,45 @@
+package friendy.community.global.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DirtiesContext
+class PrometheusEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    @DisplayName("처리한 요청의 응답 시간과 쿼리 수를 Prometheus 형식으로 노출한다")
+    void exposesHandlerMetricsInPrometheusFormat() throws Exception {
+        // Given
+        mockMvc.perform(get("/members/nickname/availability").param("nickname", "metrics"))
+                .andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("friendy_http_handler_seconds_count{controller=\"MemberController\",method=\"checkNicknameAvailability\"")))
+                .andExpect(content().string(containsString("friendy_jpa_queries_per_request_count")))
+                .andExpect(content().string(containsString("cache_gets_total{cache=\"member-by-email\"")));
+    }
+}
@@ -0,0 +1,32 @@
+package friendy.community.global.metrics;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+    private static final String START_COUNT = "startCount";
+
+    @Override
+    public void beforeTestExecution(final ExtensionContext context) {
+        context.getStore(NAMESPACE).put(START_COUNT, RequestStats.current().totalStatementCount());
+    }
+
+    @Override
+    public void afterTestExecution(final ExtensionContext context) {
+        final MaxQueries maxQueries = context.getRequiredTestMethod().getAnnotation(MaxQueries.class);
+        if (maxQueries == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+        final long startCount = context.getStore(NAMESPACE).remove(START_COUNT, Long.class);
+        final int executed = (int) (RequestStats.current().totalStatementCount() - startCount);
+        if (executed > maxQueries.value()) {
+            throw new AssertionFailedError(String.format("쿼리 예산 초과: %d개 허용, %d개 실행%n%s",
+                    maxQueries.value(), executed, String.join(System.lineSeparator(), RequestStats.current().recentStatements(executed))),
+                    maxQueries.value(), executed);
+        }
+    }
+}
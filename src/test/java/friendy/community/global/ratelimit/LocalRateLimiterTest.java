@@ -0,0 +1,110 @@
+package friendy.community.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimiterTest {
+
+    private final LocalRateLimiter rateLimiter = new LocalRateLimiter(1_000, Duration.ofHours(1));
+
+    private RateLimitRule rule(RateLimitAlgorithm algorithm, int limit) {
+        return new RateLimitRule("test", RateLimitKey.IP, algorithm, limit, 60_000L);
+    }
+
+    @Test
+    @DisplayName("토큰 버킷은 허용 횟수만큼 통과시킨 뒤 재시도 시간을 알려주며 거절한다")
+    void tokenBucketRejectsAfterLimit() {
+        // Given
+        RateLimitRule rule = rule(RateLimitAlgorithm.TOKEN_BUCKET, 3);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("ip:127.0.0.1", rule).allowed()).isTrue();
+        }
+        RateLimitDecision rejected = rateLimiter.tryAcquire("ip:127.0.0.1", rule);
+
+        // Then
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterInMs()).isPositive().isLessThanOrEqualTo(20_000L);
+    }
+
+    @Test
+    @DisplayName("슬라이딩 윈도우는 허용 횟수를 넘는 요청을 거절한다")
+    void slidingWindowRejectsAfterLimit() {
+        // Given
+        RateLimitRule rule = rule(RateLimitAlgorithm.SLIDING_WINDOW, 2);
+
+        // When
+        boolean first = rateLimiter.tryAcquire("email:a@friendy.com", rule).allowed();
+        boolean second = rateLimiter.tryAcquire("email:a@friendy.com", rule).allowed();
+        RateLimitDecision third = rateLimiter.tryAcquire("email:a@friendy.com", rule);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third.allowed()).isFalse();
+        assertThat(third.retryAfterInMs()).isPositive();
+    }
+
+    @Test
+    @DisplayName("여러 버킷 중 하나가 거절하면 다른 버킷의 한도도 차감하지 않는다")
+    void rejectionDoesNotConsumeOtherBuckets() {
+        // Given
+        RateLimitBucket ip = new RateLimitBucket("ip:127.0.0.1", rule(RateLimitAlgorithm.SLIDING_WINDOW, 2));
+        RateLimitBucket email = new RateLimitBucket("email:a@friendy.com", rule(RateLimitAlgorithm.TOKEN_BUCKET, 1));
+        rateLimiter.tryAcquireAll(List.of(ip, email));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquireAll(List.of(ip, email)).allowed()).isFalse();
+        }
+
+        // Then
+        assertThat(rateLimiter.tryAcquire(ip.key(), ip.rule()).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire(ip.key(), ip.rule()).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("식별자가 다르면 따로 집계한다")
+    void keysAreCountedSeparately() {
+        // Given
+        RateLimitRule rule = rule(RateLimitAlgorithm.TOKEN_BUCKET, 1);
+
+        // When & Then
+        assertThat(rateLimiter.tryAcquire("ip:10.0.0.1", rule).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("ip:10.0.0.2", rule).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("ip:10.0.0.1", rule).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시에 요청이 몰려도 허용 횟수보다 많이 통과시키지 않는다")
+    void concurrentRequestsNeverExceedLimit() throws InterruptedException {
+        // Given
+        RateLimitRule rule = rule(RateLimitAlgorithm.SLIDING_WINDOW, 50);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            executor.submit(() -> {
+                if (rateLimiter.tryAcquire("ip:127.0.0.1", rule).allowed()) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(allowed.get()).isLessThanOrEqualTo(50);
+    }
+}
@@ -0,0 +1,102 @@
+package friendy.community.global.ratelimit;
+
+import friendy.community.global.exception.RateLimitExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitAspectTest {
+
+    private LimitedEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("127.0.0.1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        RateLimitKeyResolver keyResolver = new RateLimitKeyResolver(httpServletRequest -> Optional.empty());
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new LimitedEndpoint());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new RateLimitAspect(new LocalRateLimiter(1_000, Duration.ofHours(1)), keyResolver));
+        endpoint = proxyFactory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("이메일 단위 제한을 넘으면 429 예외를 던지고 메서드를 실행하지 않는다")
+    void rejectsWhenEmailLimitExceeded() {
+        // Given
+        endpoint.send(new TestEmailRequest("example@friendy.com"));
+        endpoint.send(new TestEmailRequest("EXAMPLE@friendy.com"));
+
+        // When & Then
+        assertThatThrownBy(() -> endpoint.send(new TestEmailRequest("example@friendy.com")))
+                .isInstanceOf(RateLimitExceededException.class)
+                .hasMessageContaining("요청 횟수를 초과했습니다.");
+        assertThat(endpoint.invocations).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 이메일은 IP 제한에 걸리기 전까지 통과한다")
+    void otherEmailsShareOnlyIpLimit() {
+        // When
+        for (int i = 0; i < 5; i++) {
+            endpoint.send(new TestEmailRequest("member" + i + "@friendy.com"));
+        }
+
+        // Then
+        assertThatThrownBy(() -> endpoint.send(new TestEmailRequest("another@friendy.com")))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(endpoint.invocations).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("이메일 제한으로 거절된 요청은 IP 한도를 깎지 않는다")
+    void rejectedRequestDoesNotConsumeIpLimit() {
+        // Given
+        endpoint.send(new TestEmailRequest("example@friendy.com"));
+        endpoint.send(new TestEmailRequest("example@friendy.com"));
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> endpoint.send(new TestEmailRequest("example@friendy.com")))
+                    .isInstanceOf(RateLimitExceededException.class);
+        }
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            endpoint.send(new TestEmailRequest("member" + i + "@friendy.com"));
+        }
+
+        // Then
+        assertThat(endpoint.invocations).isEqualTo(5);
+    }
+
+    record TestEmailRequest(String email) implements EmailIdentifiable {
+    }
+
+    static class LimitedEndpoint {
+
+        private int invocations = 0;
+
+        @RateLimit(name = "test-ip", key = RateLimitKey.IP, algorithm = RateLimitAlgorithm.SLIDING_WINDOW, limit = 5, window = 60)
+        @RateLimit(name = "test-email", key = RateLimitKey.EMAIL, limit = 2, window = 60)
+        public void send(TestEmailRequest request) {
+            invocations++;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package friendy.community.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RedisRateLimiterTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RedisRateLimiter rateLimiter = new RedisRateLimiter(redisTemplate);
+
+    private RateLimitBucket bucket(String name, String identifier) {
+        return new RateLimitBucket(name + ":" + identifier,
+                new RateLimitRule(name, RateLimitKey.IP, RateLimitAlgorithm.TOKEN_BUCKET, 5, 60_000L));
+    }
+
+    @Test
+    @DisplayName("버킷이 여럿이면 모든 키가 첫 규칙 이름을 해시 태그로 공유한다")
+    void multipleBucketsShareHashTag() {
+        // Given
+        List<RateLimitBucket> buckets = List.of(bucket("login-ip", "127.0.0.1"), bucket("login-email", "a@friendy.com"));
+
+        // When
+        List<String> keys = buckets.stream().map(bucket -> RedisRateLimiter.keyOf(bucket, buckets)).toList();
+
+        // Then
+        assertThat(keys).containsExactly(
+                "rate-limit:{login-ip}login-ip:127.0.0.1",
+                "rate-limit:{login-ip}login-email:a@friendy.com"
+        );
+    }
+
+    @Test
+    @DisplayName("버킷이 하나면 식별자를 해시 태그로 써 슬롯을 고르게 나눈다")
+    void singleBucketUsesOwnHashTag() {
+        // Given
+        RateLimitBucket bucket = bucket("create-post", "1");
+
+        // When
+        String key = RedisRateLimiter.keyOf(bucket, List.of(bucket));
+
+        // Then
+        assertThat(key).isEqualTo("rate-limit:{create-post:1}");
+    }
+
+    @Test
+    @DisplayName("Redis 에 연결하지 못하면 요청을 허용한다")
+    @SuppressWarnings("unchecked")
+    void connectionFailureAllowsRequest() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        RateLimitDecision decision = rateLimiter.tryAcquire("login-ip:127.0.0.1", bucket("login-ip", "127.0.0.1").rule());
+
+        // Then
+        assertThat(decision.allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("스크립트 오류는 허용하지 않고 그대로 던진다")
+    @SuppressWarnings("unchecked")
+    void scriptErrorIsNotSwallowed() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisSystemException("CROSSSLOT", null));
+
+        // When & Then
+        assertThatThrownBy(() -> rateLimiter.tryAcquire("login-ip:127.0.0.1", bucket("login-ip", "127.0.0.1").rule()))
+                .isInstanceOf(RedisSystemException.class);
+    }
+}